@@ -0,0 +1,76 @@
+package com.victorrot.commons.benchmarks;
+
+import com.victorrot.commons.core.usecases.CrudUseCase;
+import com.victorrot.commons.core.usecases.memory.InMemoryCrudUseCase;
+import com.victorrot.commons.core.usecases.memory.LongKeyInMemoryCrudUseCase;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.ref.Reference;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+
+/**
+ * Compara la memoria retenida por los casos de uso en memoria con la de un
+ * {@code ConcurrentHashMap<Long, E>}.
+ *
+ * <p>Las entidades, con identificador {@code long}, se crean una sola vez y se
+ * comparten entre los almacenes, de modo que la medición corresponde solo a la
+ * estructura de cada almacén, incluido el empaquetado de las claves. Se ejecuta
+ * con:</p>
+ *
+ * <pre>
+ * mvn -B -Pjmh test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=com.victorrot.commons.benchmarks.InMemoryFootprint -Dexec.args=10000000
+ * </pre>
+ *
+ * <p>El argumento opcional es el número de entidades (1 000 000 por defecto); el
+ * montículo debe admitirlas, por ejemplo con {@code MAVEN_OPTS=-Xmx8g}.</p>
+ *
+ * @author Victor Manuel Rodriguez Ramirez
+ *
+ * @version 1.0.0 - Nueva comparación de memoria de almacenes en memoria
+ */
+public final class InMemoryFootprint {
+
+    record Row(long id, String name) {
+    }
+
+    private InMemoryFootprint() {
+    }
+
+    public static void main(String[] args) {
+        int size = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        Row[] rows = new Row[size];
+        for (int i = 0; i < size; i++) {
+            rows[i] = new Row(i, "row-" + i);
+        }
+        System.out.printf("%-28s %12s %14s%n", "almacén", "MiB", "bytes/entidad");
+        measure("ConcurrentHashMap<Long, E>", rows, ConcurrentHashMap<Long, Row>::new,
+                (map, row) -> map.put(row.id(), row));
+        measure("InMemoryCrudUseCase", rows, () -> new InMemoryCrudUseCase<Row, Long>(Row::id),
+                CrudUseCase::create);
+        measure("LongKeyInMemoryCrudUseCase", rows, () -> new LongKeyInMemoryCrudUseCase<Row>(Row::id),
+                CrudUseCase::create);
+    }
+
+    private static <S> void measure(String name, Row[] rows, Supplier<S> factory, BiConsumer<S, Row> insert) {
+        long before = usedHeap();
+        S store = factory.get();
+        for (Row row : rows) {
+            insert.accept(store, row);
+        }
+        long retained = usedHeap() - before;
+        System.out.printf("%-28s %12.1f %14.1f%n", name, retained / 1048576.0, (double) retained / rows.length);
+        Reference.reachabilityFence(store);
+    }
+
+    private static long usedHeap() {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        for (int i = 0; i < 5; i++) {
+            System.gc();
+        }
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+
+}
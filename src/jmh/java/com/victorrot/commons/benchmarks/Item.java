@@ -0,0 +1,13 @@
+package com.victorrot.commons.benchmarks;
+
+/**
+ * Entidad utilizada por los benchmarks de los casos de uso.
+ *
+ * @author Victor Manuel Rodriguez Ramirez
+ * @param id   el identificador de la entidad.
+ * @param name el nombre de la entidad.
+ *
+ * @version 1.0.0 - Nueva entidad de benchmarks
+ */
+public record Item(Long id, String name) {
+}
@@ -0,0 +1,73 @@
+package com.victorrot.commons.benchmarks;
+
+import com.victorrot.commons.core.usecases.CrudUseCase;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * {@link CrudUseCase} en memoria sobre un {@link ConcurrentHashMap}, utilizado como
+ * caso de uso base de los benchmarks para que la medición refleje solo el costo de
+ * los decoradores.
+ *
+ * @author Victor Manuel Rodriguez Ramirez
+ *
+ * @version 1.0.0 - Nuevo caso de uso en memoria para benchmarks
+ */
+public class MapCrudUseCase implements CrudUseCase<Item, Long> {
+
+    private final ConcurrentHashMap<Long, Item> items = new ConcurrentHashMap<>();
+
+    @Override
+    public Optional<Item> findById(Long id) {
+        return Optional.ofNullable(items.get(id));
+    }
+
+    @Override
+    public boolean existsById(Long id) {
+        return items.containsKey(id);
+    }
+
+    @Override
+    public List<Item> findAll() {
+        return new ArrayList<>(items.values());
+    }
+
+    @Override
+    public Page<Item> findAll(Pageable pageable) {
+        List<Item> all = findAll();
+        int from = (int) Math.min(pageable.getOffset(), all.size());
+        int to = Math.min(from + pageable.getPageSize(), all.size());
+        return new PageImpl<>(all.subList(from, to), pageable, all.size());
+    }
+
+    @Override
+    public Item create(Item entity) {
+        items.put(entity.id(), entity);
+        return entity;
+    }
+
+    @Override
+    public List<Item> createAll(Iterable<Item> entities) {
+        List<Item> created = new ArrayList<>();
+        for (Item entity : entities) {
+            created.add(create(entity));
+        }
+        return created;
+    }
+
+    @Override
+    public void delete(Long id) {
+        items.remove(id);
+    }
+
+    @Override
+    public void deleteAll(Iterable<Long> ids) {
+        ids.forEach(items::remove);
+    }
+
+}
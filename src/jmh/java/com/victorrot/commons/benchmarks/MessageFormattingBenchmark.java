@@ -0,0 +1,82 @@
+package com.victorrot.commons.benchmarks;
+
+import com.victorrot.commons.exceptions.ServiceException;
+import com.victorrot.commons.exceptions.StacklessServiceException;
+import com.victorrot.commons.exceptions.TypeException;
+import java.text.MessageFormat;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compara el formateo de mensajes de {@link ServiceException} con el formateo
+ * anterior basado en {@code substring} y {@link MessageFormat}.
+ *
+ * <p>Todas las variantes crean una {@link StacklessServiceException} para que el
+ * costo de la traza de la pila no oculte el del formateo. {@code legacy...} formatea
+ * el mensaje con una copia del algoritmo anterior antes de crear la excepción;
+ * {@code singlePass...} deja el formateo a la excepción. Los métodos
+ * {@code ...NotRead} no consultan el mensaje. La memoria asignada por operación se
+ * obtiene del perfilador {@code gc} ({@code gc.alloc.rate.norm}).</p>
+ *
+ * @author Victor Manuel Rodriguez Ramirez
+ *
+ * @version 1.0.0 - Nuevo benchmark de formateo de mensajes
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Dlogback.configurationFile=logback-benchmark.xml")
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class MessageFormattingBenchmark {
+
+    private static final String TEMPLATE = "Error al consultar la entidad {} de la tabla {}";
+
+    private long id = 42L;
+
+    @Benchmark
+    public String legacyRead() {
+        return new StacklessServiceException(TypeException.DATABASE, null,
+                legacyFormat(TEMPLATE, id++, "items")).getMessage();
+    }
+
+    @Benchmark
+    public String singlePassRead() {
+        return new StacklessServiceException(TypeException.DATABASE, null, TEMPLATE, id++, "items").getMessage();
+    }
+
+    @Benchmark
+    public ServiceException legacyNotRead() {
+        return new StacklessServiceException(TypeException.DATABASE, null, legacyFormat(TEMPLATE, id++, "items"));
+    }
+
+    @Benchmark
+    public ServiceException singlePassNotRead() {
+        return new StacklessServiceException(TypeException.DATABASE, null, TEMPLATE, id++, "items");
+    }
+
+    /**
+     * Copia del formateo utilizado por {@link ServiceException} hasta la versión 1.0.0.
+     */
+    private static String legacyFormat(String text, Object... params) {
+        StringBuilder formattedText = new StringBuilder();
+        int paramIndex = 0, lastIndex = 0;
+        while ((lastIndex = text.indexOf("{}", lastIndex)) != -1 && paramIndex < params.length) {
+            formattedText.append(text, 0, lastIndex)
+                    .append("{").append(paramIndex++).append("}");
+            text = text.substring(lastIndex + 2);
+            lastIndex = 0;
+        }
+        formattedText.append(text);
+        return MessageFormat.format(formattedText.toString(), params);
+    }
+
+}
@@ -0,0 +1,63 @@
+package com.victorrot.commons.benchmarks;
+
+import com.victorrot.commons.exceptions.ServiceException;
+import com.victorrot.commons.exceptions.TypeException;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Mide la construcción de {@link ServiceException} y el formateo de su mensaje.
+ *
+ * <p>{@code plainMessage} y {@code formattedMessage} devuelven la excepción, de modo
+ * que solo miden el trabajo realizado por el constructor; los métodos
+ * {@code ...GetMessage} consumen además el mensaje, con lo que miden el formateo
+ * aunque este se difiera hasta {@link ServiceException#getMessage()}.</p>
+ *
+ * @author Victor Manuel Rodriguez Ramirez
+ *
+ * @version 1.0.0 - Nuevo benchmark de excepciones
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Dlogback.configurationFile=logback-benchmark.xml")
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ServiceExceptionBenchmark {
+
+    private final SQLException cause = new SQLException("Connection refused", "08001");
+
+    private long id = 42L;
+
+    @Benchmark
+    public ServiceException plainMessage() {
+        return new ServiceException(TypeException.DATABASE, cause, "Error al consultar la entidad");
+    }
+
+    @Benchmark
+    public ServiceException formattedMessage() {
+        return new ServiceException(TypeException.DATABASE, cause,
+                "Error al consultar la entidad {} de la tabla {}", id++, "items");
+    }
+
+    @Benchmark
+    public String plainGetMessage() {
+        return new ServiceException(TypeException.DATABASE, cause, "Error al consultar la entidad").getMessage();
+    }
+
+    @Benchmark
+    public String formattedGetMessage() {
+        return new ServiceException(TypeException.DATABASE, cause,
+                "Error al consultar la entidad {} de la tabla {}", id++, "items").getMessage();
+    }
+
+}
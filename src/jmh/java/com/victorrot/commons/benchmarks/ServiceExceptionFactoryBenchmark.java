@@ -0,0 +1,74 @@
+package com.victorrot.commons.benchmarks;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import com.victorrot.commons.exceptions.ServiceException;
+import com.victorrot.commons.exceptions.ServiceExceptionFactory;
+import com.victorrot.commons.exceptions.TypeException;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Mide la creación de excepciones mediante {@link ServiceExceptionFactory},
+ * incluido el registro en el log.
+ *
+ * <p>Con {@code level=ERROR} el log se escribe en {@code target/benchmark.log}
+ * (configurado en {@code logback-benchmark.xml}), de modo que se mide el costo real
+ * de la codificación y la escritura; con {@code level=OFF} se mide solo la creación.
+ * Con {@code stackless=true} todos los tipos se crean sin traza de la pila.</p>
+ *
+ * @author Victor Manuel Rodriguez Ramirez
+ *
+ * @version 1.0.0 - Nuevo benchmark de la fábrica de excepciones
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Dlogback.configurationFile=logback-benchmark.xml")
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ServiceExceptionFactoryBenchmark {
+
+    @Param({"ERROR", "OFF"})
+    private String level;
+
+    @Param({"false", "true"})
+    private boolean stackless;
+
+    private final SQLException cause = new SQLException("Connection refused", "08001");
+
+    private long id = 42L;
+
+    @Setup
+    public void setUp() {
+        ((Logger) LoggerFactory.getLogger(ServiceExceptionFactory.class)).setLevel(Level.toLevel(level));
+        if (stackless) {
+            ServiceExceptionFactory.setStacklessTypes(TypeException.values());
+        } else {
+            ServiceExceptionFactory.setStacklessTypes();
+        }
+    }
+
+    @Benchmark
+    public ServiceException validation() {
+        return ServiceExceptionFactory.validation("El nombre no puede estar vacío");
+    }
+
+    @Benchmark
+    public ServiceException databaseWithParams() {
+        return ServiceExceptionFactory.database(cause, "Error al consultar la entidad {} de la tabla {}", id++, "items");
+    }
+
+}
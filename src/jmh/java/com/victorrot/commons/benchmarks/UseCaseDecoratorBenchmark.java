@@ -0,0 +1,144 @@
+package com.victorrot.commons.benchmarks;
+
+import com.victorrot.commons.core.usecases.CrudUseCase;
+import com.victorrot.commons.core.usecases.bloom.BloomFilterCrudUseCase;
+import com.victorrot.commons.core.usecases.bloom.BloomFilterSettings;
+import com.victorrot.commons.core.usecases.cache.CacheSettings;
+import com.victorrot.commons.core.usecases.cache.CachingCrudUseCase;
+import com.victorrot.commons.core.usecases.metrics.InMemoryUseCaseMetrics;
+import com.victorrot.commons.core.usecases.metrics.InstrumentedCrudUseCase;
+import com.victorrot.commons.core.usecases.metrics.InstrumentedUseCases;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Mide el costo de los decoradores de casos de uso frente a un {@link CrudUseCase}
+ * en memoria sin decorar.
+ *
+ * <p>Todas las variantes operan sobre el mismo conjunto de {@value #SIZE}
+ * entidades, recorrido de forma cíclica, de modo que la diferencia con
+ * {@code baseline...} corresponde al decorador.</p>
+ *
+ * @author Victor Manuel Rodriguez Ramirez
+ *
+ * @version 1.0.0 - Nuevo benchmark de decoradores
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Dlogback.configurationFile=logback-benchmark.xml")
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class UseCaseDecoratorBenchmark {
+
+    static final int SIZE = 10_000;
+
+    @State(Scope.Benchmark)
+    public static class UseCases {
+
+        CrudUseCase<Item, Long> baseline;
+
+        CrudUseCase<Item, Long> caching;
+
+        CrudUseCase<Item, Long> instrumented;
+
+        CrudUseCase<Item, Long> proxyInstrumented;
+
+        BloomFilterCrudUseCase<Item, Long> bloom;
+
+        @Setup
+        @SuppressWarnings("unchecked")
+        public void setUp() {
+            baseline = new MapCrudUseCase();
+            for (long id = 0; id < SIZE; id++) {
+                baseline.create(new Item(id, "item-" + id));
+            }
+            caching = new CachingCrudUseCase<>(baseline, Item::id, CacheSettings.of(SIZE, Duration.ofMinutes(10)));
+            InMemoryUseCaseMetrics metrics = new InMemoryUseCaseMetrics();
+            instrumented = new InstrumentedCrudUseCase<>(baseline, "items", metrics);
+            proxyInstrumented = InstrumentedUseCases.instrument(CrudUseCase.class, baseline, "items-proxy", metrics);
+            bloom = new BloomFilterCrudUseCase<>(baseline, Item::id,
+                    () -> LongStream.range(0, SIZE).boxed(), BloomFilterSettings.of(SIZE, 0.01));
+            bloom.rebuild();
+        }
+
+    }
+
+    @State(Scope.Thread)
+    public static class Ids {
+
+        private long next;
+
+        Long next() {
+            long id = next;
+            next = (id + 1) % SIZE;
+            return id;
+        }
+
+    }
+
+    @Benchmark
+    public Optional<Item> baselineFindById(UseCases useCases, Ids ids) {
+        return useCases.baseline.findById(ids.next());
+    }
+
+    @Benchmark
+    public Optional<Item> cachingFindById(UseCases useCases, Ids ids) {
+        return useCases.caching.findById(ids.next());
+    }
+
+    @Benchmark
+    public Optional<Item> instrumentedFindById(UseCases useCases, Ids ids) {
+        return useCases.instrumented.findById(ids.next());
+    }
+
+    @Benchmark
+    public Optional<Item> proxyInstrumentedFindById(UseCases useCases, Ids ids) {
+        return useCases.proxyInstrumented.findById(ids.next());
+    }
+
+    @Benchmark
+    public boolean baselineExistsByIdMiss(UseCases useCases, Ids ids) {
+        return useCases.baseline.existsById(-ids.next() - 1);
+    }
+
+    @Benchmark
+    public boolean bloomExistsByIdMiss(UseCases useCases, Ids ids) {
+        return useCases.bloom.existsById(-ids.next() - 1);
+    }
+
+    @Benchmark
+    public boolean bloomExistsByIdHit(UseCases useCases, Ids ids) {
+        return useCases.bloom.existsById(ids.next());
+    }
+
+    @Benchmark
+    public Item baselineCreate(UseCases useCases, Ids ids) {
+        Long id = ids.next();
+        return useCases.baseline.create(new Item(id, "item-" + id));
+    }
+
+    @Benchmark
+    public Item cachingCreate(UseCases useCases, Ids ids) {
+        Long id = ids.next();
+        return useCases.caching.create(new Item(id, "item-" + id));
+    }
+
+    @Benchmark
+    public Item instrumentedCreate(UseCases useCases, Ids ids) {
+        Long id = ids.next();
+        return useCases.instrumented.create(new Item(id, "item-" + id));
+    }
+
+}
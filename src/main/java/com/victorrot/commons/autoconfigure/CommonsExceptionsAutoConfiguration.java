@@ -0,0 +1,68 @@
+package com.victorrot.commons.autoconfigure;
+
+import com.victorrot.commons.exceptions.ServiceExceptionFactory;
+import com.victorrot.commons.exceptions.ServiceExceptionMeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Autoconfiguración que aplica las {@link CommonsExceptionsProperties} a
+ * {@link ServiceExceptionFactory} al iniciar el contexto.
+ *
+ * <p>Si Micrometer está en el classpath, registra además un
+ * {@link ServiceExceptionMeterBinder} con las estadísticas de la fábrica.</p>
+ *
+ * <p>La configuración de la fábrica es global a la JVM; si varios contextos la
+ * configuran, prevalece el último en iniciarse.</p>
+ *
+ * @author Victor Manuel Rodriguez Ramirez
+ *
+ * @see CommonsExceptionsProperties
+ * @version 1.0.0 - Nueva autoconfiguración de excepciones
+ */
+@Slf4j
+@AutoConfiguration
+@EnableConfigurationProperties(CommonsExceptionsProperties.class)
+public class CommonsExceptionsAutoConfiguration implements InitializingBean {
+
+    private final CommonsExceptionsProperties properties;
+
+    /**
+     * Crea la autoconfiguración.
+     *
+     * @param properties las propiedades de las excepciones.
+     */
+    public CommonsExceptionsAutoConfiguration(CommonsExceptionsProperties properties) {
+        this.properties = properties;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        ServiceExceptionFactory.setStacklessTypes(properties.getStacklessTypes());
+        ServiceExceptionFactory.setLogPolicy(properties.getLogging().toPolicy());
+        log.debug("Excepciones configuradas: tipos sin traza {}, registro {}",
+                properties.getStacklessTypes(), ServiceExceptionFactory.getLogPolicy());
+    }
+
+    /**
+     * Publicación de las estadísticas de excepciones en Micrometer.
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(name = "io.micrometer.core.instrument.binder.MeterBinder")
+    static class MetricsConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean
+        ServiceExceptionMeterBinder serviceExceptionMeterBinder() {
+            return new ServiceExceptionMeterBinder();
+        }
+
+    }
+
+}
@@ -0,0 +1,69 @@
+package com.victorrot.commons.autoconfigure;
+
+import com.victorrot.commons.exceptions.ServiceExceptionFactory;
+import com.victorrot.commons.exceptions.ServiceExceptionLogMode;
+import com.victorrot.commons.exceptions.ServiceExceptionLogPolicy;
+import com.victorrot.commons.exceptions.TypeException;
+import java.time.Duration;
+import java.util.EnumSet;
+import java.util.Set;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Propiedades {@code commons.exceptions.*} que configuran {@link ServiceExceptionFactory}.
+ *
+ * <pre>
+ * commons.exceptions.stackless-types=VALIDATION
+ * commons.exceptions.logging.mode=structured
+ * commons.exceptions.logging.window=10s
+ * commons.exceptions.logging.max-per-window=5
+ * </pre>
+ *
+ * @author Victor Manuel Rodriguez Ramirez
+ *
+ * @see CommonsExceptionsAutoConfiguration
+ * @version 1.0.0 - Nuevas propiedades de excepciones
+ */
+@Getter
+@Setter
+@ConfigurationProperties("commons.exceptions")
+public class CommonsExceptionsProperties {
+
+    /** Tipos de excepción que se crean sin traza de la pila. */
+    private Set<TypeException> stacklessTypes = EnumSet.noneOf(TypeException.class);
+
+    /** Registro en el log de las excepciones creadas. */
+    private final Logging logging = new Logging();
+
+    /**
+     * Propiedades {@code commons.exceptions.logging.*}.
+     *
+     * @see ServiceExceptionLogPolicy
+     */
+    @Getter
+    @Setter
+    public static class Logging {
+
+        /** Modo de registro: {@code legacy}, {@code structured} u {@code off}. */
+        private ServiceExceptionLogMode mode = ServiceExceptionLogMode.LEGACY;
+
+        /** Ventana en la que se limitan las excepciones repetidas. */
+        private Duration window = ServiceExceptionLogPolicy.DEFAULT_WINDOW;
+
+        /** Número máximo de eventos por tipo, plantilla y ventana. */
+        private int maxPerWindow = ServiceExceptionLogPolicy.DEFAULT_MAX_PER_WINDOW;
+
+        /**
+         * Crea la política de registro correspondiente a estas propiedades.
+         *
+         * @return la política de registro.
+         */
+        public ServiceExceptionLogPolicy toPolicy() {
+            return new ServiceExceptionLogPolicy(mode, window, maxPerWindow);
+        }
+
+    }
+
+}
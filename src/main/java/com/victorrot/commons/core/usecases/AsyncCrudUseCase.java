@@ -0,0 +1,31 @@
+package com.victorrot.commons.core.usecases;
+
+import com.victorrot.commons.core.usecases.delete.AsyncDeleteUseCase;
+import com.victorrot.commons.core.usecases.find.AsyncFindUseCase;
+import com.victorrot.commons.core.usecases.persist.AsyncPersistUseCase;
+
+/**
+ * Caso de uso genérico y asíncrono para operaciones CRUD sobre entidades.
+ *
+ * <p>Es la contraparte asíncrona de {@link CrudUseCase}. Esta interfaz combina:</p>
+ * <ul>
+ *   <li>Lectura individual y en lote desde {@link AsyncFindUseCase}</li>
+ *   <li>Persistencia individual y en lote desde {@link AsyncPersistUseCase}</li>
+ *   <li>Eliminación individual y en lote desde {@link AsyncDeleteUseCase}</li>
+ * </ul>
+ * 
+ * @author Victor Manuel Rodriguez Ramirez
+ * @param <E>  el tipo de la entidad gestionada
+ * @param <ID> el tipo del identificador único de la entidad
+ *
+ * @see CrudUseCase
+ * @see AsyncFindUseCase
+ * @see AsyncPersistUseCase
+ * @see AsyncDeleteUseCase
+ */
+public interface AsyncCrudUseCase<E, ID>
+        extends AsyncFindUseCase<E, ID>,
+                AsyncPersistUseCase<E, ID>,
+                AsyncDeleteUseCase<ID> {
+    
+}
@@ -0,0 +1,147 @@
+package com.victorrot.commons.core.usecases.async;
+
+import com.victorrot.commons.core.usecases.AsyncCrudUseCase;
+import com.victorrot.commons.core.usecases.CrudUseCase;
+import com.victorrot.commons.exceptions.ServiceException;
+import com.victorrot.commons.exceptions.ServiceExceptionFactory;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * Adaptador que expone cualquier {@link CrudUseCase} síncrono como un
+ * {@link AsyncCrudUseCase} ejecutado en hilos virtuales.
+ *
+ * <p>Cada operación se ejecuta en un hilo virtual propio, por lo que la espera
+ * de E/S del caso de uso decorado no ocupa hilos de plataforma. El número de
+ * operaciones que se ejecutan al mismo tiempo sobre el caso de uso decorado está
+ * limitado por {@code maxConcurrency}; las operaciones excedentes esperan en su
+ * hilo virtual hasta obtener un permiso.</p>
+ *
+ * <p>Los futuros devueltos se completan de forma excepcional con la
+ * {@link ServiceException} lanzada por el caso de uso decorado. La instancia debe
+ * cerrarse con {@link #close()}, que espera a que terminen las operaciones en curso.</p>
+ *
+ * @author Victor Manuel Rodriguez Ramirez
+ * @param <E>  el tipo de la entidad gestionada
+ * @param <ID> el tipo del identificador único de la entidad
+ *
+ * @see AsyncCrudUseCase
+ * @see ServiceException
+ * @version 1.0.0 - Nuevo adaptador asíncrono
+ */
+public class VirtualThreadCrudUseCase<E, ID> implements AsyncCrudUseCase<E, ID>, AutoCloseable {
+
+    private final CrudUseCase<E, ID> delegate;
+
+    private final Semaphore permits;
+
+    private final ExecutorService executor;
+
+    /**
+     * Crea un adaptador asíncrono sobre el caso de uso indicado.
+     *
+     * @param delegate       el caso de uso CRUD síncrono.
+     * @param maxConcurrency el número máximo de operaciones simultáneas sobre {@code delegate}.
+     * @throws IllegalArgumentException si {@code maxConcurrency} no es positivo.
+     */
+    public VirtualThreadCrudUseCase(CrudUseCase<E, ID> delegate, int maxConcurrency) {
+        if (maxConcurrency <= 0) {
+            throw new IllegalArgumentException("La concurrencia máxima debe ser positiva");
+        }
+        this.delegate = Objects.requireNonNull(delegate, "delegate");
+        this.permits = new Semaphore(maxConcurrency);
+        this.executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("crud-usecase-", 0).factory());
+    }
+
+    @Override
+    public CompletableFuture<Optional<E>> findById(ID id) {
+        requireArgument(id, "El identificador no puede ser nulo");
+        return submit(() -> delegate.findById(id));
+    }
+
+    @Override
+    public CompletableFuture<Boolean> existsById(ID id) {
+        requireArgument(id, "El identificador no puede ser nulo");
+        return submit(() -> delegate.existsById(id));
+    }
+
+    @Override
+    public CompletableFuture<List<E>> findAll() {
+        return submit(delegate::findAll);
+    }
+
+    @Override
+    public CompletableFuture<Page<E>> findAll(Pageable pageable) {
+        requireArgument(pageable, "La información de paginación no puede ser nula");
+        return submit(() -> delegate.findAll(pageable));
+    }
+
+    @Override
+    public CompletableFuture<E> create(E entity) {
+        requireArgument(entity, "La entidad no puede ser nula");
+        return submit(() -> delegate.create(entity));
+    }
+
+    @Override
+    public CompletableFuture<List<E>> createAll(Iterable<E> entities) {
+        requireArgument(entities, "Las entidades no pueden ser nulas");
+        return submit(() -> delegate.createAll(entities));
+    }
+
+    @Override
+    public CompletableFuture<Void> delete(ID id) {
+        requireArgument(id, "El identificador no puede ser nulo");
+        return submit(() -> {
+            delegate.delete(id);
+            return null;
+        });
+    }
+
+    @Override
+    public CompletableFuture<Void> deleteAll(Iterable<ID> ids) {
+        requireArgument(ids, "Los identificadores no pueden ser nulos");
+        return submit(() -> {
+            delegate.deleteAll(ids);
+            return null;
+        });
+    }
+
+    /**
+     * Deja de aceptar operaciones y espera a que terminen las que están en curso.
+     */
+    @Override
+    public void close() {
+        executor.close();
+    }
+
+    private <T> CompletableFuture<T> submit(Supplier<T> operation) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                permits.acquire();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw ServiceExceptionFactory.service(ex, "La operación fue interrumpida mientras esperaba un permiso");
+            }
+            try {
+                return operation.get();
+            } finally {
+                permits.release();
+            }
+        }, executor);
+    }
+
+    private static void requireArgument(Object argument, String message) {
+        if (argument == null) {
+            throw new IllegalArgumentException(message);
+        }
+    }
+
+}
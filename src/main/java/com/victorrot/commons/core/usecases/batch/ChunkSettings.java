@@ -0,0 +1,25 @@
+package com.victorrot.commons.core.usecases.batch;
+
+/**
+ * Configuración de la persistencia en lote dividida en bloques.
+ *
+ * @author Victor Manuel Rodriguez Ramirez
+ * @param chunkSize el número de entidades de cada bloque.
+ * @param pipelined indica si el siguiente bloque se prepara en otro hilo mientras
+ *                  se escribe el bloque actual.
+ * @version 1.0.0 - Nueva configuración de bloques
+ */
+public record ChunkSettings(int chunkSize, boolean pipelined) {
+
+    /**
+     * Valida los parámetros de la configuración.
+     *
+     * @throws IllegalArgumentException si {@code chunkSize} no es positivo.
+     */
+    public ChunkSettings {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("El tamaño del bloque debe ser positivo");
+        }
+    }
+
+}
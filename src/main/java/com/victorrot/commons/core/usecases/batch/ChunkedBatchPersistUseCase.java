@@ -0,0 +1,187 @@
+package com.victorrot.commons.core.usecases.batch;
+
+import com.victorrot.commons.core.usecases.persist.BatchPersistReport;
+import com.victorrot.commons.core.usecases.persist.BatchPersistUseCase;
+import com.victorrot.commons.core.usecases.persist.ChunkResult;
+import com.victorrot.commons.core.usecases.persist.ChunkedPersistUseCase;
+import com.victorrot.commons.exceptions.ServiceException;
+import com.victorrot.commons.exceptions.ServiceExceptionFactory;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.UnaryOperator;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Motor de persistencia en lote que divide la entrada en bloques y escribe cada
+ * bloque mediante un {@link BatchPersistUseCase}.
+ *
+ * <p>Cada bloque se envía al caso de uso de escritura (por ejemplo,
+ * {@code JdbcBatchPersistUseCase}, que utiliza inserciones JDBC por lotes) y a
+ * continuación se ejecuta la acción {@code afterChunk}, pensada para vaciar y
+ * limpiar el contexto de persistencia ({@code entityManager.flush()} y
+ * {@code entityManager.clear()}) de modo que la memoria no crezca con el tamaño de
+ * la importación. {@code afterChunk} se ejecuta también cuando el bloque falla, para
+ * que sus entidades no permanezcan en el contexto al escribir el siguiente.</p>
+ *
+ * <p>Las escrituras y {@code afterChunk} se ejecutan siempre en el hilo que invoca
+ * la operación, por lo que participan de su transacción, si la hay, y se confirman o
+ * revierten con ella. Para escribir cada bloque en su propia transacción debe
+ * utilizarse {@link ParallelBatchPersistUseCase}.</p>
+ *
+ * <p>Antes de escribirse, cada bloque puede transformarse con un preparador (por
+ * ejemplo, para validar o completar las entidades). En modo
+ * {@link ChunkSettings#pipelined() segmentado}, la lectura de la entrada y la
+ * preparación del siguiente bloque se realizan en un hilo virtual mientras se escribe
+ * el bloque actual.</p>
+ *
+ * <p>Un bloque que falla se informa en el {@link BatchPersistReport} sin detener
+ * los demás. {@code createAll} lanza una {@link ServiceException} de tipo
+ * {@code DATABASE} si algún bloque falló. Dentro de una transacción, el error de un
+ * bloque suele marcarla para deshacerse, de modo que al revertirla tampoco quedan
+ * persistidos los bloques exitosos; sin transacción, cada bloque queda persistido
+ * según lo confirme el caso de uso de escritura.</p>
+ *
+ * @author Victor Manuel Rodriguez Ramirez
+ * @param <E>  el tipo de la entidad a persistir
+ * @param <ID> el tipo del identificador único de la entidad
+ *
+ * @see ChunkedPersistUseCase
+ * @see ServiceException
+ * @version 1.0.0 - Nuevo motor de persistencia por bloques
+ */
+@Slf4j
+public class ChunkedBatchPersistUseCase<E, ID> implements ChunkedPersistUseCase<E, ID> {
+
+    private static final ExecutorService PREPARATION_EXECUTOR =
+            Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("chunk-preparation-", 0).factory());
+
+    private final BatchPersistUseCase<E, ID> writer;
+
+    private final ChunkSettings settings;
+
+    private final UnaryOperator<List<E>> preparer;
+
+    private final Runnable afterChunk;
+
+    /**
+     * Crea un motor de persistencia por bloques sin preparación ni acción posterior.
+     *
+     * @param writer   el caso de uso que persiste cada bloque.
+     * @param settings la configuración de los bloques.
+     */
+    public ChunkedBatchPersistUseCase(BatchPersistUseCase<E, ID> writer, ChunkSettings settings) {
+        this(writer, settings, UnaryOperator.identity(), () -> { });
+    }
+
+    /**
+     * Crea un motor de persistencia por bloques.
+     *
+     * @param writer     el caso de uso que persiste cada bloque.
+     * @param settings   la configuración de los bloques.
+     * @param preparer   la transformación aplicada a cada bloque antes de escribirlo.
+     * @param afterChunk la acción ejecutada después de escribir cada bloque.
+     */
+    public ChunkedBatchPersistUseCase(BatchPersistUseCase<E, ID> writer, ChunkSettings settings,
+            UnaryOperator<List<E>> preparer, Runnable afterChunk) {
+        this.writer = Objects.requireNonNull(writer, "writer");
+        this.settings = Objects.requireNonNull(settings, "settings");
+        this.preparer = Objects.requireNonNull(preparer, "preparer");
+        this.afterChunk = Objects.requireNonNull(afterChunk, "afterChunk");
+    }
+
+    @Override
+    public BatchPersistReport<E> createAllInChunks(Iterable<E> entities) {
+        if (entities == null) {
+            throw new IllegalArgumentException("Las entidades no pueden ser nulas");
+        }
+        Iterator<E> iterator = entities.iterator();
+        List<ChunkResult<E>> results = new ArrayList<>();
+        int index = 0;
+        if (!settings.pipelined()) {
+            for (PreparedChunk<E> chunk = prepareNext(iterator); chunk != null; chunk = prepareNext(iterator)) {
+                results.add(write(index++, chunk));
+            }
+            return new BatchPersistReport<>(results);
+        }
+        CompletableFuture<PreparedChunk<E>> next = prepareNextAsync(iterator);
+        for (PreparedChunk<E> chunk = await(next); chunk != null; chunk = await(next)) {
+            next = prepareNextAsync(iterator);
+            results.add(write(index++, chunk));
+        }
+        return new BatchPersistReport<>(results);
+    }
+
+    private CompletableFuture<PreparedChunk<E>> prepareNextAsync(Iterator<E> iterator) {
+        return CompletableFuture.supplyAsync(() -> prepareNext(iterator), PREPARATION_EXECUTOR);
+    }
+
+    /**
+     * Lee y prepara el siguiente bloque de la entrada.
+     *
+     * @return el bloque preparado, o {@code null} si la entrada se agotó.
+     */
+    private PreparedChunk<E> prepareNext(Iterator<E> iterator) {
+        List<E> items = new ArrayList<>(settings.chunkSize());
+        while (items.size() < settings.chunkSize() && iterator.hasNext()) {
+            E entity = iterator.next();
+            if (entity == null) {
+                throw new IllegalArgumentException("Las entidades no pueden contener elementos nulos");
+            }
+            items.add(entity);
+        }
+        if (items.isEmpty()) {
+            return null;
+        }
+        try {
+            return new PreparedChunk<>(items, preparer.apply(items), null);
+        } catch (RuntimeException ex) {
+            return new PreparedChunk<>(items, null, toServiceException(ex, "Error al preparar el bloque"));
+        }
+    }
+
+    private ChunkResult<E> write(int index, PreparedChunk<E> chunk) {
+        if (chunk.failure() != null) {
+            return ChunkResult.failure(index, chunk.items(), chunk.failure());
+        }
+        try {
+            List<E> persisted;
+            try {
+                persisted = writer.createAll(chunk.prepared());
+            } finally {
+                afterChunk.run();
+            }
+            log.debug("Bloque {} persistido con {} entidades", index, persisted.size());
+            return ChunkResult.success(index, chunk.items(), persisted);
+        } catch (RuntimeException ex) {
+            log.debug("Falló el bloque {} con {} entidades", index, chunk.items().size(), ex);
+            return ChunkResult.failure(index, chunk.items(), toServiceException(ex, "Error al persistir el bloque"));
+        }
+    }
+
+    private static ServiceException toServiceException(RuntimeException ex, String message) {
+        return ex instanceof ServiceException serviceException
+                ? serviceException
+                : ServiceExceptionFactory.database(ex, message);
+    }
+
+    private static <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw ex;
+        }
+    }
+
+    private record PreparedChunk<E>(List<E> items, List<E> prepared, ServiceException failure) {
+    }
+
+}
@@ -0,0 +1,140 @@
+package com.victorrot.commons.core.usecases.batch;
+
+import com.victorrot.commons.core.usecases.persist.BatchPersistReport;
+import com.victorrot.commons.core.usecases.persist.BatchPersistUseCase;
+import com.victorrot.commons.core.usecases.persist.ChunkResult;
+import com.victorrot.commons.core.usecases.persist.ChunkedPersistUseCase;
+import com.victorrot.commons.exceptions.ServiceException;
+import com.victorrot.commons.exceptions.ServiceExceptionFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Motor de persistencia en lote que divide la entrada en particiones y las
+ * escribe de forma concurrente.
+ *
+ * <p>Cada partición se escribe mediante {@link BatchPersistUseCase#createAll(Iterable)}
+ * en un hilo propio y dentro de su propia transacción, obtenida de las
+ * {@link TransactionOperations} indicadas (normalmente un {@link TransactionTemplate});
+ * con un gestor de transacciones JDBC o JPA cada trabajador utiliza así su propia
+ * conexión. Esto incluye el caso de una sola partición, de modo que el resultado
+ * nunca depende de la transacción del hilo que llama. Como máximo se escriben
+ * {@link PartitionSettings#parallelism()} particiones al mismo tiempo.</p>
+ *
+ * <p>El fallo de una partición revierte solo su transacción y no interrumpe las
+ * demás; el {@link BatchPersistReport} devuelto contiene, por cada partición fallida,
+ * sus entidades y la {@link ServiceException} producida. El orden de los resultados
+ * corresponde al orden de las particiones en la entrada.</p>
+ *
+ * @author Victor Manuel Rodriguez Ramirez
+ * @param <E>  el tipo de la entidad a persistir
+ * @param <ID> el tipo del identificador único de la entidad
+ *
+ * @see ChunkedPersistUseCase
+ * @see ServiceException
+ * @version 1.0.0 - Nuevo motor de persistencia en paralelo
+ */
+@Slf4j
+public class ParallelBatchPersistUseCase<E, ID> implements ChunkedPersistUseCase<E, ID> {
+
+    private final BatchPersistUseCase<E, ID> writer;
+
+    private final PartitionSettings settings;
+
+    private final TransactionOperations transactions;
+
+    /**
+     * Crea un motor de persistencia en paralelo.
+     *
+     * @param writer       el caso de uso que persiste cada partición.
+     * @param settings     la configuración de las particiones.
+     * @param transactions las operaciones transaccionales con las que se ejecuta cada
+     *                     partición, o {@link TransactionOperations#withoutTransaction()}
+     *                     si el caso de uso de escritura gestiona sus transacciones.
+     */
+    public ParallelBatchPersistUseCase(BatchPersistUseCase<E, ID> writer, PartitionSettings settings,
+            TransactionOperations transactions) {
+        this.writer = Objects.requireNonNull(writer, "writer");
+        this.settings = Objects.requireNonNull(settings, "settings");
+        this.transactions = Objects.requireNonNull(transactions, "transactions");
+    }
+
+    @Override
+    public BatchPersistReport<E> createAllInChunks(Iterable<E> entities) {
+        List<List<E>> partitions = partition(entities);
+        // Incluso una sola partición se escribe en otro hilo: en el del llamador se uniría a su transacción.
+        Semaphore permits = new Semaphore(settings.parallelism());
+        List<CompletableFuture<ChunkResult<E>>> futures = new ArrayList<>(partitions.size());
+        try (ExecutorService executor = Executors.newThreadPerTaskExecutor(
+                Thread.ofVirtual().name("parallel-persist-", 0).factory())) {
+            for (int i = 0; i < partitions.size(); i++) {
+                int index = i;
+                futures.add(CompletableFuture.supplyAsync(() -> writeWithPermit(permits, index, partitions.get(index)),
+                        executor));
+            }
+        }
+        return new BatchPersistReport<>(futures.stream().map(CompletableFuture::join).toList());
+    }
+
+    private List<List<E>> partition(Iterable<E> entities) {
+        if (entities == null) {
+            throw new IllegalArgumentException("Las entidades no pueden ser nulas");
+        }
+        List<List<E>> partitions = new ArrayList<>();
+        List<E> current = new ArrayList<>(settings.partitionSize());
+        for (E entity : entities) {
+            if (entity == null) {
+                throw new IllegalArgumentException("Las entidades no pueden contener elementos nulos");
+            }
+            current.add(entity);
+            if (current.size() == settings.partitionSize()) {
+                partitions.add(current);
+                current = new ArrayList<>(settings.partitionSize());
+            }
+        }
+        if (!current.isEmpty() || partitions.isEmpty()) {
+            partitions.add(current);
+        }
+        return partitions;
+    }
+
+    private ChunkResult<E> writeWithPermit(Semaphore permits, int index, List<E> partition) {
+        try {
+            permits.acquire();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return ChunkResult.failure(index, partition,
+                    ServiceExceptionFactory.service(ex, "Interrumpido antes de escribir la partición {}", index));
+        }
+        try {
+            return write(index, partition);
+        } finally {
+            permits.release();
+        }
+    }
+
+    private ChunkResult<E> write(int index, List<E> partition) {
+        if (partition.isEmpty()) {
+            return ChunkResult.success(index, partition, List.of());
+        }
+        try {
+            List<E> persisted = transactions.execute(status -> writer.createAll(partition));
+            return ChunkResult.success(index, partition, persisted == null ? List.of() : persisted);
+        } catch (ServiceException ex) {
+            return ChunkResult.failure(index, partition, ex);
+        } catch (RuntimeException ex) {
+            log.debug("Falló la partición {} con {} entidades", index, partition.size(), ex);
+            return ChunkResult.failure(index, partition,
+                    ServiceExceptionFactory.database(ex, "Error al persistir la partición {}", index));
+        }
+    }
+
+}
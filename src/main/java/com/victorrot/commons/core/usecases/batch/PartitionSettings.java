@@ -0,0 +1,29 @@
+package com.victorrot.commons.core.usecases.batch;
+
+/**
+ * Configuración de la persistencia en lote en particiones paralelas.
+ *
+ * @author Victor Manuel Rodriguez Ramirez
+ * @param partitionSize el número de entidades de cada partición.
+ * @param parallelism   el número máximo de particiones que se escriben al mismo
+ *                      tiempo; no debe superar el tamaño del pool de conexiones.
+ * @version 1.0.0 - Nueva configuración de particiones
+ */
+public record PartitionSettings(int partitionSize, int parallelism) {
+
+    /**
+     * Valida los parámetros de la configuración.
+     *
+     * @throws IllegalArgumentException si {@code partitionSize} o {@code parallelism}
+     *         no son positivos.
+     */
+    public PartitionSettings {
+        if (partitionSize <= 0) {
+            throw new IllegalArgumentException("El tamaño de la partición debe ser positivo");
+        }
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("El nivel de paralelismo debe ser positivo");
+        }
+    }
+
+}
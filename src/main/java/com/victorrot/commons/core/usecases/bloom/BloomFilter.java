@@ -0,0 +1,154 @@
+package com.victorrot.commons.core.usecases.bloom;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Filtro de Bloom concurrente para identificadores.
+ *
+ * <p>Responde si un identificador <em>podría</em> pertenecer al conjunto: un
+ * resultado negativo es definitivo, mientras que uno positivo puede ser un falso
+ * positivo con la probabilidad configurada. Los bits se almacenan en un
+ * {@link AtomicLongArray}, por lo que las inserciones y consultas concurrentes no
+ * requieren bloqueos. Los elementos no pueden eliminarse.</p>
+ *
+ * <p>El filtro se dimensiona con las fórmulas habituales: {@code m = -n ln p / (ln 2)²}
+ * bits y {@code k = (m / n) ln 2} funciones de dispersión, obtenidas por doble
+ * dispersión a partir de un valor de 64 bits del identificador ({@link Long} e
+ * {@link Integer} se usan directamente; el resto de los tipos, su {@code hashCode()}).</p>
+ *
+ * @author Victor Manuel Rodriguez Ramirez
+ * @param <T> el tipo de los identificadores
+ *
+ * @version 1.0.0 - Nuevo filtro de Bloom
+ */
+public final class BloomFilter<T> {
+
+    private final AtomicLongArray bits;
+
+    private final long bitCount;
+
+    private final int hashFunctions;
+
+    private final LongAdder insertions = new LongAdder();
+
+    /**
+     * Crea un filtro dimensionado para el número de elementos y la probabilidad de
+     * falsos positivos indicados.
+     *
+     * @param expectedInsertions        el número esperado de elementos.
+     * @param falsePositiveProbability la probabilidad de falsos positivos al alcanzar
+     *                                 el número esperado de elementos.
+     * @throws IllegalArgumentException si {@code expectedInsertions} no es positivo o
+     *         la probabilidad no está entre 0 y 1 (exclusivos).
+     */
+    public BloomFilter(long expectedInsertions, double falsePositiveProbability) {
+        if (expectedInsertions <= 0) {
+            throw new IllegalArgumentException("El número esperado de elementos debe ser positivo");
+        }
+        if (!(falsePositiveProbability > 0 && falsePositiveProbability < 1)) {
+            throw new IllegalArgumentException("La probabilidad de falsos positivos debe estar entre 0 y 1");
+        }
+        double ln2 = Math.log(2);
+        long words = Math.max(1, (long) Math.ceil(
+                -expectedInsertions * Math.log(falsePositiveProbability) / (ln2 * ln2) / Long.SIZE));
+        if (words > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("El filtro excede el tamaño máximo admitido");
+        }
+        this.bits = new AtomicLongArray((int) words);
+        this.bitCount = words * Long.SIZE;
+        this.hashFunctions = Math.max(1, (int) Math.round((double) bitCount / expectedInsertions * ln2));
+    }
+
+    /**
+     * Añade un identificador al filtro.
+     *
+     * @param value el identificador.
+     */
+    public void put(T value) {
+        long h1 = hash(value);
+        long h2 = mix(h1 ^ 0x9e3779b97f4a7c15L) | 1;
+        for (int i = 1; i <= hashFunctions; i++) {
+            long bit = index(h1 + i * h2);
+            int word = (int) (bit >>> 6);
+            long mask = 1L << bit;
+            long current = bits.get(word);
+            while ((current & mask) == 0 && !bits.compareAndSet(word, current, current | mask)) {
+                current = bits.get(word);
+            }
+        }
+        insertions.increment();
+    }
+
+    /**
+     * Indica si el identificador podría pertenecer al filtro.
+     *
+     * @param value el identificador.
+     * @return {@code false} si el identificador no se añadió con certeza;
+     *         {@code true} si pudo añadirse.
+     */
+    public boolean mightContain(T value) {
+        long h1 = hash(value);
+        long h2 = mix(h1 ^ 0x9e3779b97f4a7c15L) | 1;
+        for (int i = 1; i <= hashFunctions; i++) {
+            long bit = index(h1 + i * h2);
+            if ((bits.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Obtiene el número de inserciones realizadas, incluidas las repetidas.
+     *
+     * @return el número de inserciones.
+     */
+    public long insertions() {
+        return insertions.sum();
+    }
+
+    /**
+     * Obtiene el tamaño del filtro.
+     *
+     * @return el número de bits del filtro.
+     */
+    public long bitCount() {
+        return bitCount;
+    }
+
+    /**
+     * Obtiene el número de funciones de dispersión del filtro.
+     *
+     * @return el número de funciones de dispersión.
+     */
+    public int hashFunctions() {
+        return hashFunctions;
+    }
+
+    /** Reduce el valor al rango {@code [0, bitCount)} con una multiplicación en lugar de un módulo. */
+    private long index(long combined) {
+        return Math.unsignedMultiplyHigh(combined, bitCount);
+    }
+
+    private static long hash(Object value) {
+        long key = switch (value) {
+            case Long number -> number;
+            case Integer number -> number;
+            case null -> 0L;
+            default -> value.hashCode();
+        };
+        return mix(key);
+    }
+
+    /** Finalizador de MurmurHash3 (fmix64). */
+    private static long mix(long key) {
+        key ^= key >>> 33;
+        key *= 0xff51afd7ed558ccdL;
+        key ^= key >>> 33;
+        key *= 0xc4ceb9fe1a85ec53L;
+        key ^= key >>> 33;
+        return key;
+    }
+
+}
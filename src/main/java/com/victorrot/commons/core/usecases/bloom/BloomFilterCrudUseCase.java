@@ -0,0 +1,99 @@
+package com.victorrot.commons.core.usecases.bloom;
+
+import com.victorrot.commons.core.usecases.CrudUseCase;
+import com.victorrot.commons.exceptions.ServiceException;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * Decorador con filtro de Bloom para {@link CrudUseCase}.
+ *
+ * <p>Además del descarte de consultas de {@link BloomFilterFindUseCase}, registra en
+ * el filtro los identificadores dados de alta: el de la entidad recibida, si ya lo
+ * tiene, antes de invocar al caso de uso decorado, y el de la entidad persistida
+ * después, de modo que una consulta concurrente nunca recibe un negativo para una
+ * entidad ya persistida. Un alta fallida solo deja un falso positivo. Las
+ * eliminaciones y las búsquedas en lote se delegan sin cambios.</p>
+ *
+ * @author Victor Manuel Rodriguez Ramirez
+ * @param <E>  el tipo de la entidad
+ * @param <ID> el tipo del identificador único de la entidad
+ *
+ * @see BloomFilterFindUseCase
+ * @see ServiceException
+ * @version 1.0.0 - Nuevo decorador con filtro de Bloom
+ */
+public class BloomFilterCrudUseCase<E, ID> extends BloomFilterFindUseCase<E, ID> implements CrudUseCase<E, ID> {
+
+    private final CrudUseCase<E, ID> delegate;
+
+    private final Function<? super E, ? extends ID> idExtractor;
+
+    /**
+     * Crea un decorador con filtro de Bloom sobre el caso de uso CRUD indicado.
+     *
+     * @param delegate    el caso de uso CRUD decorado.
+     * @param idExtractor función que obtiene el identificador de una entidad; puede
+     *                    devolver {@code null} si la entidad aún no lo tiene.
+     * @param idSource    proveedor del flujo con todos los identificadores existentes.
+     * @param settings    la configuración del filtro.
+     */
+    public BloomFilterCrudUseCase(CrudUseCase<E, ID> delegate, Function<? super E, ? extends ID> idExtractor,
+            Supplier<? extends Stream<? extends ID>> idSource, BloomFilterSettings settings) {
+        super(delegate, idSource, settings);
+        this.delegate = delegate;
+        this.idExtractor = Objects.requireNonNull(idExtractor, "idExtractor");
+    }
+
+    @Override
+    public List<E> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override
+    public Page<E> findAll(Pageable pageable) {
+        return delegate.findAll(pageable);
+    }
+
+    @Override
+    public E create(E entity) {
+        addEntity(entity);
+        E created = delegate.create(entity);
+        addEntity(created);
+        return created;
+    }
+
+    @Override
+    public List<E> createAll(Iterable<E> entities) {
+        if (entities != null) {
+            entities.forEach(this::addEntity);
+        }
+        List<E> created = delegate.createAll(entities);
+        if (created != null) {
+            created.forEach(this::addEntity);
+        }
+        return created;
+    }
+
+    @Override
+    public void delete(ID id) {
+        delegate.delete(id);
+    }
+
+    @Override
+    public void deleteAll(Iterable<ID> ids) {
+        delegate.deleteAll(ids);
+    }
+
+    private void addEntity(E entity) {
+        if (entity != null) {
+            add(idExtractor.apply(entity));
+        }
+    }
+
+}
@@ -0,0 +1,235 @@
+package com.victorrot.commons.core.usecases.bloom;
+
+import com.victorrot.commons.core.usecases.find.FindUseCase;
+import com.victorrot.commons.exceptions.ServiceException;
+import com.victorrot.commons.exceptions.ServiceExceptionFactory;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Decorador de {@link FindUseCase} que descarta sin consultar al caso de uso
+ * decorado los identificadores que con certeza no existen.
+ *
+ * <p>Mantiene un {@link BloomFilter} con los identificadores existentes, construido
+ * recorriendo el flujo de identificadores indicado (por ejemplo, un
+ * {@code StreamFindUseCase} sobre la columna del identificador). Si el filtro no
+ * contiene un identificador, {@link #existsById(Object)} devuelve {@code false} y
+ * {@link #findById(Object)} un resultado vacío sin entrada/salida; en caso contrario
+ * la consulta se delega. Mientras el filtro no se ha construido todas las consultas
+ * se delegan.</p>
+ *
+ * <p>Los identificadores dados de alta deben registrarse con {@link #add(Object)}
+ * ({@link BloomFilterCrudUseCase} lo hace automáticamente). Un filtro de Bloom no
+ * admite eliminaciones: los identificadores eliminados siguen dando positivo hasta
+ * la siguiente reconstrucción, que también descarta los falsos positivos acumulados.
+ * Durante una reconstrucción las altas se registran en el filtro vigente y en el
+ * nuevo. El recorrido de la reconstrucción debe ver las altas confirmadas antes de
+ * iniciarse; las altas de transacciones que aún no se han confirmado al iniciar el
+ * recorrido deben volver a registrarse con {@link #add(Object)}.</p>
+ *
+ * <p>Si la configuración indica un intervalo de reconstrucción, {@link #start()}
+ * construye el filtro en segundo plano y lo reconstruye periódicamente; la instancia
+ * debe cerrarse con {@link #close()} para liberar el hilo planificador. Las
+ * reconstrucciones no se programan en el constructor para que ninguna se ejecute
+ * antes de que termine de construirse una subclase. Si una reconstrucción falla se
+ * conserva el filtro vigente.</p>
+ *
+ * @author Victor Manuel Rodriguez Ramirez
+ * @param <E>  el tipo de la entidad
+ * @param <ID> el tipo del identificador único de la entidad
+ *
+ * @see BloomFilterCrudUseCase
+ * @see ServiceException
+ * @version 1.0.0 - Nuevo decorador con filtro de Bloom
+ */
+@Slf4j
+public class BloomFilterFindUseCase<E, ID> implements FindUseCase<E, ID>, AutoCloseable {
+
+    private final FindUseCase<E, ID> delegate;
+
+    private final Supplier<? extends Stream<? extends ID>> idSource;
+
+    private final BloomFilterSettings settings;
+
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+
+    private final ScheduledExecutorService scheduler;
+
+    private final AtomicBoolean started = new AtomicBoolean();
+
+    /** Filtro vigente; {@code null} hasta la primera construcción. */
+    private volatile BloomFilter<Object> filter;
+
+    /** Filtro en construcción; {@code null} fuera de una reconstrucción. */
+    private volatile BloomFilter<Object> building;
+
+    /**
+     * Crea un decorador con filtro de Bloom sobre el caso de uso indicado.
+     *
+     * @param delegate el caso de uso de búsqueda decorado.
+     * @param idSource proveedor del flujo con todos los identificadores existentes;
+     *                 el flujo se cierra al terminar cada construcción.
+     * @param settings la configuración del filtro.
+     */
+    public BloomFilterFindUseCase(FindUseCase<E, ID> delegate, Supplier<? extends Stream<? extends ID>> idSource,
+            BloomFilterSettings settings) {
+        this.delegate = Objects.requireNonNull(delegate, "delegate");
+        this.idSource = Objects.requireNonNull(idSource, "idSource");
+        this.settings = Objects.requireNonNull(settings, "settings");
+        if (settings.rebuildInterval() == null) {
+            this.scheduler = null;
+        } else {
+            this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "bloom-filter-rebuild");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+
+    @Override
+    public Optional<E> findById(ID id) {
+        requireId(id);
+        BloomFilter<Object> current = filter;
+        if (current != null && !current.mightContain(id)) {
+            return Optional.empty();
+        }
+        return delegate.findById(id);
+    }
+
+    @Override
+    public boolean existsById(ID id) {
+        requireId(id);
+        BloomFilter<Object> current = filter;
+        if (current != null && !current.mightContain(id)) {
+            return false;
+        }
+        return delegate.existsById(id);
+    }
+
+    /**
+     * Registra un identificador dado de alta.
+     *
+     * @param id el identificador; se ignora si es {@code null}.
+     */
+    public void add(ID id) {
+        if (id == null) {
+            return;
+        }
+        // El filtro en construcción se lee primero: si ya terminó, el vigente es el nuevo.
+        BloomFilter<Object> next = building;
+        BloomFilter<Object> current = filter;
+        if (next != null) {
+            next.put(id);
+        }
+        if (current != null && current != next) {
+            current.put(id);
+        }
+    }
+
+    /**
+     * Construye un filtro nuevo recorriendo todos los identificadores y lo pone en
+     * vigor al terminar. Si ya hay una reconstrucción en curso, espera a que termine
+     * y realiza otra.
+     *
+     * @throws ServiceException de tipo {@code DATABASE} si el recorrido de los
+     *         identificadores falla; el filtro vigente se conserva.
+     */
+    public void rebuild() {
+        rebuildLock.lock();
+        try {
+            BloomFilter<Object> next = new BloomFilter<>(settings.expectedInsertions(),
+                    settings.falsePositiveProbability());
+            building = next;
+            long scanned = 0;
+            try (Stream<? extends ID> ids = idSource.get()) {
+                for (var iterator = ids.iterator(); iterator.hasNext(); scanned++) {
+                    next.put(iterator.next());
+                }
+            } catch (ServiceException ex) {
+                throw ex;
+            } catch (RuntimeException ex) {
+                throw ServiceExceptionFactory.database(ex, "Error al construir el filtro de Bloom");
+            }
+            filter = next;
+            building = null;
+            if (scanned > settings.expectedInsertions()) {
+                log.warn("El filtro de Bloom se construyó con {} identificadores, más de los {} esperados;"
+                        + " la tasa de falsos positivos será mayor a la configurada", scanned,
+                        settings.expectedInsertions());
+            }
+            log.debug("Filtro de Bloom construido con {} identificadores", scanned);
+        } finally {
+            building = null;
+            rebuildLock.unlock();
+        }
+    }
+
+    /**
+     * Inicia las reconstrucciones automáticas: la primera de inmediato y las
+     * siguientes cada {@link BloomFilterSettings#rebuildInterval()}. No hace nada si
+     * la configuración no indica un intervalo o si ya se iniciaron.
+     *
+     * @throws IllegalStateException si la instancia ya se cerró.
+     */
+    public void start() {
+        if (scheduler == null || !started.compareAndSet(false, true)) {
+            return;
+        }
+        long interval = settings.rebuildInterval().toNanos();
+        try {
+            scheduler.scheduleWithFixedDelay(this::rebuildQuietly, 0, interval, TimeUnit.NANOSECONDS);
+        } catch (RejectedExecutionException ex) {
+            throw new IllegalStateException("El caso de uso con filtro de Bloom está cerrado", ex);
+        }
+    }
+
+    /**
+     * Indica si el filtro ya se construyó y se utiliza para descartar consultas.
+     *
+     * @return {@code true} si el filtro está en vigor.
+     */
+    public boolean isReady() {
+        return filter != null;
+    }
+
+    /**
+     * Detiene las reconstrucciones automáticas.
+     */
+    @Override
+    public void close() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    private void rebuildQuietly() {
+        try {
+            rebuild();
+        } catch (RuntimeException ex) {
+            log.warn("No se pudo reconstruir el filtro de Bloom; se conserva el filtro vigente", ex);
+        }
+    }
+
+    /**
+     * Valida el identificador según el contrato de {@link FindUseCase}.
+     *
+     * @param id el identificador a validar.
+     * @throws IllegalArgumentException si {@code id} es {@code null}.
+     */
+    protected static void requireId(Object id) {
+        if (id == null) {
+            throw new IllegalArgumentException("El identificador no puede ser nulo");
+        }
+    }
+
+}
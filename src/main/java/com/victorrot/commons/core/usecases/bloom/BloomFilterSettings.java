@@ -0,0 +1,51 @@
+package com.victorrot.commons.core.usecases.bloom;
+
+import java.time.Duration;
+
+/**
+ * Configuración de los casos de uso con filtro de Bloom.
+ *
+ * @author Victor Manuel Rodriguez Ramirez
+ * @param expectedInsertions       número esperado de identificadores, incluidas las
+ *                                 altas previstas entre reconstrucciones.
+ * @param falsePositiveProbability probabilidad de falsos positivos con el número
+ *                                 esperado de identificadores.
+ * @param rebuildInterval          intervalo entre reconstrucciones automáticas del
+ *                                 filtro, iniciadas con {@code start()}, o
+ *                                 {@code null} si el filtro solo se construye al
+ *                                 invocar {@code rebuild()}.
+ * @version 1.0.0 - Nueva configuración del filtro de Bloom
+ */
+public record BloomFilterSettings(long expectedInsertions, double falsePositiveProbability, Duration rebuildInterval) {
+
+    /**
+     * Valida los parámetros de la configuración.
+     *
+     * @throws IllegalArgumentException si {@code expectedInsertions} no es positivo,
+     *         la probabilidad no está entre 0 y 1 (exclusivos) o el intervalo es cero
+     *         o negativo.
+     */
+    public BloomFilterSettings {
+        if (expectedInsertions <= 0) {
+            throw new IllegalArgumentException("El número esperado de identificadores debe ser positivo");
+        }
+        if (!(falsePositiveProbability > 0 && falsePositiveProbability < 1)) {
+            throw new IllegalArgumentException("La probabilidad de falsos positivos debe estar entre 0 y 1");
+        }
+        if (rebuildInterval != null && (rebuildInterval.isZero() || rebuildInterval.isNegative())) {
+            throw new IllegalArgumentException("El intervalo de reconstrucción debe ser positivo");
+        }
+    }
+
+    /**
+     * Crea una configuración sin reconstrucción automática.
+     *
+     * @param expectedInsertions       número esperado de identificadores.
+     * @param falsePositiveProbability probabilidad de falsos positivos.
+     * @return la configuración creada.
+     */
+    public static BloomFilterSettings of(long expectedInsertions, double falsePositiveProbability) {
+        return new BloomFilterSettings(expectedInsertions, falsePositiveProbability, null);
+    }
+
+}
@@ -0,0 +1,271 @@
+package com.victorrot.commons.core.usecases.breaker;
+
+import com.victorrot.commons.exceptions.ServiceException;
+import com.victorrot.commons.exceptions.ServiceExceptionFactory;
+import com.victorrot.commons.exceptions.TypeException;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Circuito que deja de invocar un recurso mientras este falla.
+ *
+ * <p>En estado {@link CircuitState#CLOSED} el resultado de cada llamada se anota en
+ * una ventana deslizante de las últimas {@link CircuitBreakerSettings#windowSize()}
+ * llamadas. Solo cuentan como fallo las {@link ServiceException} cuyo tipo está en
+ * {@link CircuitBreakerSettings#failureTypes()}; los argumentos inválidos cuentan
+ * como {@link TypeException#VALIDATION} y los demás errores como
+ * {@link TypeException#GENERAL}. Cuando la ventana reúne al menos
+ * {@link CircuitBreakerSettings#minCalls()} llamadas y el porcentaje de fallos
+ * alcanza el configurado, el circuito pasa a {@link CircuitState#OPEN} y rechaza
+ * todas las llamadas de inmediato con una {@link ServiceException} de tipo
+ * {@code SERVICE}, sin esperar el tiempo de espera del recurso.</p>
+ *
+ * <p>Vencido {@link CircuitBreakerSettings#openDuration()}, el circuito pasa a
+ * {@link CircuitState#HALF_OPEN} y permite hasta
+ * {@link CircuitBreakerSettings#halfOpenCalls()} llamadas de prueba: si todas tienen
+ * éxito se cierra con una ventana vacía, y el primer fallo lo abre de nuevo. Cada
+ * cambio de estado se registra en el log y se notifica a los
+ * {@link CircuitBreakerListener} registrados.</p>
+ *
+ * <p>El circuito no usa bloqueos: el estado es inmutable y se reemplaza con
+ * operaciones atómicas, y la ventana es un arreglo circular atómico cuyos contadores
+ * de llamadas y fallos se actualizan juntos en un único {@code long}. Los resultados
+ * de las llamadas que comenzaron en un estado anterior se descartan.</p>
+ *
+ * @author Victor Manuel Rodriguez Ramirez
+ *
+ * @see CircuitBreakers
+ * @see CircuitBreakerSettings
+ * @version 1.0.0 - Nuevo circuito
+ */
+@Slf4j
+public final class CircuitBreaker {
+
+    private final String name;
+
+    private final CircuitBreakerSettings settings;
+
+    private final long openNanos;
+
+    private final AtomicReference<State> state;
+
+    private final List<CircuitBreakerListener> listeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * Crea un circuito cerrado.
+     *
+     * @param name     el nombre del circuito, utilizado en los mensajes y eventos.
+     * @param settings la configuración del circuito.
+     */
+    public CircuitBreaker(String name, CircuitBreakerSettings settings) {
+        this.name = Objects.requireNonNull(name, "name");
+        this.settings = Objects.requireNonNull(settings, "settings");
+        this.openNanos = settings.openDuration().toNanos();
+        this.state = new AtomicReference<>(State.closed(settings.windowSize()));
+    }
+
+    /**
+     * Ejecuta una llamada a través del circuito.
+     *
+     * @param <T>  el tipo del resultado
+     * @param call la llamada al recurso protegido.
+     * @return el resultado de la llamada.
+     * @throws ServiceException de tipo {@code SERVICE} si el circuito rechaza la
+     *         llamada; los errores de la llamada se propagan sin cambios.
+     */
+    public <T> T execute(Supplier<T> call) {
+        State permitted = acquire();
+        T result;
+        try {
+            result = call.get();
+        } catch (RuntimeException | Error ex) {
+            onResult(permitted, ex);
+            throw ex;
+        }
+        onResult(permitted, null);
+        return result;
+    }
+
+    /**
+     * Registra un receptor de los cambios de estado.
+     *
+     * @param listener el receptor.
+     */
+    public void addListener(CircuitBreakerListener listener) {
+        listeners.add(Objects.requireNonNull(listener, "listener"));
+    }
+
+    /**
+     * Obtiene el nombre del circuito.
+     *
+     * @return el nombre.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Obtiene el estado actual. Un circuito abierto cuyo tiempo venció se informa
+     * como abierto hasta que llega la siguiente llamada.
+     *
+     * @return el estado.
+     */
+    public CircuitState getState() {
+        return state.get().kind;
+    }
+
+    private State acquire() {
+        while (true) {
+            State current = state.get();
+            switch (current.kind) {
+                case CLOSED:
+                    return current;
+                case OPEN:
+                    if (System.nanoTime() - current.openedAt < openNanos) {
+                        throw rejected();
+                    }
+                    transition(current, State.halfOpen(settings.halfOpenCalls()));
+                    break;
+                default:
+                    if (current.permits.getAndDecrement() > 0) {
+                        return current;
+                    }
+                    throw rejected();
+            }
+        }
+    }
+
+    private void onResult(State permitted, Throwable error) {
+        boolean failure = error != null && settings.failureTypes().contains(classify(error));
+        if (permitted.kind == CircuitState.CLOSED) {
+            long counts = permitted.window.record(failure);
+            int calls = (int) (counts >>> 32);
+            int failures = (int) counts;
+            if (failure && calls >= settings.minCalls()
+                    && (long) failures * 100 >= (long) settings.failureRatePercent() * calls) {
+                transition(permitted, State.open(System.nanoTime()));
+            }
+        } else if (failure) {
+            transition(permitted, State.open(System.nanoTime()));
+        } else if (permitted.successes.incrementAndGet() == settings.halfOpenCalls()) {
+            transition(permitted, State.closed(settings.windowSize()));
+        }
+    }
+
+    private void transition(State from, State to) {
+        if (!state.compareAndSet(from, to)) {
+            return;
+        }
+        if (to.kind == CircuitState.OPEN) {
+            log.warn("Circuito {} abierto: se rechazarán las llamadas durante {} ms", name,
+                    settings.openDuration().toMillis());
+        } else {
+            log.info("Circuito {} pasó de {} a {}", name, from.kind, to.kind);
+        }
+        for (CircuitBreakerListener listener : listeners) {
+            try {
+                listener.onStateChange(name, from.kind, to.kind);
+            } catch (RuntimeException ex) {
+                log.warn("Falló un receptor de cambios de estado del circuito {}", name, ex);
+            }
+        }
+    }
+
+    private ServiceException rejected() {
+        return ServiceExceptionFactory.service("El circuito {} está abierto; se rechaza la llamada", name);
+    }
+
+    private static TypeException classify(Throwable error) {
+        if (error instanceof ServiceException serviceException) {
+            return serviceException.getType();
+        }
+        if (error instanceof IllegalArgumentException || error instanceof NullPointerException) {
+            return TypeException.VALIDATION;
+        }
+        return TypeException.GENERAL;
+    }
+
+    /**
+     * Estado inmutable del circuito; cada transición crea una instancia nueva.
+     */
+    private static final class State {
+
+        final CircuitState kind;
+
+        final SlidingWindow window;
+
+        final long openedAt;
+
+        final AtomicInteger permits;
+
+        final AtomicInteger successes;
+
+        private State(CircuitState kind, SlidingWindow window, long openedAt, int permits) {
+            this.kind = kind;
+            this.window = window;
+            this.openedAt = openedAt;
+            this.permits = new AtomicInteger(permits);
+            this.successes = new AtomicInteger();
+        }
+
+        static State closed(int windowSize) {
+            return new State(CircuitState.CLOSED, new SlidingWindow(windowSize), 0, 0);
+        }
+
+        static State open(long openedAt) {
+            return new State(CircuitState.OPEN, null, openedAt, 0);
+        }
+
+        static State halfOpen(int permits) {
+            return new State(CircuitState.HALF_OPEN, null, 0, permits);
+        }
+
+    }
+
+    /**
+     * Ventana circular de los resultados de las últimas llamadas.
+     */
+    private static final class SlidingWindow {
+
+        private static final int EMPTY = 0;
+
+        private static final int SUCCESS = 1;
+
+        private static final int FAILURE = 2;
+
+        /** Incremento del contador de llamadas, guardado en los 32 bits altos de {@link #counts}. */
+        private static final long CALL = 1L << 32;
+
+        private final AtomicIntegerArray outcomes;
+
+        private final AtomicLong cursor = new AtomicLong();
+
+        private final AtomicLong counts = new AtomicLong();
+
+        SlidingWindow(int size) {
+            this.outcomes = new AtomicIntegerArray(size);
+        }
+
+        /**
+         * Anota un resultado, reemplazando el más antiguo si la ventana está llena.
+         *
+         * @return las llamadas de la ventana en los 32 bits altos y los fallos en los bajos.
+         */
+        long record(boolean failure) {
+            int outcome = failure ? FAILURE : SUCCESS;
+            int slot = (int) (cursor.getAndIncrement() % outcomes.length());
+            int previous = outcomes.getAndSet(slot, outcome);
+            long delta = (previous == EMPTY ? CALL : 0) + (outcome == FAILURE ? 1 : 0) - (previous == FAILURE ? 1 : 0);
+            return counts.addAndGet(delta);
+        }
+
+    }
+
+}
@@ -0,0 +1,24 @@
+package com.victorrot.commons.core.usecases.breaker;
+
+/**
+ * Receptor de los cambios de estado de un {@link CircuitBreaker}.
+ *
+ * <p>Se invoca de forma síncrona en el hilo que provoca el cambio, por lo que debe
+ * terminar rápido; los errores que lance se registran en el log y se ignoran.</p>
+ *
+ * @author Victor Manuel Rodriguez Ramirez
+ * @version 1.0.0 - Nuevo receptor de cambios de estado
+ */
+@FunctionalInterface
+public interface CircuitBreakerListener {
+
+    /**
+     * Notifica un cambio de estado.
+     *
+     * @param name el nombre del circuito.
+     * @param from el estado anterior.
+     * @param to   el estado nuevo.
+     */
+    void onStateChange(String name, CircuitState from, CircuitState to);
+
+}
@@ -0,0 +1,90 @@
+package com.victorrot.commons.core.usecases.breaker;
+
+import com.victorrot.commons.exceptions.TypeException;
+import java.time.Duration;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Configuración de un {@link CircuitBreaker}.
+ *
+ * @param windowSize           el número de llamadas recientes que forman la ventana
+ *                             deslizante.
+ * @param minCalls             el número mínimo de llamadas en la ventana para que
+ *                             el circuito pueda abrirse.
+ * @param failureRatePercent   el porcentaje de fallos de la ventana a partir del
+ *                             cual el circuito se abre, entre 1 y 100.
+ * @param openDuration         el tiempo que el circuito permanece abierto antes de
+ *                             permitir llamadas de prueba.
+ * @param halfOpenCalls        el número de llamadas de prueba que deben tener éxito
+ *                             para cerrar el circuito.
+ * @param failureTypes         los tipos de {@link TypeException} que cuentan como
+ *                             fallo; los demás errores cuentan como llamadas exitosas,
+ *                             ya que el recurso respondió.
+ *
+ * @author Victor Manuel Rodriguez Ramirez
+ * @version 1.0.0 - Nueva configuración del circuito
+ */
+public record CircuitBreakerSettings(int windowSize, int minCalls, int failureRatePercent, Duration openDuration,
+        int halfOpenCalls, Set<TypeException> failureTypes) {
+
+    /** Tamaño de la ventana por defecto. */
+    public static final int DEFAULT_WINDOW_SIZE = 100;
+
+    /** Número mínimo de llamadas por defecto. */
+    public static final int DEFAULT_MIN_CALLS = 20;
+
+    /** Porcentaje de fallos por defecto. */
+    public static final int DEFAULT_FAILURE_RATE_PERCENT = 50;
+
+    /** Tiempo abierto por defecto. */
+    public static final Duration DEFAULT_OPEN_DURATION = Duration.ofSeconds(10);
+
+    /** Número de llamadas de prueba por defecto. */
+    public static final int DEFAULT_HALF_OPEN_CALLS = 5;
+
+    /**
+     * Valida los parámetros de la configuración y copia los tipos de fallo.
+     *
+     * @throws IllegalArgumentException si {@code windowSize}, {@code minCalls} o
+     *         {@code halfOpenCalls} no son positivos, si {@code minCalls} supera a
+     *         {@code windowSize}, si el porcentaje no está entre 1 y 100, si
+     *         {@code openDuration} es {@code null} o negativo, o si
+     *         {@code failureTypes} es {@code null} o está vacío.
+     */
+    public CircuitBreakerSettings {
+        if (windowSize <= 0 || minCalls <= 0 || minCalls > windowSize) {
+            throw new IllegalArgumentException(
+                    "La ventana y el número mínimo de llamadas deben ser positivos y el mínimo no puede superar la ventana");
+        }
+        if (failureRatePercent < 1 || failureRatePercent > 100) {
+            throw new IllegalArgumentException("El porcentaje de fallos debe estar entre 1 y 100");
+        }
+        if (openDuration == null || openDuration.isNegative()) {
+            throw new IllegalArgumentException("El tiempo abierto no puede ser nulo ni negativo");
+        }
+        if (halfOpenCalls <= 0) {
+            throw new IllegalArgumentException("El número de llamadas de prueba debe ser positivo");
+        }
+        if (failureTypes == null || failureTypes.isEmpty()) {
+            throw new IllegalArgumentException("Los tipos de fallo no pueden ser nulos ni estar vacíos");
+        }
+        failureTypes = Set.copyOf(EnumSet.copyOf(failureTypes));
+    }
+
+    /**
+     * Crea la configuración por defecto: el circuito se abre durante 10 s cuando al
+     * menos el {@value #DEFAULT_FAILURE_RATE_PERCENT}% de las últimas
+     * {@value #DEFAULT_WINDOW_SIZE} llamadas, y al menos
+     * {@value #DEFAULT_MIN_CALLS}, fallaron con errores de los tipos indicados; se
+     * cierra tras {@value #DEFAULT_HALF_OPEN_CALLS} llamadas de prueba exitosas.
+     *
+     * @param failureTypes los tipos de {@link TypeException} que cuentan como fallo.
+     * @return la configuración por defecto.
+     */
+    public static CircuitBreakerSettings defaults(TypeException... failureTypes) {
+        return new CircuitBreakerSettings(DEFAULT_WINDOW_SIZE, DEFAULT_MIN_CALLS, DEFAULT_FAILURE_RATE_PERCENT,
+                DEFAULT_OPEN_DURATION, DEFAULT_HALF_OPEN_CALLS, Set.of(failureTypes));
+    }
+
+}
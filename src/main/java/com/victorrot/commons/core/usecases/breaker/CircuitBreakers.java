@@ -0,0 +1,68 @@
+package com.victorrot.commons.core.usecases.breaker;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.Objects;
+
+/**
+ * Protección con un {@link CircuitBreaker} de cualquier interfaz de los casos de uso
+ * ({@code PersistUseCase}, {@code FindUseCase}, {@code CrudUseCase}, etc.).
+ *
+ * <p>{@link #decorate(Class, Object, CircuitBreaker)} crea un proxy de la interfaz
+ * indicada que ejecuta cada método a través del circuito, con la excepción de los
+ * métodos de {@link Object}. Un mismo circuito puede proteger varios casos de uso
+ * que acceden al mismo recurso, de modo que todos dejan de invocarlo a la vez.</p>
+ *
+ * @author Victor Manuel Rodriguez Ramirez
+ * @version 1.0.0 - Nuevo decorador de circuito
+ */
+public final class CircuitBreakers {
+
+    private CircuitBreakers() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * Crea un proxy de un caso de uso protegido por un circuito.
+     *
+     * @param <T>     el tipo de la interfaz del caso de uso
+     * @param type    la interfaz del caso de uso.
+     * @param target  el caso de uso protegido.
+     * @param breaker el circuito.
+     * @return el proxy protegido.
+     * @throws IllegalArgumentException si {@code type} no es una interfaz.
+     */
+    public static <T> T decorate(Class<T> type, T target, CircuitBreaker breaker) {
+        if (!type.isInterface()) {
+            throw new IllegalArgumentException("Solo se pueden proteger interfaces: " + type.getName());
+        }
+        Objects.requireNonNull(target, "target");
+        Objects.requireNonNull(breaker, "breaker");
+        InvocationHandler handler = (proxy, method, args) -> method.getDeclaringClass() == Object.class
+                ? invokeTarget(target, method, args)
+                : breaker.execute(() -> invokeUnchecked(target, method, args));
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type}, handler));
+    }
+
+    private static Object invokeUnchecked(Object target, Method method, Object[] args) {
+        try {
+            return invokeTarget(target, method, args);
+        } catch (RuntimeException | Error ex) {
+            throw ex;
+        } catch (Throwable ex) {
+            throw new UndeclaredThrowableException(ex);
+        }
+    }
+
+    private static Object invokeTarget(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException ex) {
+            throw ex.getCause();
+        }
+    }
+
+}
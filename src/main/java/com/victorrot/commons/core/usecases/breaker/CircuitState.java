@@ -0,0 +1,20 @@
+package com.victorrot.commons.core.usecases.breaker;
+
+/**
+ * Estados de un {@link CircuitBreaker}.
+ *
+ * @author Victor Manuel Rodriguez Ramirez
+ * @version 1.0.0 - Nueva enumeración de estados del circuito
+ */
+public enum CircuitState {
+
+    /** Las llamadas se permiten y sus errores se cuentan en la ventana deslizante. */
+    CLOSED,
+
+    /** Las llamadas se rechazan de inmediato hasta que vence la espera configurada. */
+    OPEN,
+
+    /** Se permite un número limitado de llamadas de prueba para decidir si el circuito se cierra. */
+    HALF_OPEN;
+
+}
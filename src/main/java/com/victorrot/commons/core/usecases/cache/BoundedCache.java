@@ -0,0 +1,223 @@
+package com.victorrot.commons.core.usecases.cache;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * Caché concurrente en memoria acotada por tamaño y por tiempo de vida (TTL).
+ *
+ * <p>Cuando varios hilos solicitan al mismo tiempo una clave ausente, solo uno
+ * de ellos ejecuta el cargador; el resto espera y recibe el mismo resultado
+ * (protección contra estampidas). Si el cargador falla, la excepción se propaga
+ * a todos los hilos en espera y la entrada no se almacena.</p>
+ *
+ * <p>La expulsión por tamaño sigue el orden de inserción (FIFO) y las entradas
+ * vencidas se descartan al ser consultadas. Los valores {@code null} devueltos
+ * por el cargador no se almacenan.</p>
+ *
+ * @author Victor Manuel Rodriguez Ramirez
+ * @param <K> el tipo de las claves
+ * @param <V> el tipo de los valores
+ * @version 1.0.0 - Nueva caché acotada
+ */
+public final class BoundedCache<K, V> {
+
+    private final ConcurrentHashMap<K, Entry<K, V>> entries = new ConcurrentHashMap<>();
+
+    /** Entradas cargadas en orden de inserción, utilizadas para la expulsión por tamaño. */
+    private final ConcurrentLinkedQueue<Entry<K, V>> insertionOrder = new ConcurrentLinkedQueue<>();
+
+    /** Número aproximado de elementos en {@link #insertionOrder}, incluidos los obsoletos. */
+    private final AtomicLong queued = new AtomicLong();
+
+    private final long maximumSize;
+
+    private final long timeToLiveNanos;
+
+    /** Reloj en nanosegundos con el que se calcula el vencimiento de las entradas. */
+    private final LongSupplier clock;
+
+    /**
+     * Crea una nueva caché acotada.
+     *
+     * @param maximumSize número máximo de entradas cargadas que se conservan.
+     * @param timeToLive  tiempo de vida de cada entrada desde que se carga.
+     * @throws IllegalArgumentException si {@code maximumSize} no es positivo o
+     *         {@code timeToLive} es {@code null}, cero o negativo.
+     */
+    public BoundedCache(long maximumSize, Duration timeToLive) {
+        this(maximumSize, timeToLive, System::nanoTime);
+    }
+
+    /**
+     * Crea una nueva caché acotada que calcula los vencimientos con el reloj indicado.
+     *
+     * @param maximumSize número máximo de entradas cargadas que se conservan.
+     * @param timeToLive  tiempo de vida de cada entrada desde que se carga.
+     * @param clock       el reloj en nanosegundos, como {@link System#nanoTime()}.
+     * @throws IllegalArgumentException si {@code maximumSize} no es positivo o
+     *         {@code timeToLive} es {@code null}, cero o negativo.
+     */
+    BoundedCache(long maximumSize, Duration timeToLive, LongSupplier clock) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("El tamaño máximo de la caché debe ser positivo");
+        }
+        if (timeToLive == null || timeToLive.isNegative() || timeToLive.isZero()) {
+            throw new IllegalArgumentException("El tiempo de vida de la caché debe ser positivo");
+        }
+        this.maximumSize = maximumSize;
+        this.timeToLiveNanos = timeToLive.toNanos();
+        this.clock = Objects.requireNonNull(clock, "clock");
+    }
+
+    /**
+     * Obtiene el valor asociado a la clave, cargándolo si no está presente o
+     * si ha vencido.
+     *
+     * @param key    la clave a consultar.
+     * @param loader función que carga el valor cuando no está en caché.
+     * @return el valor almacenado o recién cargado; puede ser {@code null} si el
+     *         cargador devolvió {@code null}.
+     */
+    public V get(K key, Function<? super K, ? extends V> loader) {
+        Objects.requireNonNull(key, "key");
+        for (;;) {
+            Entry<K, V> current = entries.get(key);
+            if (current != null) {
+                if (!current.isExpired(clock.getAsLong())) {
+                    return current.await();
+                }
+                entries.remove(key, current);
+                continue;
+            }
+            Entry<K, V> created = new Entry<>(key);
+            if (entries.putIfAbsent(key, created) == null) {
+                return load(created, loader);
+            }
+        }
+    }
+
+    /**
+     * Obtiene el valor asociado a la clave sin cargarlo ni esperar a una carga
+     * en curso.
+     *
+     * @param key la clave a consultar.
+     * @return el valor almacenado, o {@code null} si no está presente, ha vencido
+     *         o todavía se está cargando.
+     */
+    public V getIfPresent(K key) {
+        Entry<K, V> current = key == null ? null : entries.get(key);
+        if (current == null || !current.future.isDone() || current.future.isCompletedExceptionally()
+                || current.isExpired(clock.getAsLong())) {
+            return null;
+        }
+        return current.future.getNow(null);
+    }
+
+    /**
+     * Descarta la entrada asociada a la clave, si existe. Una carga en curso
+     * para esa clave no se almacenará.
+     *
+     * @param key la clave a descartar.
+     */
+    public void invalidate(K key) {
+        if (key != null) {
+            entries.remove(key);
+        }
+    }
+
+    /**
+     * Descarta todas las entradas de la caché.
+     */
+    public void invalidateAll() {
+        entries.clear();
+        insertionOrder.clear();
+        queued.set(0);
+    }
+
+    /**
+     * Obtiene el número de entradas presentes, incluidas las cargas en curso.
+     *
+     * @return el número aproximado de entradas.
+     */
+    public long size() {
+        return entries.mappingCount();
+    }
+
+    private V load(Entry<K, V> entry, Function<? super K, ? extends V> loader) {
+        V value;
+        try {
+            value = loader.apply(entry.key);
+        } catch (RuntimeException | Error ex) {
+            entries.remove(entry.key, entry);
+            entry.future.completeExceptionally(ex);
+            throw ex;
+        }
+        if (value == null) {
+            entries.remove(entry.key, entry);
+            entry.future.complete(null);
+            return null;
+        }
+        entry.expiresAt = clock.getAsLong() + timeToLiveNanos;
+        entry.future.complete(value);
+        insertionOrder.offer(entry);
+        evictIfNeeded();
+        return value;
+    }
+
+    private void evictIfNeeded() {
+        while (entries.mappingCount() > maximumSize) {
+            Entry<K, V> eldest = insertionOrder.poll();
+            if (eldest == null) {
+                break;
+            }
+            queued.decrementAndGet();
+            entries.remove(eldest.key, eldest);
+        }
+        // Las entradas invalidadas permanecen en la cola; se purgan cuando superan el doble del límite
+        if (queued.incrementAndGet() > maximumSize * 2) {
+            insertionOrder.removeIf(e -> entries.get(e.key) != e);
+            queued.set(insertionOrder.size());
+        }
+    }
+
+    private static final class Entry<K, V> {
+
+        private final K key;
+
+        private final CompletableFuture<V> future = new CompletableFuture<>();
+
+        private volatile long expiresAt;
+
+        private Entry(K key) {
+            this.key = key;
+        }
+
+        private boolean isExpired(long now) {
+            return future.isDone() && now - expiresAt >= 0;
+        }
+
+        private V await() {
+            try {
+                return future.join();
+            } catch (CompletionException ex) {
+                Throwable cause = ex.getCause();
+                if (cause instanceof RuntimeException runtime) {
+                    throw runtime;
+                }
+                if (cause instanceof Error error) {
+                    throw error;
+                }
+                throw ex;
+            }
+        }
+    }
+
+}
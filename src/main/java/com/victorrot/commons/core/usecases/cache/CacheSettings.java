@@ -0,0 +1,43 @@
+package com.victorrot.commons.core.usecases.cache;
+
+import java.time.Duration;
+
+/**
+ * Configuración de los casos de uso con caché de lectura.
+ *
+ * @author Victor Manuel Rodriguez Ramirez
+ * @param maximumSize    número máximo de identificadores que se conservan en caché.
+ * @param timeToLive     tiempo de vida de cada entrada desde que se carga.
+ * @param cacheNegatives indica si los resultados vacíos ({@code Optional.empty()}
+ *                       o {@code false}) también se almacenan.
+ * @version 1.0.0 - Nueva configuración de caché
+ */
+public record CacheSettings(long maximumSize, Duration timeToLive, boolean cacheNegatives) {
+
+    /**
+     * Valida los parámetros de la configuración.
+     *
+     * @throws IllegalArgumentException si {@code maximumSize} no es positivo o
+     *         {@code timeToLive} es {@code null}, cero o negativo.
+     */
+    public CacheSettings {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("El tamaño máximo de la caché debe ser positivo");
+        }
+        if (timeToLive == null || timeToLive.isNegative() || timeToLive.isZero()) {
+            throw new IllegalArgumentException("El tiempo de vida de la caché debe ser positivo");
+        }
+    }
+
+    /**
+     * Crea una configuración que también almacena los resultados vacíos.
+     *
+     * @param maximumSize número máximo de identificadores que se conservan en caché.
+     * @param timeToLive  tiempo de vida de cada entrada desde que se carga.
+     * @return la configuración creada.
+     */
+    public static CacheSettings of(long maximumSize, Duration timeToLive) {
+        return new CacheSettings(maximumSize, timeToLive, true);
+    }
+
+}
@@ -0,0 +1,106 @@
+package com.victorrot.commons.core.usecases.cache;
+
+import com.victorrot.commons.core.usecases.CrudUseCase;
+import com.victorrot.commons.exceptions.ServiceException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Decorador con caché de lectura para {@link CrudUseCase}.
+ *
+ * <p>Además de la caché de {@link CachingReadOnlyUseCase}, invalida las entradas
+ * afectadas por las operaciones de escritura: {@code create} y {@code createAll}
+ * invalidan el identificador de cada entidad persistida (incluidos los resultados
+ * vacíos almacenados previamente), mientras que {@code delete} y {@code deleteAll}
+ * invalidan los identificadores eliminados. La invalidación se realiza después de
+ * que la operación del caso de uso decorado termina, incluso si falla.</p>
+ *
+ * @author Victor Manuel Rodriguez Ramirez
+ * @param <E>  el tipo de la entidad
+ * @param <ID> el tipo del identificador único de la entidad
+ *
+ * @see CachingReadOnlyUseCase
+ * @see ServiceException
+ * @version 1.0.0 - Nuevo decorador con caché
+ */
+public class CachingCrudUseCase<E, ID> extends CachingReadOnlyUseCase<E, ID> implements CrudUseCase<E, ID> {
+
+    private final CrudUseCase<E, ID> delegate;
+
+    private final Function<? super E, ? extends ID> idExtractor;
+
+    /**
+     * Crea un decorador con caché sobre el caso de uso CRUD indicado.
+     *
+     * @param delegate    el caso de uso CRUD decorado.
+     * @param idExtractor función que obtiene el identificador de una entidad persistida.
+     * @param settings    la configuración de la caché.
+     */
+    public CachingCrudUseCase(CrudUseCase<E, ID> delegate, Function<? super E, ? extends ID> idExtractor,
+            CacheSettings settings) {
+        super(delegate, settings);
+        this.delegate = delegate;
+        this.idExtractor = Objects.requireNonNull(idExtractor, "idExtractor");
+    }
+
+    @Override
+    public E create(E entity) {
+        E created = null;
+        try {
+            created = delegate.create(entity);
+            return created;
+        } finally {
+            invalidateEntity(created != null ? created : entity);
+        }
+    }
+
+    @Override
+    public List<E> createAll(Iterable<E> entities) {
+        List<E> created = null;
+        try {
+            created = delegate.createAll(entities);
+            return created;
+        } finally {
+            if (created != null) {
+                created.forEach(this::invalidateEntity);
+            } else {
+                invalidateAll();
+            }
+        }
+    }
+
+    @Override
+    public void delete(ID id) {
+        try {
+            delegate.delete(id);
+        } finally {
+            invalidate(id);
+        }
+    }
+
+    @Override
+    public void deleteAll(Iterable<ID> ids) {
+        // El caso de uso decorado puede consumir un iterable que solo se recorre una vez.
+        List<ID> copy = null;
+        if (ids != null) {
+            copy = new ArrayList<>();
+            ids.forEach(copy::add);
+        }
+        try {
+            delegate.deleteAll(copy);
+        } finally {
+            if (copy != null) {
+                copy.forEach(this::invalidate);
+            }
+        }
+    }
+
+    private void invalidateEntity(E entity) {
+        if (entity != null) {
+            invalidate(idExtractor.apply(entity));
+        }
+    }
+
+}
@@ -0,0 +1,119 @@
+package com.victorrot.commons.core.usecases.cache;
+
+import com.victorrot.commons.core.usecases.find.FindUseCase;
+import com.victorrot.commons.core.usecases.find.ReadOnlyUseCase;
+import com.victorrot.commons.exceptions.ServiceException;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * Decorador de lectura con caché para {@link ReadOnlyUseCase}.
+ *
+ * <p>Las consultas {@link #findById(Object)} y {@link #existsById(Object)} se
+ * resuelven desde una {@link BoundedCache} acotada por tamaño y tiempo de vida.
+ * Ante fallos simultáneos sobre el mismo identificador solo se ejecuta una
+ * consulta al caso de uso decorado. Las búsquedas en lote se delegan sin caché.</p>
+ *
+ * <p>Cuando una entidad ya se encuentra en caché, {@code existsById} se responde
+ * a partir de ella sin consultar al caso de uso decorado.</p>
+ *
+ * @author Victor Manuel Rodriguez Ramirez
+ * @param <E>  el tipo de la entidad
+ * @param <ID> el tipo del identificador único de la entidad
+ *
+ * @see CachingCrudUseCase
+ * @see ServiceException
+ * @version 1.0.0 - Nuevo decorador con caché
+ */
+public class CachingReadOnlyUseCase<E, ID> implements ReadOnlyUseCase<E, ID> {
+
+    private final ReadOnlyUseCase<E, ID> delegate;
+
+    private final boolean cacheNegatives;
+
+    private final BoundedCache<ID, Optional<E>> entities;
+
+    private final BoundedCache<ID, Boolean> existence;
+
+    /**
+     * Crea un decorador con caché sobre el caso de uso indicado.
+     *
+     * @param delegate el caso de uso de lectura decorado.
+     * @param settings la configuración de la caché.
+     */
+    public CachingReadOnlyUseCase(ReadOnlyUseCase<E, ID> delegate, CacheSettings settings) {
+        this.delegate = Objects.requireNonNull(delegate, "delegate");
+        Objects.requireNonNull(settings, "settings");
+        this.cacheNegatives = settings.cacheNegatives();
+        this.entities = new BoundedCache<>(settings.maximumSize(), settings.timeToLive());
+        this.existence = new BoundedCache<>(settings.maximumSize(), settings.timeToLive());
+    }
+
+    @Override
+    public Optional<E> findById(ID id) {
+        requireId(id);
+        Optional<E> found = entities.get(id, key -> {
+            Optional<E> loaded = delegate.findById(key);
+            return loaded.isPresent() || cacheNegatives ? loaded : null;
+        });
+        return found == null ? Optional.empty() : found;
+    }
+
+    @Override
+    public boolean existsById(ID id) {
+        requireId(id);
+        Optional<E> cached = entities.getIfPresent(id);
+        if (cached != null) {
+            return cached.isPresent();
+        }
+        Boolean exists = existence.get(id, key -> {
+            boolean loaded = delegate.existsById(key);
+            return loaded || cacheNegatives ? loaded : null;
+        });
+        return Boolean.TRUE.equals(exists);
+    }
+
+    @Override
+    public List<E> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override
+    public Page<E> findAll(Pageable pageable) {
+        return delegate.findAll(pageable);
+    }
+
+    /**
+     * Descarta de la caché la información asociada al identificador.
+     *
+     * @param id el identificador a descartar.
+     */
+    public void invalidate(ID id) {
+        entities.invalidate(id);
+        existence.invalidate(id);
+    }
+
+    /**
+     * Descarta de la caché la información asociada a todos los identificadores.
+     */
+    public void invalidateAll() {
+        entities.invalidateAll();
+        existence.invalidateAll();
+    }
+
+    /**
+     * Valida el identificador según el contrato de {@link FindUseCase}.
+     *
+     * @param id el identificador a validar.
+     * @throws IllegalArgumentException si {@code id} es {@code null}.
+     */
+    protected static void requireId(Object id) {
+        if (id == null) {
+            throw new IllegalArgumentException("El identificador no puede ser nulo");
+        }
+    }
+
+}
@@ -0,0 +1,196 @@
+package com.victorrot.commons.core.usecases.coalescing;
+
+import com.victorrot.commons.core.usecases.find.BatchFindByIdUseCase;
+import com.victorrot.commons.core.usecases.find.FindUseCase;
+import com.victorrot.commons.exceptions.ServiceException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Implementación de {@link FindUseCase} que agrupa las consultas concurrentes
+ * por identificador en una sola consulta en lote.
+ *
+ * <p>Las llamadas a {@link #findById(Object)} que llegan dentro de la ventana
+ * {@link CoalescingSettings#maxDelay()} se acumulan y se resuelven con una única
+ * invocación a {@link BatchFindByIdUseCase#findAllById(java.util.Collection)}.
+ * El lote se envía de inmediato cuando alcanza {@link CoalescingSettings#maxBatchSize()}.
+ * Los identificadores repetidos dentro de un mismo lote se consultan una sola vez.
+ * Si la consulta en lote falla, todas las llamadas del lote reciben la misma excepción.</p>
+ *
+ * <p>{@link #existsById(Object)} se resuelve mediante la misma consulta en lote,
+ * por lo que recupera la entidad completa. La instancia debe cerrarse con
+ * {@link #close()} para liberar el hilo planificador; las consultas pendientes se
+ * envían antes de cerrar.</p>
+ *
+ * @author Victor Manuel Rodriguez Ramirez
+ * @param <E>  el tipo de la entidad
+ * @param <ID> el tipo del identificador único de la entidad
+ *
+ * @see BatchFindByIdUseCase
+ * @see ServiceException
+ * @version 1.0.0 - Nueva agrupación de consultas
+ */
+@Slf4j
+public class CoalescingFindUseCase<E, ID> implements FindUseCase<E, ID>, AutoCloseable {
+
+    private final BatchFindByIdUseCase<E, ID> delegate;
+
+    private final long maxDelayNanos;
+
+    private final int maxBatchSize;
+
+    private final ScheduledExecutorService scheduler;
+
+    private final ExecutorService dispatcher;
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private Map<ID, CompletableFuture<Optional<E>>> pending = new LinkedHashMap<>();
+
+    /** Generación del lote en curso; evita que un temporizador vencido envíe un lote posterior. */
+    private long generation;
+
+    private ScheduledFuture<?> timer;
+
+    private boolean closed;
+
+    /**
+     * Crea un caso de uso que agrupa las consultas sobre el caso de uso en lote indicado.
+     *
+     * @param delegate el caso de uso que resuelve las consultas en lote.
+     * @param settings la configuración de la agrupación.
+     */
+    public CoalescingFindUseCase(BatchFindByIdUseCase<E, ID> delegate, CoalescingSettings settings) {
+        this.delegate = Objects.requireNonNull(delegate, "delegate");
+        this.maxDelayNanos = settings.maxDelay().toNanos();
+        this.maxBatchSize = settings.maxBatchSize();
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "coalescing-find-timer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.dispatcher = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("coalescing-find-", 0).factory());
+    }
+
+    @Override
+    public Optional<E> findById(ID id) {
+        if (id == null) {
+            throw new IllegalArgumentException("El identificador no puede ser nulo");
+        }
+        CompletableFuture<Optional<E>> result;
+        Map<ID, CompletableFuture<Optional<E>>> full = null;
+        lock.lock();
+        try {
+            if (closed) {
+                throw new IllegalStateException("El caso de uso de agrupación está cerrado");
+            }
+            result = pending.computeIfAbsent(id, key -> new CompletableFuture<>());
+            if (pending.size() >= maxBatchSize) {
+                full = takePending();
+            } else if (timer == null) {
+                long scheduled = generation;
+                timer = scheduler.schedule(() -> flushExpired(scheduled), maxDelayNanos, TimeUnit.NANOSECONDS);
+            }
+        } finally {
+            lock.unlock();
+        }
+        if (full != null) {
+            dispatch(full);
+        }
+        return await(result);
+    }
+
+    @Override
+    public boolean existsById(ID id) {
+        return findById(id).isPresent();
+    }
+
+    /**
+     * Envía las consultas pendientes y libera los hilos de la agrupación.
+     */
+    @Override
+    public void close() {
+        Map<ID, CompletableFuture<Optional<E>>> remaining;
+        lock.lock();
+        try {
+            closed = true;
+            remaining = takePending();
+        } finally {
+            lock.unlock();
+        }
+        if (!remaining.isEmpty()) {
+            dispatch(remaining);
+        }
+        scheduler.shutdownNow();
+        dispatcher.shutdown();
+    }
+
+    private void flushExpired(long scheduled) {
+        Map<ID, CompletableFuture<Optional<E>>> expired;
+        lock.lock();
+        try {
+            if (scheduled != generation || pending.isEmpty()) {
+                return;
+            }
+            expired = takePending();
+        } finally {
+            lock.unlock();
+        }
+        try {
+            dispatcher.execute(() -> dispatch(expired));
+        } catch (RejectedExecutionException ex) {
+            // close() apagó el despachador después de tomar el lote; se resuelve aquí para no dejar llamadas esperando.
+            dispatch(expired);
+        }
+    }
+
+    /** Debe invocarse con {@link #lock} adquirido. */
+    private Map<ID, CompletableFuture<Optional<E>>> takePending() {
+        Map<ID, CompletableFuture<Optional<E>>> batch = pending;
+        pending = new LinkedHashMap<>();
+        generation++;
+        if (timer != null) {
+            timer.cancel(false);
+            timer = null;
+        }
+        return batch;
+    }
+
+    private void dispatch(Map<ID, CompletableFuture<Optional<E>>> batch) {
+        try {
+            Map<ID, E> found = delegate.findAllById(batch.keySet());
+            batch.forEach((id, future) -> future.complete(Optional.ofNullable(found.get(id))));
+        } catch (RuntimeException | Error ex) {
+            log.debug("Falló la consulta agrupada de {} identificadores", batch.size(), ex);
+            batch.values().forEach(future -> future.completeExceptionally(ex));
+        }
+    }
+
+    private static <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException ex) {
+            Throwable cause = ex.getCause();
+            if (cause instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw ex;
+        }
+    }
+
+}
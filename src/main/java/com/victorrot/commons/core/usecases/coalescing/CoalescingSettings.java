@@ -0,0 +1,31 @@
+package com.victorrot.commons.core.usecases.coalescing;
+
+import java.time.Duration;
+
+/**
+ * Configuración de la agrupación de consultas individuales en consultas en lote.
+ *
+ * @author Victor Manuel Rodriguez Ramirez
+ * @param maxDelay     tiempo máximo que una consulta espera a que se forme el lote.
+ * @param maxBatchSize número de identificadores a partir del cual el lote se
+ *                     envía sin esperar a que venza {@code maxDelay}.
+ * @version 1.0.0 - Nueva configuración de agrupación
+ */
+public record CoalescingSettings(Duration maxDelay, int maxBatchSize) {
+
+    /**
+     * Valida los parámetros de la configuración.
+     *
+     * @throws IllegalArgumentException si {@code maxDelay} es {@code null} o
+     *         negativo, o si {@code maxBatchSize} no es positivo.
+     */
+    public CoalescingSettings {
+        if (maxDelay == null || maxDelay.isNegative()) {
+            throw new IllegalArgumentException("El tiempo de espera del lote no puede ser nulo ni negativo");
+        }
+        if (maxBatchSize <= 0) {
+            throw new IllegalArgumentException("El tamaño máximo del lote debe ser positivo");
+        }
+    }
+
+}
@@ -0,0 +1,43 @@
+package com.victorrot.commons.core.usecases.delete;
+
+import com.victorrot.commons.exceptions.ServiceException;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Caso de uso genérico y asíncrono para la eliminación de entidades.
+ *
+ * <p>Esta interfaz es la contraparte asíncrona de {@link DeleteOnlyUseCase}:
+ * cada operación devuelve de inmediato un {@link CompletableFuture} que se completa
+ * al terminar la eliminación, o de forma excepcional con la {@link ServiceException}
+ * producida.</p>
+ *
+ * @param <ID> el tipo del identificador único de las entidades a eliminar
+ *
+ * @see DeleteOnlyUseCase
+ * @see ServiceException
+ * 
+ * @author Victor Manuel Rodriguez Ramirez <victorrot44@gmail.com>
+ * 
+ * @version 1.0.0 - New use case
+ */
+public interface AsyncDeleteUseCase<ID> {
+
+    /**
+     * Elimina la entidad correspondiente al identificador proporcionado.
+     *
+     * @param id el identificador de la entidad que se debe eliminar
+     * @return un futuro que se completa al terminar la eliminación.
+     * @throws IllegalArgumentException si {@code id} es {@code null}
+     */
+    CompletableFuture<Void> delete(ID id);
+
+    /**
+     * Elimina todas las entidades correspondientes a los identificadores proporcionados.
+     *
+     * @param ids un iterable de identificadores de las entidades que se deben eliminar
+     * @return un futuro que se completa al terminar la eliminación.
+     * @throws IllegalArgumentException si {@code ids} es {@code null}
+     */
+    CompletableFuture<Void> deleteAll(Iterable<ID> ids);
+    
+}
@@ -0,0 +1,50 @@
+package com.victorrot.commons.core.usecases.delete;
+
+import com.victorrot.commons.exceptions.ServiceException;
+
+/**
+ * Caso de uso genérico para la eliminación masiva de entidades mediante
+ * sentencias sobre conjuntos de identificadores.
+ *
+ * <p>A diferencia de una implementación habitual de {@link BatchDeleteUseCase},
+ * que carga cada entidad y la elimina de forma individual, esta interfaz define un
+ * contrato para eliminar las entidades directamente con sentencias del tipo
+ * {@code DELETE ... WHERE id IN (...)}, sin cargarlas, e informar el número de
+ * filas eliminadas.</p>
+ *
+ * @param <ID> el tipo del identificador único de las entidades a eliminar
+ *
+ * @see BatchDeleteUseCase
+ * @see ServiceException
+ * 
+ * @author Victor Manuel Rodriguez Ramirez <victorrot44@gmail.com>
+ * 
+ * @version 1.0.0 - New use case
+ */
+public interface BulkDeleteUseCase<ID> extends BatchDeleteUseCase<ID> {
+
+    /**
+     * Elimina todas las entidades correspondientes a los identificadores proporcionados
+     * sin cargarlas previamente.
+     *
+     * @param ids un iterable de identificadores de las entidades que se deben eliminar
+     * @return el número de filas eliminadas
+     * @throws IllegalArgumentException si {@code ids} es {@code null} o contiene elementos {@code null}
+     * @throws ServiceException si la eliminación no puede completarse
+     */
+    long deleteAllInBulk(Iterable<ID> ids);
+
+    /**
+     * Elimina todas las entidades correspondientes a los identificadores proporcionados
+     * mediante {@link #deleteAllInBulk(Iterable)}.
+     *
+     * @param ids un iterable de identificadores de las entidades que se deben eliminar
+     * @throws IllegalArgumentException si {@code ids} es {@code null} o contiene elementos {@code null}
+     * @throws ServiceException si la eliminación no puede completarse
+     */
+    @Override
+    default void deleteAll(Iterable<ID> ids) {
+        deleteAllInBulk(ids);
+    }
+    
+}
@@ -0,0 +1,63 @@
+package com.victorrot.commons.core.usecases.find;
+
+import com.victorrot.commons.exceptions.ServiceException;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * Caso de uso genérico y asíncrono de solo lectura para entidades.
+ *
+ * <p>Esta interfaz es la contraparte asíncrona de {@link ReadOnlyUseCase}: cada
+ * operación devuelve de inmediato un {@link CompletableFuture} que se completa con
+ * el resultado, o de forma excepcional con la {@link ServiceException} producida.
+ * Permite lanzar varias consultas en paralelo sin bloquear el hilo que las solicita.</p>
+ * 
+ * @author Victor Manuel Rodriguez Ramirez
+ * @param <E>  el tipo de la entidad que se desea buscar
+ * @param <ID> el tipo del identificador único de la entidad
+ * 
+ * @see ReadOnlyUseCase
+ * @see ServiceException
+ * @version 1.0.0 - New use case
+ */
+public interface AsyncFindUseCase<E, ID> {
+    
+    /**
+     * Busca una entidad por su identificador.
+     *
+     * @param id el identificador único de la entidad
+     * @return un futuro con un {@link Optional} que contiene la entidad encontrada, 
+     *         o vacío si no existe.
+     * @throws IllegalArgumentException si {@code id} es {@code null}.
+     */
+    CompletableFuture<Optional<E>> findById(ID id);
+    
+    /**
+     * Verifica si existe una entidad con el identificador proporcionado.
+     *
+     * @param id el identificador único de la entidad.
+     * @return un futuro con {@code true} si la entidad existe, {@code false} en caso contrario.
+     * @throws IllegalArgumentException si {@code id} es {@code null}.
+     */
+    CompletableFuture<Boolean> existsById(ID id);
+    
+    /**
+     * Recupera todas las entidades disponibles sin paginación.
+     * 
+     * @return un futuro con una lista con todas las entidades encontradas.
+     */
+    CompletableFuture<List<E>> findAll();
+    
+    /**
+     * Recupera todas las entidades disponibles con paginación.
+     * 
+     * @param pageable la información de paginación y ordenamiento.
+     * @return un futuro con una página con las entidades encontradas.
+     * @throws IllegalArgumentException si {@code pageable} es {@code null}.
+     */
+    CompletableFuture<Page<E>> findAll(Pageable pageable);
+    
+}
@@ -0,0 +1,84 @@
+package com.victorrot.commons.core.usecases.find;
+
+import com.victorrot.commons.exceptions.ServiceException;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Caso de uso genérico para la búsqueda en lote de entidades a partir de sus
+ * identificadores.
+ *
+ * <p>Esta interfaz define un contrato para obtener varias entidades en una sola
+ * consulta, en lugar de invocar {@link FindUseCase#findById(Object)} por cada
+ * identificador. Es utilizada típicamente en arquitecturas limpias o hexagonales
+ * como puerto de entrada (Use Case), delegando la lógica de acceso a datos a los
+ * adaptadores correspondientes.</p>
+ * 
+ * @author Victor Manuel Rodriguez Ramirez
+ * @param <E>  el tipo de la entidad que se desea buscar
+ * @param <ID> el tipo del identificador único de la entidad
+ * 
+ * @see FindUseCase
+ * @see BatchFindUseCase
+ * @see ServiceException
+ * @version 1.0.0 - New use case
+ */
+public interface BatchFindByIdUseCase<E, ID> {
+    
+    /**
+     * Busca las entidades correspondientes a los identificadores proporcionados.
+     *
+     * @param ids los identificadores de las entidades a buscar.
+     * @return un mapa con las entidades encontradas indexadas por su identificador;
+     *         los identificadores sin entidad no aparecen en el mapa.
+     * @throws IllegalArgumentException si {@code ids} es {@code null} o contiene elementos {@code null}.
+     * @throws ServiceException si ocurre un error en la obtención de los datos.
+     */
+    Map<ID, E> findAllById(Collection<ID> ids);
+
+    /**
+     * Verifica la existencia de las entidades correspondientes a los identificadores
+     * proporcionados.
+     *
+     * <p>La implementación por defecto se basa en {@link #findAllById(Collection)};
+     * las implementaciones que puedan consultar solo los identificadores deberían
+     * sobrescribirla.</p>
+     *
+     * @param ids los identificadores de las entidades a verificar.
+     * @return un {@link BitSet} en el que el bit {@code i} está activo si existe la
+     *         entidad del identificador en la posición {@code i} de {@code ids}.
+     * @throws IllegalArgumentException si {@code ids} es {@code null} o contiene elementos {@code null}.
+     * @throws ServiceException si ocurre un error durante la verificación.
+     */
+    default BitSet existsAllById(List<ID> ids) {
+        Map<ID, E> found = findAllById(ids);
+        BitSet existing = new BitSet(ids.size());
+        for (int i = 0; i < ids.size(); i++) {
+            if (found.containsKey(ids.get(i))) {
+                existing.set(i);
+            }
+        }
+        return existing;
+    }
+
+    /**
+     * Adapta un caso de uso de búsqueda individual a la búsqueda en lote.
+     *
+     * <p>El adaptador resuelve cada identificador distinto con una llamada a
+     * {@link FindUseCase#findById(Object)} o {@link FindUseCase#existsById(Object)},
+     * por lo que no reduce el número de consultas; permite utilizar las
+     * implementaciones existentes, como cualquier {@link ReadOnlyUseCase}, donde se
+     * requiere un {@code BatchFindByIdUseCase}.</p>
+     *
+     * @param <E>    el tipo de la entidad
+     * @param <ID>   el tipo del identificador único de la entidad
+     * @param finder el caso de uso de búsqueda individual.
+     * @return el caso de uso de búsqueda en lote.
+     */
+    static <E, ID> BatchFindByIdUseCase<E, ID> of(FindUseCase<E, ID> finder) {
+        return new FindUseCaseBatchAdapter<>(finder);
+    }
+    
+}
@@ -0,0 +1,69 @@
+package com.victorrot.commons.core.usecases.find;
+
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Adaptador de {@link FindUseCase} a {@link BatchFindByIdUseCase} que resuelve cada
+ * identificador distinto con una consulta individual.
+ *
+ * @author Victor Manuel Rodriguez Ramirez
+ * @param <E>  el tipo de la entidad
+ * @param <ID> el tipo del identificador único de la entidad
+ *
+ * @see BatchFindByIdUseCase#of(FindUseCase)
+ * @version 1.0.0 - Nuevo adaptador de búsqueda en lote
+ */
+final class FindUseCaseBatchAdapter<E, ID> implements BatchFindByIdUseCase<E, ID> {
+
+    private final FindUseCase<E, ID> finder;
+
+    FindUseCaseBatchAdapter(FindUseCase<E, ID> finder) {
+        this.finder = Objects.requireNonNull(finder, "finder");
+    }
+
+    @Override
+    public Map<ID, E> findAllById(Collection<ID> ids) {
+        requireIds(ids);
+        Map<ID, E> found = new LinkedHashMap<>();
+        Set<ID> visited = new HashSet<>();
+        for (ID id : ids) {
+            if (visited.add(id)) {
+                finder.findById(id).ifPresent(entity -> found.put(id, entity));
+            }
+        }
+        return found;
+    }
+
+    @Override
+    public BitSet existsAllById(List<ID> ids) {
+        requireIds(ids);
+        Map<ID, Boolean> checked = new HashMap<>();
+        BitSet existing = new BitSet(ids.size());
+        for (int i = 0; i < ids.size(); i++) {
+            if (checked.computeIfAbsent(ids.get(i), finder::existsById)) {
+                existing.set(i);
+            }
+        }
+        return existing;
+    }
+
+    private static void requireIds(Collection<?> ids) {
+        if (ids == null) {
+            throw new IllegalArgumentException("Los identificadores no pueden ser nulos");
+        }
+        for (Object id : ids) {
+            if (id == null) {
+                throw new IllegalArgumentException("Los identificadores no pueden contener elementos nulos");
+            }
+        }
+    }
+
+}
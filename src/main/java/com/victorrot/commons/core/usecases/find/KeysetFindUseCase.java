@@ -0,0 +1,51 @@
+package com.victorrot.commons.core.usecases.find;
+
+import com.victorrot.commons.exceptions.ServiceException;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+
+/**
+ * Caso de uso genérico para la búsqueda paginada de entidades por conjunto de
+ * claves (<i>keyset</i> o <i>seek pagination</i>).
+ *
+ * <p>A diferencia de {@link BatchFindUseCase#findAll(org.springframework.data.domain.Pageable)},
+ * que utiliza desplazamiento y requiere una consulta de conteo, cada página se
+ * obtiene a partir de los valores de la clave de ordenamiento de la última entidad
+ * vista, por lo que su costo no depende de la profundidad de la página. El resultado
+ * es una {@link Window} sin total de elementos; la posición para continuar se obtiene
+ * con {@link Window#positionAt(int)} sobre el último elemento recibido:</p>
+ * <pre>
+ * Window&lt;Customer&gt; window = useCase.findAll(ScrollPosition.keyset(), 100);
+ * while (!window.isEmpty()) {
+ *     window.forEach(processor::process);
+ *     if (!window.hasNext()) {
+ *         break;
+ *     }
+ *     window = useCase.findAll((KeysetScrollPosition) window.positionAt(window.size() - 1), 100);
+ * }
+ * </pre>
+ * 
+ * @author Victor Manuel Rodriguez Ramirez
+ * @param <E> el tipo de la entidad que se desea buscar
+ * 
+ * @see BatchFindUseCase
+ * @see ServiceException
+ * @version 1.0.0 - New use case
+ */
+public interface KeysetFindUseCase<E> {
+    
+    /**
+     * Recupera la página de entidades que sigue a la posición indicada.
+     * 
+     * @param position la posición de continuación; {@link ScrollPosition#keyset()}
+     *                 para la primera página.
+     * @param limit    el número máximo de entidades de la página.
+     * @return la ventana con las entidades encontradas y las posiciones de continuación.
+     * @throws IllegalArgumentException si {@code position} es {@code null} o
+     *         {@code limit} no es positivo.
+     * @throws ServiceException si ocurre un error en la obtención de los datos.
+     */
+    Window<E> findAll(KeysetScrollPosition position, int limit);
+    
+}
@@ -0,0 +1,74 @@
+package com.victorrot.commons.core.usecases.find;
+
+import com.victorrot.commons.exceptions.ServiceException;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * Caso de uso genérico para la búsqueda de proyecciones de entidades.
+ *
+ * <p>Esta interfaz define las variantes de {@link FindUseCase},
+ * {@link BatchFindUseCase} y {@link BatchFindByIdUseCase} que devuelven una
+ * proyección en lugar de la entidad completa: una interfaz con métodos de acceso o
+ * un {@code record}, cuyas propiedades determinan los únicos datos que se
+ * consultan. Es utilizada típicamente en arquitecturas limpias o hexagonales como
+ * puerto de entrada (Use Case), delegando la lógica de acceso a datos a los
+ * adaptadores correspondientes.</p>
+ *
+ * @author Victor Manuel Rodriguez Ramirez
+ * @param <ID> el tipo del identificador único de la entidad
+ *
+ * @see FindUseCase
+ * @see BatchFindUseCase
+ * @see BatchFindByIdUseCase
+ * @see ServiceException
+ * @version 1.0.0 - New use case
+ */
+public interface ProjectionFindUseCase<ID> {
+
+    /**
+     * Busca la proyección de una entidad por su identificador.
+     *
+     * @param <P>        el tipo de la proyección
+     * @param id         el identificador único de la entidad.
+     * @param projection el tipo de la proyección.
+     * @return un {@link Optional} con la proyección, o vacío si la entidad no existe.
+     * @throws IllegalArgumentException si {@code id} o {@code projection} son
+     *         {@code null}, o si {@code projection} no es una proyección admitida.
+     * @throws ServiceException si ocurre un error en la obtención de los datos.
+     */
+    <P> Optional<P> findById(ID id, Class<P> projection);
+
+    /**
+     * Recupera las proyecciones de las entidades con paginación.
+     *
+     * @param <P>        el tipo de la proyección
+     * @param pageable   la información de paginación y ordenamiento.
+     * @param projection el tipo de la proyección.
+     * @return una página con las proyecciones encontradas.
+     * @throws IllegalArgumentException si {@code pageable} o {@code projection} son
+     *         {@code null}, o si {@code projection} no es una proyección admitida.
+     * @throws ServiceException si ocurre un error en la obtención de los datos.
+     */
+    <P> Page<P> findAll(Pageable pageable, Class<P> projection);
+
+    /**
+     * Busca las proyecciones de las entidades correspondientes a los identificadores
+     * proporcionados.
+     *
+     * @param <P>        el tipo de la proyección
+     * @param ids        los identificadores de las entidades a buscar.
+     * @param projection el tipo de la proyección.
+     * @return un mapa con las proyecciones encontradas indexadas por el identificador
+     *         de su entidad; los identificadores sin entidad no aparecen en el mapa.
+     * @throws IllegalArgumentException si {@code ids} es {@code null} o contiene
+     *         elementos {@code null}, o si {@code projection} es {@code null} o no es
+     *         una proyección admitida.
+     * @throws ServiceException si ocurre un error en la obtención de los datos.
+     */
+    <P> Map<ID, P> findAllById(Collection<ID> ids, Class<P> projection);
+
+}
@@ -0,0 +1,34 @@
+package com.victorrot.commons.core.usecases.find;
+
+import com.victorrot.commons.exceptions.ServiceException;
+import java.util.concurrent.Flow;
+
+/**
+ * Caso de uso genérico para la lectura reactiva de todas las entidades con
+ * control de contrapresión.
+ *
+ * <p>Esta interfaz define un contrato para entregar las entidades a un
+ * {@link Flow.Subscriber} a medida que las solicita mediante
+ * {@link Flow.Subscription#request(long)}, sin acumular el resultado completo en
+ * memoria ni bloquear al consumidor. Cada suscripción ejecuta su propia lectura.</p>
+ * 
+ * @author Victor Manuel Rodriguez Ramirez
+ * @param <E> el tipo de la entidad que se desea buscar
+ * 
+ * @see BatchFindUseCase
+ * @see ServiceException
+ * @version 1.0.0 - New use case
+ */
+public interface PublisherFindUseCase<E> {
+    
+    /**
+     * Crea un publicador de todas las entidades disponibles.
+     * 
+     * <p>Los errores en la obtención de los datos se notifican mediante
+     * {@link Flow.Subscriber#onError(Throwable)} con una {@link ServiceException}.</p>
+     * 
+     * @return un publicador que entrega las entidades según la demanda de cada suscriptor.
+     */
+    Flow.Publisher<E> publishAll();
+    
+}
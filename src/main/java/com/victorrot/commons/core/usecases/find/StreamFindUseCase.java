@@ -0,0 +1,56 @@
+package com.victorrot.commons.core.usecases.find;
+
+import com.victorrot.commons.exceptions.ServiceException;
+import java.util.stream.Stream;
+
+/**
+ * Caso de uso genérico para la lectura secuencial de todas las entidades sin
+ * cargarlas completas en memoria.
+ *
+ * <p>A diferencia de {@link BatchFindUseCase#findAll()}, que devuelve una lista
+ * con todas las entidades, esta interfaz devuelve un {@link Stream} respaldado
+ * por un cursor que obtiene las filas en bloques de tamaño configurable. El
+ * consumo de memoria no depende del número total de entidades.</p>
+ *
+ * <p>El flujo mantiene abiertos los recursos de la consulta hasta que se cierra,
+ * por lo que debe consumirse dentro de un bloque <i>try-with-resources</i>:</p>
+ * <pre>
+ * try (Stream&lt;Customer&gt; customers = useCase.streamAll(500)) {
+ *     customers.forEach(processor::process);
+ * }
+ * </pre>
+ * 
+ * @author Victor Manuel Rodriguez Ramirez
+ * @param <E> el tipo de la entidad que se desea buscar
+ * 
+ * @see BatchFindUseCase
+ * @see ServiceException
+ * @version 1.0.0 - New use case
+ */
+public interface StreamFindUseCase<E> {
+    
+    /** Número de filas obtenidas por bloque cuando no se especifica otro. */
+    int DEFAULT_FETCH_SIZE = 1000;
+    
+    /**
+     * Recupera todas las entidades disponibles como un flujo secuencial, con el
+     * tamaño de bloque por defecto {@link #DEFAULT_FETCH_SIZE}.
+     * 
+     * @return un flujo que debe cerrarse para liberar los recursos de la consulta.
+     * @throws ServiceException si ocurre un error en la obtención de los datos.
+     */
+    default Stream<E> streamAll() {
+        return streamAll(DEFAULT_FETCH_SIZE);
+    }
+    
+    /**
+     * Recupera todas las entidades disponibles como un flujo secuencial.
+     * 
+     * @param fetchSize el número de filas que se obtienen en cada bloque.
+     * @return un flujo que debe cerrarse para liberar los recursos de la consulta.
+     * @throws IllegalArgumentException si {@code fetchSize} es negativo.
+     * @throws ServiceException si ocurre un error en la obtención de los datos.
+     */
+    Stream<E> streamAll(int fetchSize);
+    
+}
@@ -0,0 +1,72 @@
+package com.victorrot.commons.core.usecases.jdbc;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Utilidades para construir sentencias con listas {@code IN (...)} divididas en
+ * bloques acordes con los límites de parámetros de cada controlador.
+ *
+ * @author Victor Manuel Rodriguez Ramirez
+ * @version 1.0.0 - Nuevas utilidades de listas IN
+ */
+final class InLists {
+
+    private InLists() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * Divide los valores, sin duplicados y conservando el orden, en bloques del
+     * tamaño indicado.
+     *
+     * @param <T>    el tipo de los valores
+     * @param values los valores a dividir.
+     * @param size   el tamaño máximo de cada bloque.
+     * @return los bloques de valores.
+     * @throws IllegalArgumentException si {@code values} es {@code null} o contiene
+     *         elementos {@code null}.
+     */
+    static <T> List<List<T>> partition(Iterable<T> values, int size) {
+        if (values == null) {
+            throw new IllegalArgumentException("Los identificadores no pueden ser nulos");
+        }
+        Set<T> distinct = new LinkedHashSet<>();
+        for (T value : values) {
+            if (value == null) {
+                throw new IllegalArgumentException("Los identificadores no pueden contener elementos nulos");
+            }
+            distinct.add(value);
+        }
+        List<List<T>> chunks = new ArrayList<>((distinct.size() + size - 1) / size);
+        List<T> chunk = new ArrayList<>(Math.min(size, distinct.size()));
+        for (T value : distinct) {
+            chunk.add(value);
+            if (chunk.size() == size) {
+                chunks.add(chunk);
+                chunk = new ArrayList<>(size);
+            }
+        }
+        if (!chunk.isEmpty()) {
+            chunks.add(chunk);
+        }
+        return chunks;
+    }
+
+    /**
+     * Genera la lista de marcadores de parámetros de una cláusula {@code IN}.
+     *
+     * @param count el número de marcadores.
+     * @return el texto {@code ?, ?, ...} con {@code count} marcadores.
+     */
+    static String placeholders(int count) {
+        StringBuilder builder = new StringBuilder(count * 3);
+        for (int i = 0; i < count; i++) {
+            builder.append(i == 0 ? "?" : ", ?");
+        }
+        return builder.toString();
+    }
+
+}
@@ -0,0 +1,178 @@
+package com.victorrot.commons.core.usecases.jdbc;
+
+import com.victorrot.commons.core.usecases.find.BatchFindByIdUseCase;
+import com.victorrot.commons.core.usecases.find.FindUseCase;
+import com.victorrot.commons.exceptions.ServiceException;
+import com.victorrot.commons.exceptions.ServiceExceptionFactory;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.SingleColumnRowMapper;
+
+/**
+ * Implementación JDBC de {@link BatchFindByIdUseCase} y {@link FindUseCase} sobre
+ * una tabla, basada en sentencias {@code SELECT ... WHERE id IN (...)}.
+ *
+ * <p>Los identificadores se consultan sin duplicados en bloques cuyo tamaño no
+ * supera {@link SqlDialect#maxInListSize()}, de modo que verificar 1 000
+ * identificadores requiere una sola sentencia. {@link #existsAllById(List)}
+ * consulta solo la columna del identificador, convertida al tipo indicado para
+ * compararla con los identificadores recibidos.</p>
+ *
+ * @author Victor Manuel Rodriguez Ramirez
+ * @param <E>  el tipo de la entidad
+ * @param <ID> el tipo del identificador único de la entidad
+ *
+ * @see BatchFindByIdUseCase
+ * @see ServiceException
+ * @version 1.0.0 - Nueva búsqueda en lote JDBC
+ */
+public class JdbcBatchFindByIdUseCase<E, ID> implements BatchFindByIdUseCase<E, ID>, FindUseCase<E, ID> {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final String table;
+
+    private final String idColumn;
+
+    private final RowMapper<E> rowMapper;
+
+    private final Function<? super E, ? extends ID> idExtractor;
+
+    private final RowMapper<ID> idMapper;
+
+    private final int chunkSize;
+
+    /**
+     * Crea un caso de uso de búsqueda en lote con el tamaño de bloque máximo del dialecto.
+     *
+     * @param jdbcTemplate el acceso JDBC.
+     * @param dialect      el dialecto SQL del motor de base de datos.
+     * @param table        la tabla de las entidades.
+     * @param idColumn     la columna del identificador.
+     * @param idType       el tipo del identificador.
+     * @param rowMapper    la conversión de cada fila en una entidad.
+     * @param idExtractor  función que obtiene el identificador de una entidad.
+     */
+    public JdbcBatchFindByIdUseCase(JdbcTemplate jdbcTemplate, SqlDialect dialect, String table, String idColumn,
+            Class<ID> idType, RowMapper<E> rowMapper, Function<? super E, ? extends ID> idExtractor) {
+        this(jdbcTemplate, dialect, table, idColumn, idType, rowMapper, idExtractor, dialect.maxInListSize());
+    }
+
+    /**
+     * Crea un caso de uso de búsqueda en lote.
+     *
+     * @param jdbcTemplate el acceso JDBC.
+     * @param dialect      el dialecto SQL del motor de base de datos.
+     * @param table        la tabla de las entidades.
+     * @param idColumn     la columna del identificador.
+     * @param idType       el tipo del identificador.
+     * @param rowMapper    la conversión de cada fila en una entidad.
+     * @param idExtractor  función que obtiene el identificador de una entidad.
+     * @param chunkSize    el número de identificadores por sentencia; se reduce al
+     *                     máximo del dialecto si lo supera.
+     * @throws IllegalArgumentException si la tabla o la columna no son identificadores
+     *         SQL válidos, o si {@code chunkSize} no es positivo.
+     */
+    public JdbcBatchFindByIdUseCase(JdbcTemplate jdbcTemplate, SqlDialect dialect, String table, String idColumn,
+            Class<ID> idType, RowMapper<E> rowMapper, Function<? super E, ? extends ID> idExtractor, int chunkSize) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("El tamaño del bloque debe ser positivo");
+        }
+        this.jdbcTemplate = Objects.requireNonNull(jdbcTemplate, "jdbcTemplate");
+        this.table = SqlIdentifiers.require(table);
+        this.idColumn = SqlIdentifiers.require(idColumn);
+        this.idMapper = SingleColumnRowMapper.newInstance(Objects.requireNonNull(idType, "idType"));
+        this.rowMapper = Objects.requireNonNull(rowMapper, "rowMapper");
+        this.idExtractor = Objects.requireNonNull(idExtractor, "idExtractor");
+        this.chunkSize = Math.min(chunkSize, dialect.maxInListSize());
+    }
+
+    @Override
+    public Optional<E> findById(ID id) {
+        requireId(id);
+        try {
+            List<E> found = jdbcTemplate.query("SELECT * FROM " + table + " WHERE " + idColumn + " = ?",
+                    rowMapper, id);
+            return found.stream().findFirst();
+        } catch (DataAccessException ex) {
+            throw ServiceExceptionFactory.database(ex, "Error al consultar la entidad {} de la tabla {}", id, table);
+        }
+    }
+
+    @Override
+    public boolean existsById(ID id) {
+        requireId(id);
+        try {
+            return !jdbcTemplate.query("SELECT " + idColumn + " FROM " + table + " WHERE " + idColumn + " = ?",
+                    idMapper, id).isEmpty();
+        } catch (DataAccessException ex) {
+            throw ServiceExceptionFactory.database(ex, "Error al verificar la entidad {} de la tabla {}", id, table);
+        }
+    }
+
+    @Override
+    public Map<ID, E> findAllById(Collection<ID> ids) {
+        List<List<ID>> chunks = InLists.partition(ids, chunkSize);
+        Map<ID, E> found = new HashMap<>();
+        for (List<ID> chunk : chunks) {
+            String sql = "SELECT * FROM " + table + " WHERE " + idColumn + " IN ("
+                    + InLists.placeholders(chunk.size()) + ")";
+            try {
+                jdbcTemplate.query(sql, rs -> {
+                    // ResultSet#getRow es opcional en los cursores de solo avance; se numera cada fila desde 0.
+                    int rowNum = 0;
+                    while (rs.next()) {
+                        E entity = rowMapper.mapRow(rs, rowNum++);
+                        found.put(idExtractor.apply(entity), entity);
+                    }
+                    return null;
+                }, chunk.toArray());
+            } catch (DataAccessException ex) {
+                throw ServiceExceptionFactory.database(ex, "Error al consultar {} entidades de la tabla {}",
+                        chunk.size(), table);
+            }
+        }
+        return found;
+    }
+
+    @Override
+    public BitSet existsAllById(List<ID> ids) {
+        List<List<ID>> chunks = InLists.partition(ids, chunkSize);
+        Set<ID> existing = new HashSet<>();
+        for (List<ID> chunk : chunks) {
+            String sql = "SELECT " + idColumn + " FROM " + table + " WHERE " + idColumn + " IN ("
+                    + InLists.placeholders(chunk.size()) + ")";
+            try {
+                existing.addAll(jdbcTemplate.query(sql, idMapper, chunk.toArray()));
+            } catch (DataAccessException ex) {
+                throw ServiceExceptionFactory.database(ex, "Error al verificar {} entidades de la tabla {}",
+                        chunk.size(), table);
+            }
+        }
+        BitSet result = new BitSet(ids.size());
+        for (int i = 0; i < ids.size(); i++) {
+            if (existing.contains(ids.get(i))) {
+                result.set(i);
+            }
+        }
+        return result;
+    }
+
+    private static void requireId(Object id) {
+        if (id == null) {
+            throw new IllegalArgumentException("El identificador no puede ser nulo");
+        }
+    }
+
+}
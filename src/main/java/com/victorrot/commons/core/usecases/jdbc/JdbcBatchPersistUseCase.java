@@ -0,0 +1,101 @@
+package com.victorrot.commons.core.usecases.jdbc;
+
+import com.victorrot.commons.core.usecases.persist.PersistenceOnlyUseCase;
+import com.victorrot.commons.exceptions.ServiceException;
+import com.victorrot.commons.exceptions.ServiceExceptionFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+
+/**
+ * Implementación JDBC de {@link PersistenceOnlyUseCase} basada en inserciones por
+ * lotes ({@link java.sql.PreparedStatement#addBatch()}).
+ *
+ * <p>{@link #createAll(Iterable)} envía las entidades al controlador en lotes de
+ * {@code batchSize} sentencias, evitando un viaje de ida y vuelta por fila y sin
+ * mantener un contexto de persistencia. Los identificadores deben asignarse antes de
+ * persistir, ya que las claves generadas por la base de datos no se recuperan; las
+ * entidades devueltas son las mismas instancias recibidas.</p>
+ *
+ * <p>Con PostgreSQL se recomienda {@code reWriteBatchedInserts=true} y con MySQL
+ * {@code rewriteBatchedStatements=true} en la URL de conexión, de modo que el
+ * controlador combine cada lote en una sola sentencia.</p>
+ *
+ * @author Victor Manuel Rodriguez Ramirez
+ * @param <E>  el tipo de la entidad a persistir
+ * @param <ID> el tipo del identificador único de la entidad
+ *
+ * @see PersistenceOnlyUseCase
+ * @see ServiceException
+ * @version 1.0.0 - Nueva persistencia JDBC por lotes
+ */
+public class JdbcBatchPersistUseCase<E, ID> implements PersistenceOnlyUseCase<E, ID> {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final String insertSql;
+
+    private final ParameterizedPreparedStatementSetter<E> parameterSetter;
+
+    private final int batchSize;
+
+    /**
+     * Crea un caso de uso de persistencia JDBC por lotes.
+     *
+     * @param jdbcTemplate    el acceso JDBC.
+     * @param insertSql       la sentencia {@code INSERT} parametrizada.
+     * @param parameterSetter la asignación de los parámetros de la sentencia para cada entidad.
+     * @param batchSize       el número de sentencias de cada lote JDBC.
+     * @throws IllegalArgumentException si {@code batchSize} no es positivo.
+     */
+    public JdbcBatchPersistUseCase(JdbcTemplate jdbcTemplate, String insertSql,
+            ParameterizedPreparedStatementSetter<E> parameterSetter, int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("El tamaño del lote debe ser positivo");
+        }
+        this.jdbcTemplate = Objects.requireNonNull(jdbcTemplate, "jdbcTemplate");
+        this.insertSql = Objects.requireNonNull(insertSql, "insertSql");
+        this.parameterSetter = Objects.requireNonNull(parameterSetter, "parameterSetter");
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public E create(E entity) {
+        if (entity == null) {
+            throw new IllegalArgumentException("La entidad no puede ser nula");
+        }
+        try {
+            jdbcTemplate.update(insertSql, ps -> parameterSetter.setValues(ps, entity));
+            return entity;
+        } catch (DataAccessException ex) {
+            throw ServiceExceptionFactory.database(ex, "Error al insertar la entidad");
+        }
+    }
+
+    @Override
+    public List<E> createAll(Iterable<E> entities) {
+        if (entities == null) {
+            throw new IllegalArgumentException("Las entidades no pueden ser nulas");
+        }
+        List<E> batch = new ArrayList<>();
+        for (E entity : entities) {
+            if (entity == null) {
+                throw new IllegalArgumentException("Las entidades no pueden contener elementos nulos");
+            }
+            batch.add(entity);
+        }
+        if (batch.isEmpty()) {
+            return batch;
+        }
+        try {
+            jdbcTemplate.batchUpdate(insertSql, batch, batchSize, parameterSetter);
+            return batch;
+        } catch (DataAccessException ex) {
+            throw ServiceExceptionFactory.database(ex, "Error al insertar un lote de {} entidades", batch.size());
+        }
+    }
+
+}
@@ -0,0 +1,104 @@
+package com.victorrot.commons.core.usecases.jdbc;
+
+import com.victorrot.commons.core.usecases.delete.BulkDeleteUseCase;
+import com.victorrot.commons.core.usecases.delete.DeleteOnlyUseCase;
+import com.victorrot.commons.exceptions.ServiceException;
+import com.victorrot.commons.exceptions.ServiceExceptionFactory;
+import java.util.List;
+import java.util.Objects;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Implementación JDBC de {@link BulkDeleteUseCase} basada en sentencias
+ * {@code DELETE ... WHERE id IN (...)}.
+ *
+ * <p>Los identificadores se eliminan sin cargar las entidades, en bloques cuyo
+ * tamaño no supera {@link SqlDialect#maxInListSize()}, de modo que eliminar 100 000
+ * filas requiere unas pocas sentencias. Los identificadores repetidos se envían una
+ * sola vez. Las sentencias se ejecutan en la transacción del llamador, si existe.</p>
+ *
+ * <p>Al no cargar las entidades, no se ejecutan las cascadas ni los callbacks del
+ * proveedor JPA; las relaciones dependientes deben resolverse con restricciones de
+ * la base de datos.</p>
+ *
+ * @author Victor Manuel Rodriguez Ramirez
+ * @param <ID> el tipo del identificador único de las entidades a eliminar
+ *
+ * @see BulkDeleteUseCase
+ * @see ServiceException
+ * @version 1.0.0 - Nueva eliminación masiva JDBC
+ */
+public class JdbcBulkDeleteUseCase<ID> implements BulkDeleteUseCase<ID>, DeleteOnlyUseCase<ID> {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final String table;
+
+    private final String idColumn;
+
+    private final int chunkSize;
+
+    /**
+     * Crea un caso de uso de eliminación masiva con el tamaño de bloque máximo del dialecto.
+     *
+     * @param jdbcTemplate el acceso JDBC.
+     * @param dialect      el dialecto SQL del motor de base de datos.
+     * @param table        la tabla de las entidades.
+     * @param idColumn     la columna del identificador.
+     */
+    public JdbcBulkDeleteUseCase(JdbcTemplate jdbcTemplate, SqlDialect dialect, String table, String idColumn) {
+        this(jdbcTemplate, dialect, table, idColumn, dialect.maxInListSize());
+    }
+
+    /**
+     * Crea un caso de uso de eliminación masiva.
+     *
+     * @param jdbcTemplate el acceso JDBC.
+     * @param dialect      el dialecto SQL del motor de base de datos.
+     * @param table        la tabla de las entidades.
+     * @param idColumn     la columna del identificador.
+     * @param chunkSize    el número de identificadores por sentencia; se reduce al
+     *                     máximo del dialecto si lo supera.
+     * @throws IllegalArgumentException si la tabla o la columna no son identificadores
+     *         SQL válidos, o si {@code chunkSize} no es positivo.
+     */
+    public JdbcBulkDeleteUseCase(JdbcTemplate jdbcTemplate, SqlDialect dialect, String table, String idColumn,
+            int chunkSize) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("El tamaño del bloque debe ser positivo");
+        }
+        this.jdbcTemplate = Objects.requireNonNull(jdbcTemplate, "jdbcTemplate");
+        this.table = SqlIdentifiers.require(table);
+        this.idColumn = SqlIdentifiers.require(idColumn);
+        this.chunkSize = Math.min(chunkSize, dialect.maxInListSize());
+    }
+
+    @Override
+    public void delete(ID id) {
+        if (id == null) {
+            throw new IllegalArgumentException("El identificador no puede ser nulo");
+        }
+        try {
+            jdbcTemplate.update("DELETE FROM " + table + " WHERE " + idColumn + " = ?", id);
+        } catch (DataAccessException ex) {
+            throw ServiceExceptionFactory.database(ex, "Error al eliminar la entidad {} de la tabla {}", id, table);
+        }
+    }
+
+    @Override
+    public long deleteAllInBulk(Iterable<ID> ids) {
+        long deleted = 0;
+        for (List<ID> chunk : InLists.partition(ids, chunkSize)) {
+            String sql = "DELETE FROM " + table + " WHERE " + idColumn + " IN (" + InLists.placeholders(chunk.size()) + ")";
+            try {
+                deleted += jdbcTemplate.update(sql, chunk.toArray());
+            } catch (DataAccessException ex) {
+                throw ServiceExceptionFactory.database(ex, "Error al eliminar {} entidades de la tabla {}",
+                        chunk.size(), table);
+            }
+        }
+        return deleted;
+    }
+
+}
@@ -0,0 +1,151 @@
+package com.victorrot.commons.core.usecases.jdbc;
+
+import com.victorrot.commons.core.usecases.find.KeysetFindUseCase;
+import com.victorrot.commons.exceptions.ServiceException;
+import com.victorrot.commons.exceptions.ServiceExceptionFactory;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+/**
+ * Implementación JDBC de {@link KeysetFindUseCase} sobre una tabla.
+ *
+ * <p>Las entidades se ordenan de forma ascendente por las columnas clave indicadas,
+ * que deben identificar cada fila de manera única y estar cubiertas por un índice.
+ * Cada página se obtiene con una condición sobre los valores clave de la posición
+ * ({@code WHERE (k1, k2) > (?, ?)}) y un límite de filas, sin desplazamiento ni
+ * consulta de conteo. Se solicita una fila adicional para saber si existe una
+ * página siguiente.</p>
+ *
+ * <p>Las posiciones de la {@link Window} devuelta contienen los valores de las
+ * columnas clave de cada fila, indexados por el nombre de la columna.</p>
+ *
+ * @author Victor Manuel Rodriguez Ramirez
+ * @param <E> el tipo de la entidad
+ *
+ * @see KeysetFindUseCase
+ * @see ServiceException
+ * @version 1.0.0 - Nueva paginación por conjunto de claves
+ */
+public class JdbcKeysetFindUseCase<E> implements KeysetFindUseCase<E> {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final SqlDialect dialect;
+
+    private final String table;
+
+    private final List<String> keyColumns;
+
+    private final RowMapper<E> rowMapper;
+
+    /**
+     * Crea un caso de uso de paginación por conjunto de claves.
+     *
+     * @param jdbcTemplate el acceso JDBC.
+     * @param dialect      el dialecto SQL del motor de base de datos.
+     * @param table        la tabla consultada.
+     * @param keyColumns   las columnas clave del ordenamiento, en orden de prioridad.
+     * @param rowMapper    el convertidor de cada fila en una entidad.
+     * @throws IllegalArgumentException si la tabla o alguna columna no es un
+     *         identificador SQL válido, o si no se indican columnas clave.
+     */
+    public JdbcKeysetFindUseCase(JdbcTemplate jdbcTemplate, SqlDialect dialect, String table,
+            List<String> keyColumns, RowMapper<E> rowMapper) {
+        this.jdbcTemplate = Objects.requireNonNull(jdbcTemplate, "jdbcTemplate");
+        this.dialect = Objects.requireNonNull(dialect, "dialect");
+        this.table = SqlIdentifiers.require(table);
+        if (keyColumns == null || keyColumns.isEmpty()) {
+            throw new IllegalArgumentException("Se requiere al menos una columna clave");
+        }
+        keyColumns.forEach(SqlIdentifiers::require);
+        this.keyColumns = List.copyOf(keyColumns);
+        this.rowMapper = Objects.requireNonNull(rowMapper, "rowMapper");
+    }
+
+    @Override
+    public Window<E> findAll(KeysetScrollPosition position, int limit) {
+        if (position == null) {
+            throw new IllegalArgumentException("La posición no puede ser nula");
+        }
+        if (limit <= 0) {
+            throw new IllegalArgumentException("El límite de la página debe ser positivo");
+        }
+        boolean forward = position.scrollsForward();
+        List<Object> params = new ArrayList<>();
+        StringBuilder sql = new StringBuilder("SELECT * FROM ").append(table);
+        if (!position.isInitial()) {
+            sql.append(" WHERE ");
+            appendSeekCondition(sql, params, position.getKeys(), forward ? ">" : "<");
+        }
+        sql.append(" ORDER BY ");
+        for (int i = 0; i < keyColumns.size(); i++) {
+            sql.append(i == 0 ? "" : ", ").append(keyColumns.get(i)).append(forward ? " ASC" : " DESC");
+        }
+
+        List<E> content = new ArrayList<>(limit + 1);
+        List<Map<String, Object>> keys = new ArrayList<>(limit + 1);
+        try {
+            jdbcTemplate.query(dialect.limit(sql.toString(), limit + 1), rs -> {
+                content.add(rowMapper.mapRow(rs, content.size()));
+                Map<String, Object> rowKeys = new LinkedHashMap<>();
+                for (String column : keyColumns) {
+                    rowKeys.put(column, rs.getObject(column));
+                }
+                keys.add(rowKeys);
+            }, params.toArray());
+        } catch (DataAccessException ex) {
+            throw ServiceExceptionFactory.database(ex, "Error al consultar la página de la tabla {}", table);
+        }
+
+        boolean hasNext = content.size() > limit;
+        if (hasNext) {
+            content.remove(limit);
+            keys.remove(limit);
+        }
+        if (!forward) {
+            Collections.reverse(content);
+            Collections.reverse(keys);
+        }
+        return Window.from(content, index -> ScrollPosition.of(keys.get(index), position.getDirection()), hasNext);
+    }
+
+    private void appendSeekCondition(StringBuilder sql, List<Object> params, Map<String, Object> keys, String operator) {
+        for (String column : keyColumns) {
+            if (!keys.containsKey(column)) {
+                throw new IllegalArgumentException("La posición no contiene la columna clave " + column);
+            }
+        }
+        if (dialect.supportsRowValueComparison()) {
+            sql.append('(').append(String.join(", ", keyColumns)).append(") ").append(operator).append(" (");
+            for (int i = 0; i < keyColumns.size(); i++) {
+                sql.append(i == 0 ? "?" : ", ?");
+                params.add(keys.get(keyColumns.get(i)));
+            }
+            sql.append(')');
+            return;
+        }
+        // (k1 > ?) OR (k1 = ? AND k2 > ?) OR ...
+        sql.append('(');
+        for (int i = 0; i < keyColumns.size(); i++) {
+            sql.append(i == 0 ? "(" : " OR (");
+            for (int j = 0; j < i; j++) {
+                sql.append(keyColumns.get(j)).append(" = ? AND ");
+                params.add(keys.get(keyColumns.get(j)));
+            }
+            sql.append(keyColumns.get(i)).append(' ').append(operator).append(" ?)");
+            params.add(keys.get(keyColumns.get(i)));
+        }
+        sql.append(')');
+    }
+
+}
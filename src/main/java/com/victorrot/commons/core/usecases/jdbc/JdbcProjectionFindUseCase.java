@@ -0,0 +1,287 @@
+package com.victorrot.commons.core.usecases.jdbc;
+
+import com.victorrot.commons.core.usecases.find.ProjectionFindUseCase;
+import com.victorrot.commons.exceptions.ServiceException;
+import com.victorrot.commons.exceptions.ServiceExceptionFactory;
+import java.beans.PropertyDescriptor;
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.RecordComponent;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.projection.ProjectionInformation;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Implementación JDBC de {@link ProjectionFindUseCase} sobre una tabla.
+ *
+ * <p>Cada consulta selecciona solo las columnas de la proyección, derivadas de sus
+ * propiedades con la convención de guiones bajos ({@code firstName} se lee de la
+ * columna {@code first_name}):</p>
+ * <ul>
+ *   <li>en un {@code record}, los componentes, que se reciben en su constructor
+ *       canónico;</li>
+ *   <li>en una interfaz, los métodos de acceso ({@code getX}/{@code isX}), que se
+ *       resuelven con un proxy de Spring Data. Solo se admiten proyecciones cerradas,
+ *       sin expresiones {@code @Value}.</li>
+ * </ul>
+ *
+ * <p>Los valores se leen por posición y se convierten al tipo de cada propiedad. Los
+ * metadatos de cada tipo de proyección se calculan una sola vez. Las búsquedas por
+ * identificadores se ejecutan en bloques {@code IN} cuyo tamaño no supera
+ * {@link SqlDialect#maxInListSize()}. Las páginas se ordenan por el criterio de
+ * {@link Pageable}, cuyas propiedades se convierten igualmente a columnas, y por el
+ * identificador como desempate; el total solo se consulta cuando no puede deducirse
+ * de la página.</p>
+ *
+ * @author Victor Manuel Rodriguez Ramirez
+ * @param <ID> el tipo del identificador único de la entidad
+ *
+ * @see ProjectionFindUseCase
+ * @see ServiceException
+ * @version 1.0.0 - Nueva búsqueda de proyecciones JDBC
+ */
+public class JdbcProjectionFindUseCase<ID> implements ProjectionFindUseCase<ID> {
+
+    private static final ConversionService CONVERSION_SERVICE = DefaultConversionService.getSharedInstance();
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final SqlDialect dialect;
+
+    private final String table;
+
+    private final String idColumn;
+
+    private final Class<ID> idType;
+
+    private final int chunkSize;
+
+    private final Map<Class<?>, Projection<?>> projections = new ConcurrentHashMap<>();
+
+    /**
+     * Crea un caso de uso de búsqueda de proyecciones.
+     *
+     * @param jdbcTemplate el acceso JDBC.
+     * @param dialect      el dialecto SQL del motor de base de datos.
+     * @param table        la tabla de las entidades.
+     * @param idColumn     la columna del identificador.
+     * @param idType       el tipo del identificador.
+     * @throws IllegalArgumentException si la tabla o la columna no son identificadores
+     *         SQL válidos.
+     */
+    public JdbcProjectionFindUseCase(JdbcTemplate jdbcTemplate, SqlDialect dialect, String table, String idColumn,
+            Class<ID> idType) {
+        this.jdbcTemplate = Objects.requireNonNull(jdbcTemplate, "jdbcTemplate");
+        this.dialect = Objects.requireNonNull(dialect, "dialect");
+        this.table = SqlIdentifiers.require(table);
+        this.idColumn = SqlIdentifiers.require(idColumn);
+        this.idType = Objects.requireNonNull(idType, "idType");
+        this.chunkSize = dialect.maxInListSize();
+    }
+
+    @Override
+    public <P> Optional<P> findById(ID id, Class<P> projection) {
+        if (id == null) {
+            throw new IllegalArgumentException("El identificador no puede ser nulo");
+        }
+        Projection<P> resolved = resolve(projection);
+        String sql = "SELECT " + resolved.selectList() + " FROM " + table + " WHERE " + idColumn + " = ?";
+        try {
+            return jdbcTemplate.query(sql, resolved.rowMapper(), id).stream().findFirst();
+        } catch (DataAccessException ex) {
+            throw ServiceExceptionFactory.database(ex, "Error al consultar la entidad {} de la tabla {}", id, table);
+        }
+    }
+
+    @Override
+    public <P> Page<P> findAll(Pageable pageable, Class<P> projection) {
+        if (pageable == null) {
+            throw new IllegalArgumentException("La información de paginación no puede ser nula");
+        }
+        Projection<P> resolved = resolve(projection);
+        String sql = "SELECT " + resolved.selectList() + " FROM " + table + orderBy(pageable.getSort());
+        if (pageable.isPaged()) {
+            sql = dialect.limit(sql, pageable.getOffset(), pageable.getPageSize());
+        }
+        try {
+            List<P> content = jdbcTemplate.query(sql, resolved.rowMapper());
+            return PageableExecutionUtils.getPage(content, pageable, this::count);
+        } catch (DataAccessException ex) {
+            throw ServiceExceptionFactory.database(ex, "Error al consultar la página de la tabla {}", table);
+        }
+    }
+
+    @Override
+    public <P> Map<ID, P> findAllById(Collection<ID> ids, Class<P> projection) {
+        Projection<P> resolved = resolve(projection);
+        List<List<ID>> chunks = InLists.partition(ids, chunkSize);
+        int idIndex = resolved.columns().indexOf(idColumn.toLowerCase(Locale.ROOT));
+        String selectList = idIndex >= 0 ? resolved.selectList() : resolved.selectList() + ", " + idColumn;
+        int idPosition = (idIndex >= 0 ? idIndex : resolved.columns().size()) + 1;
+        RowMapper<P> rowMapper = resolved.rowMapper();
+        Map<ID, P> found = new HashMap<>();
+        for (List<ID> chunk : chunks) {
+            String sql = "SELECT " + selectList + " FROM " + table + " WHERE " + idColumn + " IN ("
+                    + InLists.placeholders(chunk.size()) + ")";
+            try {
+                jdbcTemplate.query(sql, rs -> {
+                    // ResultSet#getRow es opcional en los cursores de solo avance; se numera cada fila desde 0.
+                    int rowNum = 0;
+                    while (rs.next()) {
+                        found.put(convert(JdbcUtils.getResultSetValue(rs, idPosition, idType), idType),
+                                rowMapper.mapRow(rs, rowNum++));
+                    }
+                    return null;
+                }, chunk.toArray());
+            } catch (DataAccessException ex) {
+                throw ServiceExceptionFactory.database(ex, "Error al consultar {} entidades de la tabla {}",
+                        chunk.size(), table);
+            }
+        }
+        return found;
+    }
+
+    private long count() {
+        Long total = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table, Long.class);
+        return total == null ? 0 : total;
+    }
+
+    private String orderBy(Sort sort) {
+        StringBuilder sql = new StringBuilder(" ORDER BY ");
+        boolean sortedById = false;
+        for (Sort.Order order : sort) {
+            String column = SqlIdentifiers.require(JdbcUtils.convertPropertyNameToUnderscoreName(order.getProperty()));
+            sortedById |= column.equalsIgnoreCase(idColumn);
+            sql.append(column).append(order.isAscending() ? " ASC" : " DESC").append(", ");
+        }
+        if (sortedById) {
+            sql.setLength(sql.length() - 2);
+        } else {
+            sql.append(idColumn).append(" ASC");
+        }
+        return sql.toString();
+    }
+
+    @SuppressWarnings("unchecked")
+    private <P> Projection<P> resolve(Class<P> type) {
+        if (type == null) {
+            throw new IllegalArgumentException("El tipo de la proyección no puede ser nulo");
+        }
+        return (Projection<P>) projections.computeIfAbsent(type, JdbcProjectionFindUseCase::createProjection);
+    }
+
+    private static <P> Projection<P> createProjection(Class<P> type) {
+        if (type.isRecord()) {
+            return recordProjection(type);
+        }
+        if (type.isInterface()) {
+            return interfaceProjection(type);
+        }
+        throw new IllegalArgumentException("La proyección " + type.getName() + " debe ser una interfaz o un record");
+    }
+
+    private static <P> Projection<P> recordProjection(Class<P> type) {
+        RecordComponent[] components = type.getRecordComponents();
+        List<String> names = new ArrayList<>(components.length);
+        Class<?>[] types = new Class<?>[components.length];
+        for (int i = 0; i < components.length; i++) {
+            names.add(components[i].getName());
+            types[i] = components[i].getType();
+        }
+        Constructor<P> constructor;
+        try {
+            constructor = type.getDeclaredConstructor(types);
+            constructor.setAccessible(true);
+        } catch (NoSuchMethodException | RuntimeException ex) {
+            throw new IllegalArgumentException("No se puede instanciar la proyección " + type.getName(), ex);
+        }
+        return Projection.of(type, names, (rs, rowNum) -> {
+            Object[] args = new Object[types.length];
+            for (int i = 0; i < types.length; i++) {
+                Object value = convert(JdbcUtils.getResultSetValue(rs, i + 1, types[i]), types[i]);
+                // Un valor nulo en un componente primitivo recibe el valor por defecto del tipo.
+                args[i] = value != null || !types[i].isPrimitive() ? value : Array.get(Array.newInstance(types[i], 1), 0);
+            }
+            try {
+                return constructor.newInstance(args);
+            } catch (InstantiationException | IllegalAccessException | InvocationTargetException ex) {
+                throw new IllegalStateException("No se pudo crear la proyección " + type.getName(), ex);
+            }
+        });
+    }
+
+    private static <P> Projection<P> interfaceProjection(Class<P> type) {
+        // El proxy se crea con el cargador de clases de la proyección, que puede no ser el de esta biblioteca.
+        SpelAwareProxyProjectionFactory projectionFactory = new SpelAwareProxyProjectionFactory();
+        projectionFactory.setBeanClassLoader(type.getClassLoader());
+        ProjectionInformation information = projectionFactory.getProjectionInformation(type);
+        if (!information.isClosed() || !information.hasInputProperties()) {
+            throw new IllegalArgumentException("La proyección " + type.getName()
+                    + " debe declarar métodos de acceso y no puede usar expresiones @Value");
+        }
+        List<String> names = new ArrayList<>();
+        List<Class<?>> types = new ArrayList<>();
+        for (PropertyDescriptor property : information.getInputProperties()) {
+            names.add(property.getName());
+            types.add(property.getPropertyType());
+        }
+        return Projection.of(type, names, (rs, rowNum) -> {
+            Map<String, Object> values = new HashMap<>(names.size() * 2);
+            for (int i = 0; i < names.size(); i++) {
+                values.put(names.get(i), JdbcUtils.getResultSetValue(rs, i + 1, types.get(i)));
+            }
+            return projectionFactory.createProjection(type, values);
+        });
+    }
+
+    private static <T> T convert(Object value, Class<T> type) {
+        if (value == null || ClassUtils.resolvePrimitiveIfNecessary(type).isInstance(value)) {
+            @SuppressWarnings("unchecked")
+            T result = (T) value;
+            return result;
+        }
+        return CONVERSION_SERVICE.convert(value, type);
+    }
+
+    /**
+     * Metadatos de un tipo de proyección.
+     *
+     * @param columns    las columnas seleccionadas, en minúsculas y en orden.
+     * @param selectList la lista de columnas de la sentencia {@code SELECT}.
+     * @param rowMapper  la conversión de cada fila, leída por posición, en una proyección.
+     */
+    private record Projection<P>(List<String> columns, String selectList, RowMapper<P> rowMapper) {
+
+        static <P> Projection<P> of(Class<P> type, List<String> properties, RowMapper<P> rowMapper) {
+            if (properties.isEmpty()) {
+                throw new IllegalArgumentException("La proyección " + type.getName() + " no tiene propiedades");
+            }
+            List<String> columns = properties.stream()
+                    .map(property -> SqlIdentifiers.require(JdbcUtils.convertPropertyNameToUnderscoreName(property)))
+                    .toList();
+            return new Projection<>(columns, String.join(", ", columns), rowMapper);
+        }
+
+    }
+
+}
@@ -0,0 +1,151 @@
+package com.victorrot.commons.core.usecases.jdbc;
+
+import com.victorrot.commons.core.usecases.find.StreamFindUseCase;
+import com.victorrot.commons.exceptions.ServiceException;
+import com.victorrot.commons.exceptions.ServiceExceptionFactory;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+
+/**
+ * Implementación JDBC de {@link StreamFindUseCase} respaldada por un cursor del
+ * servidor.
+ *
+ * <p>La consulta se ejecuta con un {@link ResultSet} de solo avance y solo lectura
+ * y con el tamaño de bloque indicado, de modo que el controlador obtiene las filas
+ * por partes. Algunos controladores (por ejemplo PostgreSQL) solo utilizan cursores
+ * cuando la conexión no está en modo <i>auto-commit</i>; si la conexión no participa
+ * en una transacción de Spring, este caso de uso desactiva el <i>auto-commit</i>
+ * mientras el flujo está abierto y lo restablece al cerrarlo. En MySQL es necesario
+ * habilitar {@code useCursorFetch=true} en la URL de conexión.</p>
+ *
+ * <p>La conexión, la sentencia y el resultado se liberan al cerrar el flujo.</p>
+ *
+ * @author Victor Manuel Rodriguez Ramirez
+ * @param <E> el tipo de la entidad
+ *
+ * @see StreamFindUseCase
+ * @see ServiceException
+ * @version 1.0.0 - Nueva lectura mediante cursor
+ */
+@Slf4j
+public class JdbcStreamFindUseCase<E> implements StreamFindUseCase<E> {
+
+    private final DataSource dataSource;
+
+    private final String selectSql;
+
+    private final RowMapper<E> rowMapper;
+
+    /**
+     * Crea un caso de uso de lectura secuencial.
+     *
+     * @param dataSource el origen de datos.
+     * @param selectSql  la consulta {@code SELECT} que recupera las entidades.
+     * @param rowMapper  el convertidor de cada fila en una entidad.
+     */
+    public JdbcStreamFindUseCase(DataSource dataSource, String selectSql, RowMapper<E> rowMapper) {
+        this.dataSource = Objects.requireNonNull(dataSource, "dataSource");
+        this.selectSql = Objects.requireNonNull(selectSql, "selectSql");
+        this.rowMapper = Objects.requireNonNull(rowMapper, "rowMapper");
+    }
+
+    @Override
+    public Stream<E> streamAll(int fetchSize) {
+        if (fetchSize < 0) {
+            throw new IllegalArgumentException("El tamaño de bloque no puede ser negativo");
+        }
+        Cursor cursor = new Cursor();
+        try {
+            cursor.open(fetchSize);
+        } catch (SQLException | RuntimeException ex) {
+            cursor.close();
+            throw ServiceExceptionFactory.database(ex, "No fue posible abrir el cursor de la consulta: {}", selectSql);
+        }
+        return StreamSupport.stream(cursor, false).onClose(cursor::close);
+    }
+
+    /**
+     * Cursor sobre el resultado de la consulta que administra los recursos JDBC.
+     */
+    private final class Cursor extends Spliterators.AbstractSpliterator<E> {
+
+        private Connection connection;
+
+        private boolean restoreAutoCommit;
+
+        private PreparedStatement statement;
+
+        private ResultSet resultSet;
+
+        private int rowNum;
+
+        private Cursor() {
+            super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL);
+        }
+
+        private void open(int fetchSize) throws SQLException {
+            connection = DataSourceUtils.getConnection(dataSource);
+            if (connection.getAutoCommit() && !DataSourceUtils.isConnectionTransactional(connection, dataSource)) {
+                connection.setAutoCommit(false);
+                restoreAutoCommit = true;
+            }
+            statement = connection.prepareStatement(selectSql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(fetchSize);
+            resultSet = statement.executeQuery();
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super E> action) {
+            try {
+                if (!resultSet.next()) {
+                    return false;
+                }
+                action.accept(rowMapper.mapRow(resultSet, rowNum++));
+                return true;
+            } catch (SQLException ex) {
+                throw ServiceExceptionFactory.database(ex, "Error al leer la fila {} del cursor", rowNum);
+            }
+        }
+
+        private void close() {
+            closeQuietly(resultSet);
+            closeQuietly(statement);
+            if (connection != null) {
+                if (restoreAutoCommit) {
+                    try {
+                        connection.rollback();
+                        connection.setAutoCommit(true);
+                    } catch (SQLException ex) {
+                        log.warn("No fue posible restablecer el auto-commit de la conexión", ex);
+                    }
+                }
+                DataSourceUtils.releaseConnection(connection, dataSource);
+                connection = null;
+            }
+        }
+
+        private void closeQuietly(AutoCloseable resource) {
+            if (resource == null) {
+                return;
+            }
+            try {
+                resource.close();
+            } catch (Exception ex) {
+                log.debug("Error al cerrar un recurso del cursor", ex);
+            }
+        }
+    }
+
+}
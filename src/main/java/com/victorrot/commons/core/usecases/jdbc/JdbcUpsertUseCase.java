@@ -0,0 +1,208 @@
+package com.victorrot.commons.core.usecases.jdbc;
+
+import com.victorrot.commons.core.usecases.persist.BatchUpsertUseCase;
+import com.victorrot.commons.core.usecases.persist.PartialUpdateUseCase;
+import com.victorrot.commons.core.usecases.persist.UpsertUseCase;
+import com.victorrot.commons.exceptions.ServiceException;
+import com.victorrot.commons.exceptions.ServiceExceptionFactory;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ArgumentPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.jdbc.support.JdbcUtils;
+
+/**
+ * Implementación JDBC de {@link UpsertUseCase}, {@link BatchUpsertUseCase} y
+ * {@link PartialUpdateUseCase} sobre una tabla, sin consultar las filas antes de
+ * escribirlas.
+ *
+ * <p>Las inserciones o actualizaciones usan la resolución de conflictos nativa del
+ * motor generada por {@link SqlDialect#upsert(String, String, List)}, por lo que
+ * cada entidad requiere un solo viaje de ida y vuelta y {@link #upsertAll(Iterable)}
+ * envía las entidades en lotes de {@code batchSize} sentencias. La tabla debe tener
+ * una clave primaria o restricción de unicidad sobre la columna del identificador.</p>
+ *
+ * <p>{@link #update(Object, Map)} ejecuta un único {@code UPDATE} que asigna solo
+ * las columnas de los cambios recibidos. Las propiedades se convierten a columnas
+ * con la convención de guiones bajos ({@code firstName} se escribe en la columna
+ * {@code first_name}) y solo pueden actualizarse las columnas configuradas, nunca
+ * el identificador.</p>
+ *
+ * @author Victor Manuel Rodriguez Ramirez
+ * @param <E>  el tipo de la entidad a persistir
+ * @param <ID> el tipo del identificador único de la entidad
+ *
+ * @see SqlDialect#upsert(String, String, List)
+ * @see ServiceException
+ * @version 1.0.0 - Nueva inserción o actualización JDBC
+ */
+public class JdbcUpsertUseCase<E, ID> implements UpsertUseCase<E, ID>, BatchUpsertUseCase<E, ID>,
+        PartialUpdateUseCase<ID> {
+
+    private static final ParameterizedPreparedStatementSetter<Object[]> PARAMETER_SETTER =
+            (ps, parameters) -> new ArgumentPreparedStatementSetter(parameters).setValues(ps);
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final String table;
+
+    private final String idColumn;
+
+    private final int columnCount;
+
+    /** Columnas actualizables, indexadas por su nombre en minúsculas. */
+    private final Map<String, String> updatableColumns;
+
+    private final Function<? super E, ? extends ID> idExtractor;
+
+    private final Function<? super E, Object[]> valuesExtractor;
+
+    private final int batchSize;
+
+    private final String upsertSql;
+
+    /**
+     * Crea un caso de uso de inserción o actualización JDBC.
+     *
+     * @param jdbcTemplate    el acceso JDBC.
+     * @param dialect         el dialecto SQL del motor de base de datos.
+     * @param table           la tabla de las entidades.
+     * @param idColumn        la columna del identificador.
+     * @param columns         las demás columnas de la tabla que se escriben.
+     * @param idExtractor     función que obtiene el identificador de una entidad.
+     * @param valuesExtractor función que obtiene los valores de una entidad, en el
+     *                        orden de {@code columns}.
+     * @param batchSize       el número de sentencias de cada lote JDBC.
+     * @throws IllegalArgumentException si la tabla o alguna columna no son
+     *         identificadores SQL válidos, si {@code columns} está vacío, repite
+     *         columnas o incluye la del identificador, o si {@code batchSize} no es
+     *         positivo.
+     */
+    public JdbcUpsertUseCase(JdbcTemplate jdbcTemplate, SqlDialect dialect, String table, String idColumn,
+            List<String> columns, Function<? super E, ? extends ID> idExtractor,
+            Function<? super E, Object[]> valuesExtractor, int batchSize) {
+        if (columns == null || columns.isEmpty()) {
+            throw new IllegalArgumentException("Las columnas no pueden ser nulas ni estar vacías");
+        }
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("El tamaño del lote debe ser positivo");
+        }
+        this.jdbcTemplate = Objects.requireNonNull(jdbcTemplate, "jdbcTemplate");
+        this.table = SqlIdentifiers.require(table);
+        this.idColumn = SqlIdentifiers.require(idColumn);
+        this.updatableColumns = new HashMap<>(columns.size() * 2);
+        for (String column : columns) {
+            String key = SqlIdentifiers.require(column).toLowerCase(Locale.ROOT);
+            if (key.equals(idColumn.toLowerCase(Locale.ROOT)) || updatableColumns.putIfAbsent(key, column) != null) {
+                throw new IllegalArgumentException("Columna repetida o reservada para el identificador: " + column);
+            }
+        }
+        this.columnCount = columns.size();
+        this.idExtractor = Objects.requireNonNull(idExtractor, "idExtractor");
+        this.valuesExtractor = Objects.requireNonNull(valuesExtractor, "valuesExtractor");
+        this.batchSize = batchSize;
+        this.upsertSql = Objects.requireNonNull(dialect, "dialect").upsert(this.table, this.idColumn, List.copyOf(columns));
+    }
+
+    @Override
+    public E upsert(E entity) {
+        if (entity == null) {
+            throw new IllegalArgumentException("La entidad no puede ser nula");
+        }
+        Object[] parameters = parameters(entity);
+        try {
+            jdbcTemplate.update(upsertSql, parameters);
+            return entity;
+        } catch (DataAccessException ex) {
+            throw ServiceExceptionFactory.database(ex, "Error al guardar la entidad {} en la tabla {}", parameters[0],
+                    table);
+        }
+    }
+
+    @Override
+    public List<E> upsertAll(Iterable<E> entities) {
+        if (entities == null) {
+            throw new IllegalArgumentException("Las entidades no pueden ser nulas");
+        }
+        // Los parámetros se obtienen antes de escribir para que una entidad inválida no deje el lote a medias.
+        List<E> batch = new ArrayList<>();
+        List<Object[]> rows = new ArrayList<>();
+        for (E entity : entities) {
+            if (entity == null) {
+                throw new IllegalArgumentException("Las entidades no pueden contener elementos nulos");
+            }
+            batch.add(entity);
+            rows.add(parameters(entity));
+        }
+        if (batch.isEmpty()) {
+            return batch;
+        }
+        try {
+            jdbcTemplate.batchUpdate(upsertSql, rows, batchSize, PARAMETER_SETTER);
+            return batch;
+        } catch (DataAccessException ex) {
+            throw ServiceExceptionFactory.database(ex, "Error al guardar un lote de {} entidades en la tabla {}",
+                    batch.size(), table);
+        }
+    }
+
+    @Override
+    public boolean update(ID id, Map<String, ?> changes) {
+        if (id == null) {
+            throw new IllegalArgumentException("El identificador no puede ser nulo");
+        }
+        if (changes == null || changes.isEmpty()) {
+            throw new IllegalArgumentException("Los cambios no pueden ser nulos ni estar vacíos");
+        }
+        StringBuilder sql = new StringBuilder("UPDATE ").append(table).append(" SET ");
+        Object[] parameters = new Object[changes.size() + 1];
+        Set<String> assigned = new HashSet<>();
+        int index = 0;
+        for (Map.Entry<String, ?> change : changes.entrySet()) {
+            String property = change.getKey();
+            String column = property == null ? null
+                    : updatableColumns.get(JdbcUtils.convertPropertyNameToUnderscoreName(property));
+            if (column == null) {
+                throw new IllegalArgumentException("La propiedad " + property + " no puede actualizarse");
+            }
+            if (!assigned.add(column)) {
+                throw new IllegalArgumentException("La columna " + column + " se actualiza más de una vez");
+            }
+            sql.append(index == 0 ? "" : ", ").append(column).append(" = ?");
+            parameters[index++] = change.getValue();
+        }
+        sql.append(" WHERE ").append(idColumn).append(" = ?");
+        parameters[index] = id;
+        try {
+            return jdbcTemplate.update(sql.toString(), parameters) > 0;
+        } catch (DataAccessException ex) {
+            throw ServiceExceptionFactory.database(ex, "Error al actualizar la entidad {} de la tabla {}", id, table);
+        }
+    }
+
+    private Object[] parameters(E entity) {
+        ID id = idExtractor.apply(entity);
+        if (id == null) {
+            throw new IllegalArgumentException("La entidad debe tener el identificador asignado");
+        }
+        Object[] values = valuesExtractor.apply(entity);
+        if (values == null || values.length != columnCount) {
+            throw new IllegalArgumentException("La entidad debe aportar un valor por cada una de las " + columnCount
+                    + " columnas");
+        }
+        Object[] parameters = new Object[columnCount + 1];
+        parameters[0] = id;
+        System.arraycopy(values, 0, parameters, 1, columnCount);
+        return parameters;
+    }
+
+}
@@ -0,0 +1,140 @@
+package com.victorrot.commons.core.usecases.jdbc;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Dialectos SQL soportados por los casos de uso JDBC.
+ *
+ * <p>Cada valor genera las partes de las sentencias que no son portables entre
+ * motores de base de datos.</p>
+ *
+ * @author Victor Manuel Rodriguez Ramirez
+ * @version 1.0.0 - Nuevo enum
+ */
+public enum SqlDialect {
+
+    /** PostgreSQL. */
+    POSTGRESQL(true, false, 10_000),
+    /** MySQL y MariaDB. */
+    MYSQL(true, false, 10_000),
+    /** H2. */
+    H2(true, false, 10_000),
+    /** Oracle 12c o superior; admite como máximo 1000 elementos en una lista {@code IN}. */
+    ORACLE(false, true, 1_000),
+    /** Microsoft SQL Server 2012 o superior; admite como máximo 2100 parámetros por sentencia. */
+    SQLSERVER(false, true, 2_000);
+
+    private final boolean rowValueComparison;
+
+    private final boolean fetchFirst;
+
+    private final int maxInListSize;
+
+    SqlDialect(boolean rowValueComparison, boolean fetchFirst, int maxInListSize) {
+        this.rowValueComparison = rowValueComparison;
+        this.fetchFirst = fetchFirst;
+        this.maxInListSize = maxInListSize;
+    }
+
+    /**
+     * Indica si el motor admite comparaciones de tuplas como {@code (a, b) > (?, ?)}.
+     *
+     * @return {@code true} si las comparaciones de tuplas están soportadas.
+     */
+    public boolean supportsRowValueComparison() {
+        return rowValueComparison;
+    }
+
+    /**
+     * Obtiene el número máximo recomendado de elementos en una lista {@code IN (...)},
+     * acorde con los límites de parámetros del controlador.
+     *
+     * @return el tamaño máximo de la lista.
+     */
+    public int maxInListSize() {
+        return maxInListSize;
+    }
+
+    /**
+     * Agrega a una consulta ordenada la cláusula que limita el número de filas.
+     *
+     * @param sql   la consulta, que debe incluir {@code ORDER BY}.
+     * @param limit el número máximo de filas.
+     * @return la consulta con el límite aplicado.
+     */
+    public String limit(String sql, int limit) {
+        if (!fetchFirst) {
+            return sql + " LIMIT " + limit;
+        }
+        if (this == SQLSERVER) {
+            return sql + " OFFSET 0 ROWS FETCH NEXT " + limit + " ROWS ONLY";
+        }
+        return sql + " FETCH FIRST " + limit + " ROWS ONLY";
+    }
+
+    /**
+     * Agrega a una consulta ordenada las cláusulas que omiten las primeras filas y
+     * limitan el número de filas devueltas.
+     *
+     * @param sql    la consulta, que debe incluir {@code ORDER BY}.
+     * @param offset el número de filas a omitir.
+     * @param limit  el número máximo de filas.
+     * @return la consulta con el desplazamiento y el límite aplicados.
+     */
+    public String limit(String sql, long offset, int limit) {
+        if (!fetchFirst) {
+            return sql + " LIMIT " + limit + " OFFSET " + offset;
+        }
+        return sql + " OFFSET " + offset + " ROWS FETCH NEXT " + limit + " ROWS ONLY";
+    }
+
+    /**
+     * Genera la sentencia que inserta una fila o, si ya existe una con el mismo
+     * identificador, actualiza sus columnas, con la resolución de conflictos nativa
+     * del motor: {@code ON CONFLICT} en PostgreSQL, {@code ON DUPLICATE KEY UPDATE}
+     * en MySQL, {@code MERGE ... KEY} en H2 y {@code MERGE} en Oracle y SQL Server.
+     *
+     * <p>Los parámetros son el identificador seguido de las columnas, en ese orden.
+     * Los nombres deben estar validados previamente.</p>
+     *
+     * @param table    la tabla.
+     * @param idColumn la columna del identificador, con una restricción de unicidad.
+     * @param columns  las demás columnas, al menos una.
+     * @return la sentencia parametrizada.
+     */
+    public String upsert(String table, String idColumn, List<String> columns) {
+        List<String> all = new ArrayList<>(columns.size() + 1);
+        all.add(idColumn);
+        all.addAll(columns);
+        String columnList = String.join(", ", all);
+        String placeholders = InLists.placeholders(all.size());
+        return switch (this) {
+            case POSTGRESQL -> "INSERT INTO " + table + " (" + columnList + ") VALUES (" + placeholders
+                    + ") ON CONFLICT (" + idColumn + ") DO UPDATE SET " + assignments(columns, "EXCLUDED.", "");
+            // VALUES(col) está obsoleto en MySQL 8.0.20, pero es la única forma que también admite MariaDB.
+            case MYSQL -> "INSERT INTO " + table + " (" + columnList + ") VALUES (" + placeholders
+                    + ") ON DUPLICATE KEY UPDATE " + assignments(columns, "VALUES(", ")");
+            case H2 -> "MERGE INTO " + table + " (" + columnList + ") KEY (" + idColumn + ") VALUES (" + placeholders
+                    + ")";
+            case ORACLE -> "MERGE INTO " + table + " t USING (SELECT "
+                    + String.join(", ", all.stream().map(column -> "? AS " + column).toList()) + " FROM DUAL) s ON (t."
+                    + idColumn + " = s." + idColumn + ") WHEN MATCHED THEN UPDATE SET " + assignments(columns, "s.", "")
+                    + " WHEN NOT MATCHED THEN INSERT (" + columnList + ") VALUES (" + qualified(all) + ")";
+            // HOLDLOCK evita que dos MERGE concurrentes intenten insertar la misma fila.
+            case SQLSERVER -> "MERGE INTO " + table + " WITH (HOLDLOCK) AS t USING (VALUES (" + placeholders
+                    + ")) AS s (" + columnList + ") ON t." + idColumn + " = s." + idColumn
+                    + " WHEN MATCHED THEN UPDATE SET " + assignments(columns, "s.", "")
+                    + " WHEN NOT MATCHED THEN INSERT (" + columnList + ") VALUES (" + qualified(all) + ");";
+        };
+    }
+
+    private static String assignments(List<String> columns, String prefix, String suffix) {
+        return String.join(", ", columns.stream().map(column -> column + " = " + prefix + column + suffix).toList());
+    }
+
+    private static String qualified(List<String> columns) {
+        return String.join(", ", columns.stream().map(column -> "s." + column).toList());
+    }
+
+}
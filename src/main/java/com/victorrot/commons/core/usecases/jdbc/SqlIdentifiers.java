@@ -0,0 +1,35 @@
+package com.victorrot.commons.core.usecases.jdbc;
+
+import java.util.regex.Pattern;
+
+/**
+ * Validación de los nombres de tablas y columnas que se concatenan en las
+ * sentencias SQL generadas por los casos de uso JDBC.
+ *
+ * @author Victor Manuel Rodriguez Ramirez
+ * @version 1.0.0 - Nueva validación de identificadores
+ */
+final class SqlIdentifiers {
+
+    private static final Pattern IDENTIFIER = Pattern.compile("[A-Za-z_][A-Za-z0-9_$]*(\\.[A-Za-z_][A-Za-z0-9_$]*)?");
+
+    private SqlIdentifiers() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * Verifica que el texto sea un identificador SQL simple, opcionalmente
+     * calificado con el esquema.
+     *
+     * @param identifier el identificador a validar.
+     * @return el mismo identificador.
+     * @throws IllegalArgumentException si el identificador es nulo o no es válido.
+     */
+    static String require(String identifier) {
+        if (identifier == null || !IDENTIFIER.matcher(identifier).matches()) {
+            throw new IllegalArgumentException("Identificador SQL no válido: " + identifier);
+        }
+        return identifier;
+    }
+
+}
@@ -0,0 +1,284 @@
+package com.victorrot.commons.core.usecases.limit;
+
+import com.victorrot.commons.exceptions.ServiceException;
+import com.victorrot.commons.exceptions.ServiceExceptionFactory;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Limitador de llamadas concurrentes cuyo límite se ajusta según la latencia
+ * observada.
+ *
+ * <p>Según la ley de Little, una vez que el recurso se satura su rendimiento deja
+ * de crecer y la latencia aumenta en proporción a las llamadas en curso. El
+ * limitador mide la latencia media en ventanas de tantas muestras como el límite
+ * actual (al menos {@value #MIN_WINDOW_SAMPLES}) y la compara con la latencia sin
+ * congestión, estimada como la menor media observada. Al cerrar cada ventana el
+ * límite {@code L} pasa a {@code L * gradiente + raíz(L)}, donde el gradiente es el
+ * cociente entre la latencia sin congestión, con una tolerancia del
+ * {@value #TOLERANCE_PERCENT}%, y la media de la ventana, acotado entre 0.5 y 1: sin
+ * congestión el límite crece en {@code raíz(L)} y con congestión se reduce, como
+ * máximo a la mitad, hasta que la cola del recurso desaparece. El límite se acota
+ * entre el mínimo y el máximo configurados y no crece en las ventanas en las que
+ * menos de la mitad de los lugares estuvieron ocupados, ya que no indican que más
+ * concurrencia sea sostenible.</p>
+ *
+ * <p>Una latencia medida con el recurso ya congestionado no sirve como referencia,
+ * y el recurso puede volverse más lento de forma permanente. Por ello, después de
+ * un número de ventanas elegido al azar entre {@value #PROBE_WINDOWS} y el doble,
+ * para que varios limitadores no coincidan, el límite se reduce a
+ * la mitad (sin bajar del mínimo configurado) para vaciar la cola del recurso y la
+ * latencia sin congestión se mide de nuevo con las llamadas que comienzan a partir
+ * de ese momento. La reducción equivale a la de una sola ventana congestionada, por
+ * lo que no provoca ráfagas de rechazos.</p>
+ *
+ * <p>Las llamadas que exceden el límite esperan en una cola FIFO acotada durante un
+ * tiempo máximo; si no obtienen un lugar se rechazan con una
+ * {@link ServiceException} de tipo {@code SERVICE}, de modo que una base de datos
+ * lenta no acumula hilos ni agota el pool de conexiones de otras funciones.</p>
+ *
+ * @author Victor Manuel Rodriguez Ramirez
+ *
+ * @see LimitedCrudUseCase
+ * @see AdaptiveLimitSettings
+ * @version 1.0.0 - Nuevo limitador de concurrencia adaptativo
+ */
+@Slf4j
+public final class AdaptiveConcurrencyLimiter {
+
+    static final int TOLERANCE_PERCENT = 50;
+
+    private static final double TOLERANCE = 1 + TOLERANCE_PERCENT / 100.0;
+
+    /** Número mínimo de muestras de cada ventana de medición. */
+    private static final int MIN_WINDOW_SAMPLES = 10;
+
+    /** Número mínimo de ventanas entre dos mediciones de la latencia sin congestión. */
+    static final int PROBE_WINDOWS = 50;
+
+    private final String name;
+
+    private final AdaptiveLimitSettings settings;
+
+    /** Reloj en nanosegundos con el que se miden las latencias. */
+    private final LongSupplier clock;
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private final Condition available = lock.newCondition();
+
+    private double limit;
+
+    private int inFlight;
+
+    private int waiting;
+
+    private double noLoadRtt;
+
+    private long probeStart;
+
+    /** Ventanas que faltan para la próxima medición de la latencia sin congestión. */
+    private int windowsUntilProbe;
+
+    private long windowRttSum;
+
+    private int windowSamples;
+
+    private int windowMaxInFlight;
+
+    /**
+     * Crea un limitador.
+     *
+     * @param name     el nombre del recurso limitado, utilizado en los mensajes.
+     * @param settings la configuración del limitador.
+     */
+    public AdaptiveConcurrencyLimiter(String name, AdaptiveLimitSettings settings) {
+        this(name, settings, System::nanoTime);
+    }
+
+    /**
+     * Crea un limitador que mide las latencias con el reloj indicado.
+     *
+     * @param name     el nombre del recurso limitado, utilizado en los mensajes.
+     * @param settings la configuración del limitador.
+     * @param clock    el reloj en nanosegundos, como {@link System#nanoTime()}.
+     */
+    AdaptiveConcurrencyLimiter(String name, AdaptiveLimitSettings settings, LongSupplier clock) {
+        this.name = Objects.requireNonNull(name, "name");
+        this.settings = Objects.requireNonNull(settings, "settings");
+        this.clock = Objects.requireNonNull(clock, "clock");
+        this.limit = settings.initialLimit();
+        this.probeStart = clock.getAsLong();
+        this.windowsUntilProbe = nextProbeWindows();
+    }
+
+    /**
+     * Obtiene un lugar, esperando en la cola si el límite está alcanzado. Cada
+     * llamada exitosa debe seguirse de {@link #release(long, boolean)}.
+     *
+     * @return la marca de tiempo de inicio que debe pasarse a {@link #release(long, boolean)}.
+     * @throws ServiceException de tipo {@code SERVICE} si la cola está llena, si se
+     *         agota la espera o si el hilo se interrumpe mientras espera.
+     */
+    public long acquire() {
+        boolean interrupted = false;
+        int rejectedLimit;
+        lock.lock();
+        try {
+            if (waiting == 0 && inFlight < (int) limit) {
+                inFlight++;
+                return clock.getAsLong();
+            }
+            if (waiting < settings.maxQueueLength()) {
+                waiting++;
+                try {
+                    long remaining = settings.maxQueueWait().toNanos();
+                    while (inFlight >= (int) limit && remaining > 0) {
+                        remaining = available.awaitNanos(remaining);
+                    }
+                } catch (InterruptedException ex) {
+                    interrupted = true;
+                } finally {
+                    waiting--;
+                }
+                if (inFlight < (int) limit) {
+                    if (interrupted) {
+                        // Cede a otra llamada en espera la señal que pudo recibir este hilo.
+                        available.signal();
+                    } else {
+                        inFlight++;
+                        if (inFlight < (int) limit) {
+                            available.signal();
+                        }
+                        return clock.getAsLong();
+                    }
+                }
+            }
+            rejectedLimit = (int) limit;
+        } finally {
+            lock.unlock();
+        }
+        // La excepción se crea fuera del bloqueo porque la fábrica la registra en el log.
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+            throw ServiceExceptionFactory.service("Se interrumpió la espera de un lugar en {}", name);
+        }
+        throw ServiceExceptionFactory.service("Se alcanzó el límite de {} llamadas concurrentes en {}",
+                rejectedLimit, name);
+    }
+
+    /**
+     * Libera un lugar obtenido con {@link #acquire()}.
+     *
+     * @param start    la marca de tiempo devuelta por {@link #acquire()}.
+     * @param measured {@code true} si la latencia de la llamada debe ajustar el
+     *                 límite; {@code false} para llamadas que no llegaron al recurso,
+     *                 como las rechazadas por argumentos inválidos.
+     */
+    public void release(long start, boolean measured) {
+        long now = clock.getAsLong();
+        lock.lock();
+        try {
+            if (measured && start - probeStart >= 0) {
+                adjust(Math.max(1, now - start), now);
+            }
+            inFlight--;
+            if (inFlight < (int) limit) {
+                available.signal();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Obtiene el límite actual.
+     *
+     * @return el número de llamadas concurrentes permitidas.
+     */
+    public int getLimit() {
+        lock.lock();
+        try {
+            return (int) limit;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Obtiene el número de llamadas en curso.
+     *
+     * @return las llamadas que ocupan un lugar.
+     */
+    public int getInFlight() {
+        lock.lock();
+        try {
+            return inFlight;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Obtiene el número de llamadas en espera.
+     *
+     * @return las llamadas en la cola.
+     */
+    public int getWaiting() {
+        lock.lock();
+        try {
+            return waiting;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void adjust(long rtt, long now) {
+        windowRttSum += rtt;
+        windowMaxInFlight = Math.max(windowMaxInFlight, inFlight);
+        if (++windowSamples < Math.max(MIN_WINDOW_SAMPLES, (int) limit)) {
+            return;
+        }
+        double averageRtt = (double) windowRttSum / windowSamples;
+        boolean applicationLimited = windowMaxInFlight < limit / 2;
+        windowSamples = 0;
+        windowRttSum = 0;
+        windowMaxInFlight = 0;
+        if (noLoadRtt == 0 || averageRtt < noLoadRtt) {
+            noLoadRtt = averageRtt;
+        }
+        if (--windowsUntilProbe <= 0) {
+            // Vacía la cola del recurso reduciendo el límite y mide de nuevo la latencia
+            // sin congestión con las llamadas que comiencen a partir de ahora.
+            probeStart = now;
+            noLoadRtt = 0;
+            windowsUntilProbe = nextProbeWindows();
+            limit = Math.max(settings.minLimit(), limit / 2);
+            log.trace("Límite de {} reducido a {} para medir la latencia sin congestión", name, (int) limit);
+            return;
+        }
+        double gradient = Math.max(0.5, Math.min(1.0, TOLERANCE * noLoadRtt / averageRtt));
+        double target = limit * gradient + Math.sqrt(limit);
+        if (target > limit && applicationLimited) {
+            return;
+        }
+        double previous = limit;
+        limit = Math.max(settings.minLimit(), Math.min(settings.maxLimit(), target));
+        if ((int) limit > (int) previous) {
+            available.signalAll();
+        }
+        if (log.isTraceEnabled() && (int) limit != (int) previous) {
+            log.trace("Límite de {} ajustado de {} a {} (latencia {} ns, sin congestión {} ns)", name,
+                    (int) previous, (int) limit, (long) averageRtt, (long) noLoadRtt);
+        }
+    }
+
+    private static int nextProbeWindows() {
+        return PROBE_WINDOWS + ThreadLocalRandom.current().nextInt(PROBE_WINDOWS + 1);
+    }
+
+}
@@ -0,0 +1,62 @@
+package com.victorrot.commons.core.usecases.limit;
+
+import java.time.Duration;
+
+/**
+ * Configuración de un {@link AdaptiveConcurrencyLimiter}.
+ *
+ * @param initialLimit   el límite de llamadas concurrentes inicial.
+ * @param minLimit       el límite mínimo al que puede reducirse.
+ * @param maxLimit       el límite máximo al que puede crecer.
+ * @param maxQueueLength el número máximo de llamadas en espera; las llamadas que
+ *                       excedan el límite con la cola llena se rechazan de inmediato.
+ * @param maxQueueWait   el tiempo máximo que una llamada espera un lugar antes de
+ *                       rechazarse; {@link Duration#ZERO} rechaza sin esperar.
+ *
+ * @author Victor Manuel Rodriguez Ramirez
+ * @version 1.0.0 - Nueva configuración del limitador
+ */
+public record AdaptiveLimitSettings(int initialLimit, int minLimit, int maxLimit, int maxQueueLength,
+        Duration maxQueueWait) {
+
+    /** Límite inicial por defecto. */
+    public static final int DEFAULT_INITIAL_LIMIT = 20;
+
+    /** Límite máximo por defecto. */
+    public static final int DEFAULT_MAX_LIMIT = 200;
+
+    /** Espera máxima en la cola por defecto. */
+    public static final Duration DEFAULT_MAX_QUEUE_WAIT = Duration.ofMillis(50);
+
+    /**
+     * Valida los parámetros de la configuración.
+     *
+     * @throws IllegalArgumentException si los límites no son positivos o no cumplen
+     *         {@code minLimit <= initialLimit <= maxLimit}, si {@code maxQueueLength}
+     *         es negativo, o si {@code maxQueueWait} es {@code null} o negativo.
+     */
+    public AdaptiveLimitSettings {
+        if (minLimit <= 0 || initialLimit < minLimit || maxLimit < initialLimit) {
+            throw new IllegalArgumentException("Los límites deben ser positivos y cumplir mínimo <= inicial <= máximo");
+        }
+        if (maxQueueLength < 0) {
+            throw new IllegalArgumentException("La longitud máxima de la cola no puede ser negativa");
+        }
+        if (maxQueueWait == null || maxQueueWait.isNegative()) {
+            throw new IllegalArgumentException("La espera máxima en la cola no puede ser nula ni negativa");
+        }
+    }
+
+    /**
+     * Crea la configuración por defecto: límite inicial de
+     * {@value #DEFAULT_INITIAL_LIMIT} entre 1 y {@value #DEFAULT_MAX_LIMIT}, con una
+     * cola de hasta {@value #DEFAULT_MAX_LIMIT} llamadas que esperan como máximo 50 ms.
+     *
+     * @return la configuración por defecto.
+     */
+    public static AdaptiveLimitSettings defaults() {
+        return new AdaptiveLimitSettings(DEFAULT_INITIAL_LIMIT, 1, DEFAULT_MAX_LIMIT, DEFAULT_MAX_LIMIT,
+                DEFAULT_MAX_QUEUE_WAIT);
+    }
+
+}
@@ -0,0 +1,176 @@
+package com.victorrot.commons.core.usecases.limit;
+
+import com.victorrot.commons.core.usecases.CrudUseCase;
+import com.victorrot.commons.exceptions.ServiceException;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Supplier;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * Decorador de {@link CrudUseCase} que limita las llamadas concurrentes al caso de
+ * uso decorado.
+ *
+ * <p>Las búsquedas por identificador, los recorridos ({@code findAll}), las altas
+ * y las eliminaciones tienen cada uno su propio {@link AdaptiveConcurrencyLimiter},
+ * de modo que la lentitud de un tipo de operación no bloquea a los demás y la
+ * latencia de los recorridos no reduce el límite de las búsquedas puntuales. Los
+ * limitadores pueden compartirse entre varios decoradores que usan el mismo recurso,
+ * por ejemplo el mismo pool de conexiones. Cuando una operación excede su límite y
+ * no obtiene lugar en la cola, falla con una {@link ServiceException} de tipo
+ * {@code SERVICE} sin invocar al caso de uso decorado.</p>
+ *
+ * <p>La latencia de todas las llamadas ajusta el límite, con la excepción de las
+ * que fallan con {@link IllegalArgumentException}, que no llegan al recurso.</p>
+ *
+ * @author Victor Manuel Rodriguez Ramirez
+ * @param <E>  el tipo de la entidad
+ * @param <ID> el tipo del identificador único de la entidad
+ *
+ * @see AdaptiveConcurrencyLimiter
+ * @see ServiceException
+ * @version 1.0.0 - Nuevo decorador con límite de concurrencia
+ */
+public class LimitedCrudUseCase<E, ID> implements CrudUseCase<E, ID> {
+
+    private final CrudUseCase<E, ID> delegate;
+
+    private final AdaptiveConcurrencyLimiter findLimiter;
+
+    private final AdaptiveConcurrencyLimiter scanLimiter;
+
+    private final AdaptiveConcurrencyLimiter persistLimiter;
+
+    private final AdaptiveConcurrencyLimiter deleteLimiter;
+
+    /**
+     * Crea un decorador con un limitador nuevo por tipo de operación.
+     *
+     * @param delegate el caso de uso CRUD decorado.
+     * @param name     el nombre del caso de uso, utilizado en los mensajes.
+     * @param settings la configuración de los cuatro limitadores.
+     */
+    public LimitedCrudUseCase(CrudUseCase<E, ID> delegate, String name, AdaptiveLimitSettings settings) {
+        this(delegate, new AdaptiveConcurrencyLimiter(name + ".find", settings),
+                new AdaptiveConcurrencyLimiter(name + ".scan", settings),
+                new AdaptiveConcurrencyLimiter(name + ".persist", settings),
+                new AdaptiveConcurrencyLimiter(name + ".delete", settings));
+    }
+
+    /**
+     * Crea un decorador con los limitadores indicados.
+     *
+     * @param delegate       el caso de uso CRUD decorado.
+     * @param findLimiter    el limitador de las búsquedas por identificador.
+     * @param scanLimiter    el limitador de los recorridos.
+     * @param persistLimiter el limitador de las altas.
+     * @param deleteLimiter  el limitador de las eliminaciones.
+     */
+    public LimitedCrudUseCase(CrudUseCase<E, ID> delegate, AdaptiveConcurrencyLimiter findLimiter,
+            AdaptiveConcurrencyLimiter scanLimiter, AdaptiveConcurrencyLimiter persistLimiter,
+            AdaptiveConcurrencyLimiter deleteLimiter) {
+        this.delegate = Objects.requireNonNull(delegate, "delegate");
+        this.findLimiter = Objects.requireNonNull(findLimiter, "findLimiter");
+        this.scanLimiter = Objects.requireNonNull(scanLimiter, "scanLimiter");
+        this.persistLimiter = Objects.requireNonNull(persistLimiter, "persistLimiter");
+        this.deleteLimiter = Objects.requireNonNull(deleteLimiter, "deleteLimiter");
+    }
+
+    @Override
+    public Optional<E> findById(ID id) {
+        return limit(findLimiter, () -> delegate.findById(id));
+    }
+
+    @Override
+    public boolean existsById(ID id) {
+        return limit(findLimiter, () -> delegate.existsById(id));
+    }
+
+    @Override
+    public List<E> findAll() {
+        return limit(scanLimiter, delegate::findAll);
+    }
+
+    @Override
+    public Page<E> findAll(Pageable pageable) {
+        return limit(scanLimiter, () -> delegate.findAll(pageable));
+    }
+
+    @Override
+    public E create(E entity) {
+        return limit(persistLimiter, () -> delegate.create(entity));
+    }
+
+    @Override
+    public List<E> createAll(Iterable<E> entities) {
+        return limit(persistLimiter, () -> delegate.createAll(entities));
+    }
+
+    @Override
+    public void delete(ID id) {
+        limit(deleteLimiter, () -> {
+            delegate.delete(id);
+            return null;
+        });
+    }
+
+    @Override
+    public void deleteAll(Iterable<ID> ids) {
+        limit(deleteLimiter, () -> {
+            delegate.deleteAll(ids);
+            return null;
+        });
+    }
+
+    /**
+     * Obtiene el limitador de las búsquedas por identificador.
+     *
+     * @return el limitador.
+     */
+    public AdaptiveConcurrencyLimiter getFindLimiter() {
+        return findLimiter;
+    }
+
+    /**
+     * Obtiene el limitador de los recorridos.
+     *
+     * @return el limitador.
+     */
+    public AdaptiveConcurrencyLimiter getScanLimiter() {
+        return scanLimiter;
+    }
+
+    /**
+     * Obtiene el limitador de las altas.
+     *
+     * @return el limitador.
+     */
+    public AdaptiveConcurrencyLimiter getPersistLimiter() {
+        return persistLimiter;
+    }
+
+    /**
+     * Obtiene el limitador de las eliminaciones.
+     *
+     * @return el limitador.
+     */
+    public AdaptiveConcurrencyLimiter getDeleteLimiter() {
+        return deleteLimiter;
+    }
+
+    private static <T> T limit(AdaptiveConcurrencyLimiter limiter, Supplier<T> call) {
+        long start = limiter.acquire();
+        boolean measured = true;
+        try {
+            return call.get();
+        } catch (IllegalArgumentException ex) {
+            measured = false;
+            throw ex;
+        } finally {
+            limiter.release(start, measured);
+        }
+    }
+
+}
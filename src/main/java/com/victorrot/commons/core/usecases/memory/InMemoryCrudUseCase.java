@@ -0,0 +1,183 @@
+package com.victorrot.commons.core.usecases.memory;
+
+import com.victorrot.commons.core.usecases.CrudUseCase;
+import com.victorrot.commons.exceptions.ServiceException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * Implementación en memoria de {@link CrudUseCase}, pensada para datos de referencia
+ * muy consultados y para pruebas.
+ *
+ * <p>Las entidades se almacenan en un {@link ConcurrentSkipListMap} ordenado por
+ * identificador, sin bloqueos. {@link #findAll()} y {@link #findAll(Pageable)}
+ * devuelven las entidades en orden ascendente de identificador, de modo que las
+ * páginas son estables mientras no haya escrituras; el criterio de ordenamiento de
+ * {@link Pageable} se ignora. Las consultas son débilmente consistentes frente a
+ * escrituras concurrentes.</p>
+ *
+ * <p>Para identificadores {@code long} y volúmenes grandes,
+ * {@link LongKeyInMemoryCrudUseCase} evita el empaquetado de las claves.</p>
+ *
+ * @author Victor Manuel Rodriguez Ramirez
+ * @param <E>  el tipo de la entidad
+ * @param <ID> el tipo del identificador único de la entidad
+ *
+ * @see LongKeyInMemoryCrudUseCase
+ * @see ServiceException
+ * @version 1.0.0 - Nuevo caso de uso en memoria
+ */
+public class InMemoryCrudUseCase<E, ID extends Comparable<? super ID>> implements CrudUseCase<E, ID> {
+
+    private final ConcurrentSkipListMap<ID, E> entities = new ConcurrentSkipListMap<>();
+
+    /** Número de entidades; {@link ConcurrentSkipListMap#size()} recorre todo el mapa. */
+    private final AtomicInteger size = new AtomicInteger();
+
+    private final Function<? super E, ? extends ID> idExtractor;
+
+    /**
+     * Crea un caso de uso en memoria vacío.
+     *
+     * @param idExtractor función que obtiene el identificador de una entidad.
+     */
+    public InMemoryCrudUseCase(Function<? super E, ? extends ID> idExtractor) {
+        this.idExtractor = Objects.requireNonNull(idExtractor, "idExtractor");
+    }
+
+    @Override
+    public Optional<E> findById(ID id) {
+        return Optional.ofNullable(entities.get(requireId(id)));
+    }
+
+    @Override
+    public boolean existsById(ID id) {
+        return entities.containsKey(requireId(id));
+    }
+
+    @Override
+    public List<E> findAll() {
+        return new ArrayList<>(entities.values());
+    }
+
+    @Override
+    public Page<E> findAll(Pageable pageable) {
+        if (pageable == null) {
+            throw new IllegalArgumentException("La información de paginación no puede ser nula");
+        }
+        int total = size.get();
+        if (pageable.isUnpaged()) {
+            return new PageImpl<>(findAll(), pageable, total);
+        }
+        List<E> content = new ArrayList<>(pageable.getPageSize());
+        Iterator<E> iterator = entities.values().iterator();
+        for (long skipped = 0; skipped < pageable.getOffset() && iterator.hasNext(); skipped++) {
+            iterator.next();
+        }
+        while (content.size() < pageable.getPageSize() && iterator.hasNext()) {
+            content.add(iterator.next());
+        }
+        return new PageImpl<>(content, pageable, total);
+    }
+
+    @Override
+    public E create(E entity) {
+        if (entity == null) {
+            throw new IllegalArgumentException("La entidad no puede ser nula");
+        }
+        store(requireEntityId(entity), entity);
+        return entity;
+    }
+
+    @Override
+    public List<E> createAll(Iterable<E> entities) {
+        List<E> created = requireAll(entities, "entidades");
+        List<ID> ids = new ArrayList<>(created.size());
+        for (E entity : created) {
+            ids.add(requireEntityId(entity));
+        }
+        for (int i = 0; i < created.size(); i++) {
+            store(ids.get(i), created.get(i));
+        }
+        return created;
+    }
+
+    @Override
+    public void delete(ID id) {
+        if (entities.remove(requireId(id)) != null) {
+            size.decrementAndGet();
+        }
+    }
+
+    @Override
+    public void deleteAll(Iterable<ID> ids) {
+        for (ID id : requireAll(ids, "identificadores")) {
+            if (entities.remove(id) != null) {
+                size.decrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * Obtiene el número de entidades almacenadas.
+     *
+     * @return el número de entidades.
+     */
+    public int size() {
+        return size.get();
+    }
+
+    private void store(ID id, E entity) {
+        if (entities.put(id, entity) == null) {
+            size.incrementAndGet();
+        }
+    }
+
+    private ID requireEntityId(E entity) {
+        ID id = idExtractor.apply(entity);
+        if (id == null) {
+            throw new IllegalArgumentException("La entidad debe tener un identificador");
+        }
+        return id;
+    }
+
+    private static <ID> ID requireId(ID id) {
+        if (id == null) {
+            throw new IllegalArgumentException("El identificador no puede ser nulo");
+        }
+        return id;
+    }
+
+    /**
+     * Copia los elementos a una lista validando el contrato de las operaciones en lote.
+     *
+     * @param items       los elementos.
+     * @param description la descripción de los elementos para los mensajes de error.
+     * @return una lista nueva con los elementos.
+     * @throws IllegalArgumentException si {@code items} es {@code null} o contiene elementos {@code null}.
+     */
+    static <T> List<T> requireAll(Iterable<T> items, String description) {
+        if (items == null) {
+            throw new IllegalArgumentException("La colección de " + description + " no puede ser nula");
+        }
+        List<T> copy = new ArrayList<>();
+        for (T item : items) {
+            if (item == null) {
+                throw new IllegalArgumentException(
+                        "La colección de " + description + " no puede contener elementos nulos");
+            }
+            copy.add(item);
+        }
+        return copy;
+    }
+
+}
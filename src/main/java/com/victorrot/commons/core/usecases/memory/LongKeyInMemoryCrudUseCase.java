@@ -0,0 +1,192 @@
+package com.victorrot.commons.core.usecases.memory;
+
+import com.victorrot.commons.core.usecases.CrudUseCase;
+import com.victorrot.commons.exceptions.ServiceException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.ToLongFunction;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * Implementación en memoria de {@link CrudUseCase} para entidades con identificador
+ * {@code long}, pensada para datos de referencia muy consultados y para pruebas.
+ *
+ * <p>Las entidades se almacenan en un {@link StripedLongHashMap}, sin empaquetar los
+ * identificadores, de modo que decenas de millones de entidades ocupan una fracción
+ * de la memoria de un {@code ConcurrentHashMap<Long, E>}. Además de los métodos del
+ * contrato, ofrece variantes con {@code long} que evitan el empaquetado en el
+ * llamador.</p>
+ *
+ * <p>{@link #findAll(Pageable)} devuelve las entidades en orden ascendente de
+ * identificador, de modo que las páginas son estables mientras no haya escrituras;
+ * el criterio de ordenamiento de {@link Pageable} se ignora. Los identificadores
+ * ordenados se reutilizan entre páginas y solo se ordenan de nuevo después de altas
+ * o bajas; reemplazar una entidad existente no los invalida.
+ * {@link #findAll()} no garantiza un orden. Ambas consultas son débilmente
+ * consistentes frente a escrituras concurrentes.</p>
+ *
+ * @author Victor Manuel Rodriguez Ramirez
+ * @param <E> el tipo de la entidad
+ *
+ * @see InMemoryCrudUseCase
+ * @see ServiceException
+ * @version 1.0.0 - Nuevo caso de uso en memoria con claves primitivas
+ */
+public class LongKeyInMemoryCrudUseCase<E> implements CrudUseCase<E, Long> {
+
+    private final StripedLongHashMap<E> entities;
+
+    private final ToLongFunction<? super E> idExtractor;
+
+    /**
+     * Crea un caso de uso en memoria vacío.
+     *
+     * @param idExtractor función que obtiene el identificador de una entidad.
+     */
+    public LongKeyInMemoryCrudUseCase(ToLongFunction<? super E> idExtractor) {
+        this(idExtractor, 0);
+    }
+
+    /**
+     * Crea un caso de uso en memoria vacío dimensionado para el número de entidades indicado.
+     *
+     * @param idExtractor  función que obtiene el identificador de una entidad.
+     * @param expectedSize el número de entidades esperado.
+     * @throws IllegalArgumentException si {@code expectedSize} es negativo.
+     */
+    public LongKeyInMemoryCrudUseCase(ToLongFunction<? super E> idExtractor, int expectedSize) {
+        this.idExtractor = Objects.requireNonNull(idExtractor, "idExtractor");
+        this.entities = new StripedLongHashMap<>(expectedSize);
+    }
+
+    @Override
+    public Optional<E> findById(Long id) {
+        return findById(requireId(id));
+    }
+
+    /**
+     * Busca una entidad por su identificador sin empaquetarlo.
+     *
+     * @param id el identificador de la entidad.
+     * @return la entidad encontrada, o vacío si no existe.
+     */
+    public Optional<E> findById(long id) {
+        return Optional.ofNullable(entities.get(id));
+    }
+
+    @Override
+    public boolean existsById(Long id) {
+        return existsById(requireId(id));
+    }
+
+    /**
+     * Verifica si existe una entidad con el identificador indicado sin empaquetarlo.
+     *
+     * @param id el identificador de la entidad.
+     * @return {@code true} si la entidad existe.
+     */
+    public boolean existsById(long id) {
+        return entities.containsKey(id);
+    }
+
+    @Override
+    public List<E> findAll() {
+        List<E> all = new ArrayList<>(entities.size());
+        entities.forEach((id, entity) -> all.add(entity));
+        return all;
+    }
+
+    /**
+     * Obtiene una página de entidades en orden ascendente de identificador.
+     *
+     * <p>La página y su total se calculan sobre la misma instantánea de los
+     * identificadores. Las entidades de la página eliminadas después de tomarla se
+     * omiten y se descuentan del total, de modo que el total nunca cuenta elementos
+     * ausentes del contenido; las altas y bajas concurrentes fuera de la página no se
+     * reflejan hasta la siguiente consulta.</p>
+     *
+     * @param pageable la información de paginación; su criterio de ordenamiento se ignora.
+     * @return la página solicitada.
+     * @throws IllegalArgumentException si {@code pageable} es {@code null}.
+     */
+    @Override
+    public Page<E> findAll(Pageable pageable) {
+        if (pageable == null) {
+            throw new IllegalArgumentException("La información de paginación no puede ser nula");
+        }
+        long[] ids = entities.sortedKeys();
+        int from = pageable.isPaged() ? (int) Math.min(pageable.getOffset(), ids.length) : 0;
+        int to = pageable.isPaged() ? Math.min(from + pageable.getPageSize(), ids.length) : ids.length;
+        List<E> content = new ArrayList<>(to - from);
+        int removed = 0;
+        for (int i = from; i < to; i++) {
+            E entity = entities.get(ids[i]);
+            if (entity != null) {
+                content.add(entity);
+            } else {
+                removed++;
+            }
+        }
+        return new PageImpl<>(content, pageable, ids.length - removed);
+    }
+
+    @Override
+    public E create(E entity) {
+        if (entity == null) {
+            throw new IllegalArgumentException("La entidad no puede ser nula");
+        }
+        entities.put(idExtractor.applyAsLong(entity), entity);
+        return entity;
+    }
+
+    @Override
+    public List<E> createAll(Iterable<E> entities) {
+        List<E> created = InMemoryCrudUseCase.requireAll(entities, "entidades");
+        for (E entity : created) {
+            this.entities.put(idExtractor.applyAsLong(entity), entity);
+        }
+        return created;
+    }
+
+    @Override
+    public void delete(Long id) {
+        delete(requireId(id));
+    }
+
+    /**
+     * Elimina la entidad con el identificador indicado sin empaquetarlo.
+     *
+     * @param id el identificador de la entidad.
+     */
+    public void delete(long id) {
+        entities.remove(id);
+    }
+
+    @Override
+    public void deleteAll(Iterable<Long> ids) {
+        for (Long id : InMemoryCrudUseCase.requireAll(ids, "identificadores")) {
+            entities.remove(id);
+        }
+    }
+
+    /**
+     * Obtiene el número de entidades almacenadas.
+     *
+     * @return el número de entidades.
+     */
+    public int size() {
+        return entities.size();
+    }
+
+    private static long requireId(Long id) {
+        if (id == null) {
+            throw new IllegalArgumentException("El identificador no puede ser nulo");
+        }
+        return id;
+    }
+
+}
@@ -0,0 +1,392 @@
+package com.victorrot.commons.core.usecases.memory;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.BiConsumer;
+
+/**
+ * Mapa concurrente de claves {@code long} a valores, con direccionamiento abierto y
+ * sin empaquetar las claves.
+ *
+ * <p>Las entradas se reparten en segmentos según los bits altos del hash de la
+ * clave. Cada segmento almacena las claves en un {@code long[]} y los valores en un
+ * {@code Object[]} paralelo, con sondeo lineal y eliminación por desplazamiento
+ * hacia atrás, sin marcas de borrado; el costo por entrada es de unos 12 a 24 bytes
+ * según la ocupación, frente a los más de 50 de un {@code ConcurrentHashMap<Long, V>}
+ * (nodo y {@code Long} por entrada).</p>
+ *
+ * <p>Las escrituras toman el bloqueo exclusivo de su segmento, por lo que las
+ * escrituras sobre segmentos distintos no compiten entre sí. Las lecturas son
+ * optimistas: recorren el segmento sin bloquear y solo toman el bloqueo de lectura
+ * si una escritura concurrente invalidó el recorrido. Las operaciones que recorren
+ * todos los segmentos son débilmente consistentes.</p>
+ *
+ * <p>Cada segmento cuenta las altas y bajas de claves. {@link #sortedKeys()}
+ * conserva el último arreglo ordenado junto con la suma de esos contadores y lo
+ * reutiliza mientras no cambie, de modo que las páginas sucesivas de un mapa que no
+ * recibe altas ni bajas no copian ni ordenan todas las claves.</p>
+ *
+ * @author Victor Manuel Rodriguez Ramirez
+ * @param <V> el tipo de los valores
+ * @version 1.0.0 - Nuevo mapa de claves primitivas
+ */
+public final class StripedLongHashMap<V> {
+
+    /** Número de segmentos; potencia de dos. */
+    static final int SEGMENTS = 64;
+
+    private static final int SEGMENT_SHIFT = Long.SIZE - Integer.numberOfTrailingZeros(SEGMENTS);
+
+    private static final int MIN_CAPACITY = 8;
+
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    private final Segment[] segments = new Segment[SEGMENTS];
+
+    /** Último arreglo de claves ordenado; se descarta cuando cambia el conjunto de claves. */
+    private volatile KeySnapshot keySnapshot;
+
+    /**
+     * Crea un mapa vacío.
+     */
+    public StripedLongHashMap() {
+        this(0);
+    }
+
+    /**
+     * Crea un mapa vacío dimensionado para el número de entradas indicado.
+     *
+     * @param expectedSize el número de entradas esperado.
+     * @throws IllegalArgumentException si {@code expectedSize} es negativo.
+     */
+    public StripedLongHashMap(int expectedSize) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("El tamaño esperado no puede ser negativo");
+        }
+        int perSegment = (int) Math.min(MAX_CAPACITY, (long) expectedSize / SEGMENTS * 4 / 3 + 1);
+        int capacity = Math.max(MIN_CAPACITY, Integer.highestOneBit(perSegment - 1) << 1);
+        for (int i = 0; i < SEGMENTS; i++) {
+            segments[i] = new Segment(capacity);
+        }
+    }
+
+    /**
+     * Obtiene el valor asociado a la clave.
+     *
+     * @param key la clave.
+     * @return el valor, o {@code null} si la clave no está presente.
+     */
+    @SuppressWarnings("unchecked")
+    public V get(long key) {
+        long hash = mix(key);
+        return (V) segmentFor(hash).get(key, (int) hash);
+    }
+
+    /**
+     * Indica si la clave está presente.
+     *
+     * @param key la clave.
+     * @return {@code true} si la clave está presente.
+     */
+    public boolean containsKey(long key) {
+        return get(key) != null;
+    }
+
+    /**
+     * Asocia el valor a la clave, reemplazando el valor anterior.
+     *
+     * @param key   la clave.
+     * @param value el valor.
+     * @return el valor anterior, o {@code null} si la clave no estaba presente.
+     * @throws NullPointerException si {@code value} es {@code null}.
+     */
+    @SuppressWarnings("unchecked")
+    public V put(long key, V value) {
+        Objects.requireNonNull(value, "value");
+        long hash = mix(key);
+        return (V) segmentFor(hash).put(key, (int) hash, value);
+    }
+
+    /**
+     * Elimina la clave.
+     *
+     * @param key la clave.
+     * @return el valor eliminado, o {@code null} si la clave no estaba presente.
+     */
+    @SuppressWarnings("unchecked")
+    public V remove(long key) {
+        long hash = mix(key);
+        return (V) segmentFor(hash).remove(key, (int) hash);
+    }
+
+    /**
+     * Obtiene el número de entradas.
+     *
+     * @return el número de entradas.
+     */
+    public int size() {
+        long size = 0;
+        for (Segment segment : segments) {
+            size += segment.size;
+        }
+        return (int) Math.min(Integer.MAX_VALUE, size);
+    }
+
+    /**
+     * Obtiene las claves presentes, en orden ascendente.
+     *
+     * <p>El arreglo se comparte entre las llamadas mientras no se agreguen ni eliminen
+     * claves, por lo que no debe modificarse.</p>
+     *
+     * @return el arreglo de las claves, de solo lectura.
+     */
+    public long[] sortedKeys() {
+        long modCount = modCount();
+        KeySnapshot snapshot = keySnapshot;
+        if (snapshot != null && snapshot.modCount() == modCount) {
+            return snapshot.keys();
+        }
+        long[] keys = collectSortedKeys();
+        keySnapshot = new KeySnapshot(modCount, keys);
+        return keys;
+    }
+
+    private long[] collectSortedKeys() {
+        long[] keys = new long[0];
+        int count = 0;
+        for (Segment segment : segments) {
+            long stamp = segment.lock.readLock();
+            try {
+                if (keys.length - count < segment.size) {
+                    keys = Arrays.copyOf(keys, Math.max(count + segment.size, keys.length + (keys.length >> 1)));
+                }
+                count = segment.copyKeys(keys, count);
+            } finally {
+                segment.lock.unlockRead(stamp);
+            }
+        }
+        keys = Arrays.copyOf(keys, count);
+        Arrays.sort(keys);
+        return keys;
+    }
+
+    /**
+     * Recorre las entradas, segmento a segmento y sin un orden definido.
+     *
+     * @param action la acción a ejecutar con cada clave y valor; se ejecuta con el
+     *               bloqueo de lectura del segmento, por lo que no debe modificar el mapa.
+     */
+    @SuppressWarnings("unchecked")
+    public void forEach(BiConsumer<? super Long, ? super V> action) {
+        Objects.requireNonNull(action, "action");
+        for (Segment segment : segments) {
+            long stamp = segment.lock.readLock();
+            try {
+                Table table = segment.table;
+                for (int i = 0; i < table.values.length; i++) {
+                    Object value = table.values[i];
+                    if (value != null) {
+                        action.accept(table.keys[i], (V) value);
+                    }
+                }
+            } finally {
+                segment.lock.unlockRead(stamp);
+            }
+        }
+    }
+
+    /** Suma de los contadores de cambios; como solo crecen, no varía si ningún segmento cambió. */
+    private long modCount() {
+        long modCount = 0;
+        for (Segment segment : segments) {
+            modCount += segment.modCount;
+        }
+        return modCount;
+    }
+
+    private Segment segmentFor(long hash) {
+        return segments[(int) (hash >>> SEGMENT_SHIFT)];
+    }
+
+    /** Finalizador de MurmurHash3 (fmix64). */
+    private static long mix(long key) {
+        key ^= key >>> 33;
+        key *= 0xff51afd7ed558ccdL;
+        key ^= key >>> 33;
+        key *= 0xc4ceb9fe1a85ec53L;
+        key ^= key >>> 33;
+        return key;
+    }
+
+    /** Claves ordenadas y la suma de los contadores de cambios con la que se obtuvieron. */
+    private record KeySnapshot(long modCount, long[] keys) {
+    }
+
+    /** Arreglos de un segmento; una ranura está libre si su valor es {@code null}. */
+    private static final class Table {
+
+        final long[] keys;
+
+        final Object[] values;
+
+        Table(int capacity) {
+            this.keys = new long[capacity];
+            this.values = new Object[capacity];
+        }
+
+    }
+
+    private static final class Segment {
+
+        final StampedLock lock = new StampedLock();
+
+        /** Se reemplaza solo con el bloqueo exclusivo; las lecturas optimistas lo validan. */
+        Table table;
+
+        volatile int size;
+
+        /** Número de altas y bajas de claves; solo se incrementa con el bloqueo exclusivo. */
+        volatile long modCount;
+
+        Segment(int capacity) {
+            this.table = new Table(capacity);
+        }
+
+        Object get(long key, int hash) {
+            long stamp = lock.tryOptimisticRead();
+            if (stamp != 0L) {
+                Object value = find(table, key, hash);
+                if (lock.validate(stamp)) {
+                    return value;
+                }
+            }
+            stamp = lock.readLock();
+            try {
+                return find(table, key, hash);
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+
+        Object put(long key, int hash, Object value) {
+            long stamp = lock.writeLock();
+            try {
+                Table current = table;
+                int mask = current.keys.length - 1;
+                int slot = hash & mask;
+                for (Object existing; (existing = current.values[slot]) != null; slot = (slot + 1) & mask) {
+                    if (current.keys[slot] == key) {
+                        current.values[slot] = value;
+                        return existing;
+                    }
+                }
+                if (size + 1 > threshold(current.keys.length)) {
+                    current = resize(current);
+                    mask = current.keys.length - 1;
+                    slot = hash & mask;
+                    while (current.values[slot] != null) {
+                        slot = (slot + 1) & mask;
+                    }
+                }
+                current.keys[slot] = key;
+                current.values[slot] = value;
+                size++;
+                modCount++;
+                return null;
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+
+        Object remove(long key, int hash) {
+            long stamp = lock.writeLock();
+            try {
+                Table current = table;
+                long[] keys = current.keys;
+                Object[] values = current.values;
+                int mask = keys.length - 1;
+                int slot = hash & mask;
+                Object removed;
+                while ((removed = values[slot]) != null && keys[slot] != key) {
+                    slot = (slot + 1) & mask;
+                }
+                if (removed == null) {
+                    return null;
+                }
+                // Desplaza hacia atrás las entradas cuya posición ideal no queda entre el hueco y ellas.
+                int gap = slot;
+                for (int next = (gap + 1) & mask; values[next] != null; next = (next + 1) & mask) {
+                    int ideal = (int) mix(keys[next]) & mask;
+                    if (((next - ideal) & mask) >= ((next - gap) & mask)) {
+                        keys[gap] = keys[next];
+                        values[gap] = values[next];
+                        gap = next;
+                    }
+                }
+                values[gap] = null;
+                size--;
+                modCount++;
+                return removed;
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+
+        int copyKeys(long[] target, int offset) {
+            Table current = table;
+            for (int i = 0; i < current.values.length; i++) {
+                if (current.values[i] != null) {
+                    target[offset++] = current.keys[i];
+                }
+            }
+            return offset;
+        }
+
+        private Table resize(Table current) {
+            int capacity = current.keys.length;
+            if (capacity >= MAX_CAPACITY) {
+                throw new IllegalStateException("El segmento alcanzó su capacidad máxima");
+            }
+            Table resized = new Table(capacity << 1);
+            int mask = resized.keys.length - 1;
+            for (int i = 0; i < capacity; i++) {
+                Object value = current.values[i];
+                if (value != null) {
+                    long key = current.keys[i];
+                    int slot = (int) mix(key) & mask;
+                    while (resized.values[slot] != null) {
+                        slot = (slot + 1) & mask;
+                    }
+                    resized.keys[slot] = key;
+                    resized.values[slot] = value;
+                }
+            }
+            table = resized;
+            return resized;
+        }
+
+        private static int threshold(int capacity) {
+            return capacity - (capacity >>> 2);
+        }
+
+        private static Object find(Table table, long key, int hash) {
+            long[] keys = table.keys;
+            Object[] values = table.values;
+            int mask = keys.length - 1;
+            // El límite de sondeos evita un ciclo infinito si una lectura optimista ve un estado inconsistente.
+            for (int slot = hash & mask, probes = 0; probes <= mask; slot = (slot + 1) & mask, probes++) {
+                Object value = values[slot];
+                if (value == null) {
+                    return null;
+                }
+                if (keys[slot] == key) {
+                    return value;
+                }
+            }
+            return null;
+        }
+
+    }
+
+}
@@ -0,0 +1,100 @@
+package com.victorrot.commons.core.usecases.metrics;
+
+import com.victorrot.commons.exceptions.TypeException;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Superficie de métricas en memoria, sin dependencias externas.
+ *
+ * <p>Por cada caso de uso y operación conserva un {@link LogLinearHistogram} de
+ * latencias, un histograma de tamaños de lote y un contador de errores por
+ * {@link TypeException}. Los valores se consultan con
+ * {@link #statistics(String, UseCaseOperation)}.</p>
+ *
+ * @author Victor Manuel Rodriguez Ramirez
+ * @see UseCaseMetrics
+ * @version 1.0.0 - Nueva superficie de métricas en memoria
+ */
+public class InMemoryUseCaseMetrics implements UseCaseMetrics {
+
+    private final Map<String, Recorder> recorders = new ConcurrentHashMap<>();
+
+    @Override
+    public UseCaseRecorder recorder(String useCase) {
+        return recorders.computeIfAbsent(useCase, name -> new Recorder());
+    }
+
+    /**
+     * Obtiene los nombres de los casos de uso registrados.
+     *
+     * @return los nombres de los casos de uso.
+     */
+    public Set<String> useCases() {
+        return Set.copyOf(recorders.keySet());
+    }
+
+    /**
+     * Obtiene el resumen de las métricas de una operación de un caso de uso.
+     *
+     * @param useCase   el nombre del caso de uso.
+     * @param operation la operación.
+     * @return el resumen de las métricas; vacío si el caso de uso no está registrado.
+     */
+    public OperationStatistics statistics(String useCase, UseCaseOperation operation) {
+        Recorder recorder = recorders.get(useCase);
+        if (recorder == null) {
+            return new OperationStatistics(0, 0, 0, 0, 0, Map.of(), 0, 0);
+        }
+        int index = operation.ordinal();
+        LogLinearHistogram latency = recorder.latencies[index];
+        LogLinearHistogram batchSizes = recorder.batchSizes[index];
+        Map<TypeException, Long> errors = new EnumMap<>(TypeException.class);
+        for (TypeException type : TypeException.values()) {
+            long count = recorder.errors[index][type.ordinal()].sum();
+            if (count > 0) {
+                errors.put(type, count);
+            }
+        }
+        return new OperationStatistics(latency.count(), latency.mean(), latency.percentile(50),
+                latency.percentile(99), latency.max(), errors, batchSizes.mean(), batchSizes.max());
+    }
+
+    private static final class Recorder implements UseCaseRecorder {
+
+        private final LogLinearHistogram[] latencies = new LogLinearHistogram[UseCaseOperation.values().length];
+
+        private final LogLinearHistogram[] batchSizes = new LogLinearHistogram[UseCaseOperation.values().length];
+
+        private final LongAdder[][] errors = new LongAdder[UseCaseOperation.values().length][TypeException.values().length];
+
+        private Recorder() {
+            for (int i = 0; i < latencies.length; i++) {
+                latencies[i] = new LogLinearHistogram();
+                batchSizes[i] = new LogLinearHistogram();
+                for (int j = 0; j < errors[i].length; j++) {
+                    errors[i][j] = new LongAdder();
+                }
+            }
+        }
+
+        @Override
+        public void recordLatency(UseCaseOperation operation, long nanos) {
+            latencies[operation.ordinal()].record(nanos);
+        }
+
+        @Override
+        public void recordError(UseCaseOperation operation, TypeException type) {
+            errors[operation.ordinal()][type.ordinal()].increment();
+        }
+
+        @Override
+        public void recordBatchSize(UseCaseOperation operation, int size) {
+            batchSizes[operation.ordinal()].record(size);
+        }
+    }
+
+}
@@ -0,0 +1,164 @@
+package com.victorrot.commons.core.usecases.metrics;
+
+import com.victorrot.commons.core.usecases.CrudUseCase;
+import com.victorrot.commons.exceptions.ServiceException;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * Decorador de instrumentación para {@link CrudUseCase}.
+ *
+ * <p>Por cada operación registra en un {@link UseCaseRecorder} la latencia (con o
+ * sin error) y, si falla, la categoría del error según el tipo de la
+ * {@link ServiceException}. Para {@code createAll} y {@code deleteAll} registra
+ * además el tamaño del lote: el de la colección recibida o, si la entrada no es una
+ * colección, el número de entidades persistidas. El registro no crea objetos, por lo
+ * que el costo del decorador se limita a dos lecturas de {@link System#nanoTime()} y
+ * a la actualización de los contadores.</p>
+ *
+ * @author Victor Manuel Rodriguez Ramirez
+ * @param <E>  el tipo de la entidad gestionada
+ * @param <ID> el tipo del identificador único de la entidad
+ *
+ * @see UseCaseMetrics
+ * @see InstrumentedUseCases
+ * @version 1.0.0 - Nuevo decorador de instrumentación
+ */
+public class InstrumentedCrudUseCase<E, ID> implements CrudUseCase<E, ID> {
+
+    private final CrudUseCase<E, ID> delegate;
+
+    private final UseCaseRecorder recorder;
+
+    /**
+     * Crea un decorador de instrumentación.
+     *
+     * @param delegate el caso de uso instrumentado.
+     * @param useCase  el nombre con el que se registran las métricas.
+     * @param metrics  la superficie de métricas.
+     */
+    public InstrumentedCrudUseCase(CrudUseCase<E, ID> delegate, String useCase, UseCaseMetrics metrics) {
+        this.delegate = Objects.requireNonNull(delegate, "delegate");
+        this.recorder = metrics.recorder(Objects.requireNonNull(useCase, "useCase"));
+    }
+
+    @Override
+    public Optional<E> findById(ID id) {
+        long start = System.nanoTime();
+        try {
+            return delegate.findById(id);
+        } catch (RuntimeException ex) {
+            recorder.recordError(UseCaseOperation.FIND_BY_ID, InstrumentedUseCases.classify(ex));
+            throw ex;
+        } finally {
+            recorder.recordLatency(UseCaseOperation.FIND_BY_ID, System.nanoTime() - start);
+        }
+    }
+
+    @Override
+    public boolean existsById(ID id) {
+        long start = System.nanoTime();
+        try {
+            return delegate.existsById(id);
+        } catch (RuntimeException ex) {
+            recorder.recordError(UseCaseOperation.EXISTS_BY_ID, InstrumentedUseCases.classify(ex));
+            throw ex;
+        } finally {
+            recorder.recordLatency(UseCaseOperation.EXISTS_BY_ID, System.nanoTime() - start);
+        }
+    }
+
+    @Override
+    public List<E> findAll() {
+        long start = System.nanoTime();
+        try {
+            return delegate.findAll();
+        } catch (RuntimeException ex) {
+            recorder.recordError(UseCaseOperation.FIND_ALL, InstrumentedUseCases.classify(ex));
+            throw ex;
+        } finally {
+            recorder.recordLatency(UseCaseOperation.FIND_ALL, System.nanoTime() - start);
+        }
+    }
+
+    @Override
+    public Page<E> findAll(Pageable pageable) {
+        long start = System.nanoTime();
+        try {
+            return delegate.findAll(pageable);
+        } catch (RuntimeException ex) {
+            recorder.recordError(UseCaseOperation.FIND_ALL_PAGED, InstrumentedUseCases.classify(ex));
+            throw ex;
+        } finally {
+            recorder.recordLatency(UseCaseOperation.FIND_ALL_PAGED, System.nanoTime() - start);
+        }
+    }
+
+    @Override
+    public E create(E entity) {
+        long start = System.nanoTime();
+        try {
+            return delegate.create(entity);
+        } catch (RuntimeException ex) {
+            recorder.recordError(UseCaseOperation.CREATE, InstrumentedUseCases.classify(ex));
+            throw ex;
+        } finally {
+            recorder.recordLatency(UseCaseOperation.CREATE, System.nanoTime() - start);
+        }
+    }
+
+    @Override
+    public List<E> createAll(Iterable<E> entities) {
+        boolean sized = entities instanceof Collection<?>;
+        if (sized) {
+            recorder.recordBatchSize(UseCaseOperation.CREATE_ALL, ((Collection<?>) entities).size());
+        }
+        long start = System.nanoTime();
+        try {
+            List<E> created = delegate.createAll(entities);
+            if (!sized && created != null) {
+                recorder.recordBatchSize(UseCaseOperation.CREATE_ALL, created.size());
+            }
+            return created;
+        } catch (RuntimeException ex) {
+            recorder.recordError(UseCaseOperation.CREATE_ALL, InstrumentedUseCases.classify(ex));
+            throw ex;
+        } finally {
+            recorder.recordLatency(UseCaseOperation.CREATE_ALL, System.nanoTime() - start);
+        }
+    }
+
+    @Override
+    public void delete(ID id) {
+        long start = System.nanoTime();
+        try {
+            delegate.delete(id);
+        } catch (RuntimeException ex) {
+            recorder.recordError(UseCaseOperation.DELETE, InstrumentedUseCases.classify(ex));
+            throw ex;
+        } finally {
+            recorder.recordLatency(UseCaseOperation.DELETE, System.nanoTime() - start);
+        }
+    }
+
+    @Override
+    public void deleteAll(Iterable<ID> ids) {
+        if (ids instanceof Collection<?> batch) {
+            recorder.recordBatchSize(UseCaseOperation.DELETE_ALL, batch.size());
+        }
+        long start = System.nanoTime();
+        try {
+            delegate.deleteAll(ids);
+        } catch (RuntimeException ex) {
+            recorder.recordError(UseCaseOperation.DELETE_ALL, InstrumentedUseCases.classify(ex));
+            throw ex;
+        } finally {
+            recorder.recordLatency(UseCaseOperation.DELETE_ALL, System.nanoTime() - start);
+        }
+    }
+
+}
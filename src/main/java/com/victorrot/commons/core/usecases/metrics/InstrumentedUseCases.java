@@ -0,0 +1,101 @@
+package com.victorrot.commons.core.usecases.metrics;
+
+import com.victorrot.commons.exceptions.ServiceException;
+import com.victorrot.commons.exceptions.TypeException;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Collection;
+import java.util.Objects;
+
+/**
+ * Instrumentación de cualquier interfaz de los casos de uso
+ * ({@code FindUseCase}, {@code BatchPersistUseCase}, {@code DeleteOnlyUseCase}, etc.).
+ *
+ * <p>{@link #instrument(Class, Object, String, UseCaseMetrics)} crea un proxy de la
+ * interfaz indicada que registra la latencia, los errores y los tamaños de lote de
+ * cada método reconocido por {@link UseCaseOperation#of(String, int)}; los demás
+ * métodos se delegan sin instrumentar. Para {@code CrudUseCase} se recomienda
+ * {@link InstrumentedCrudUseCase}, que evita el costo de la invocación reflexiva.</p>
+ *
+ * @author Victor Manuel Rodriguez Ramirez
+ * @version 1.0.0 - Nueva instrumentación de casos de uso
+ */
+public final class InstrumentedUseCases {
+
+    private InstrumentedUseCases() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * Crea un proxy instrumentado de un caso de uso.
+     *
+     * @param <T>      el tipo de la interfaz del caso de uso
+     * @param type     la interfaz del caso de uso.
+     * @param target   el caso de uso instrumentado.
+     * @param useCase  el nombre con el que se registran las métricas.
+     * @param metrics  la superficie de métricas.
+     * @return el proxy instrumentado.
+     * @throws IllegalArgumentException si {@code type} no es una interfaz.
+     */
+    public static <T> T instrument(Class<T> type, T target, String useCase, UseCaseMetrics metrics) {
+        if (!type.isInterface()) {
+            throw new IllegalArgumentException("Solo se pueden instrumentar interfaces: " + type.getName());
+        }
+        Objects.requireNonNull(target, "target");
+        UseCaseRecorder recorder = metrics.recorder(useCase);
+        InvocationHandler handler = (proxy, method, args) -> invoke(target, recorder, method, args);
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type}, handler));
+    }
+
+    private static Object invoke(Object target, UseCaseRecorder recorder, Method method, Object[] args)
+            throws Throwable {
+        UseCaseOperation operation = method.getDeclaringClass() == Object.class
+                ? null
+                : UseCaseOperation.of(method.getName(), method.getParameterCount());
+        if (operation == null) {
+            return invokeTarget(target, method, args);
+        }
+        if ((operation == UseCaseOperation.CREATE_ALL || operation == UseCaseOperation.DELETE_ALL)
+                && args[0] instanceof Collection<?> batch) {
+            recorder.recordBatchSize(operation, batch.size());
+        }
+        long start = System.nanoTime();
+        try {
+            return invokeTarget(target, method, args);
+        } catch (RuntimeException ex) {
+            recorder.recordError(operation, classify(ex));
+            throw ex;
+        } finally {
+            recorder.recordLatency(operation, System.nanoTime() - start);
+        }
+    }
+
+    private static Object invokeTarget(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException ex) {
+            throw ex.getCause();
+        }
+    }
+
+    /**
+     * Obtiene la categoría de un error: el tipo de una {@link ServiceException},
+     * {@link TypeException#VALIDATION} para argumentos inválidos y
+     * {@link TypeException#GENERAL} en cualquier otro caso.
+     *
+     * @param error el error producido.
+     * @return la categoría del error.
+     */
+    static TypeException classify(Throwable error) {
+        if (error instanceof ServiceException serviceException) {
+            return serviceException.getType();
+        }
+        if (error instanceof IllegalArgumentException || error instanceof NullPointerException) {
+            return TypeException.VALIDATION;
+        }
+        return TypeException.GENERAL;
+    }
+
+}
@@ -0,0 +1,126 @@
+package com.victorrot.commons.core.usecases.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Histograma concurrente de valores no negativos con cubetas log-lineales.
+ *
+ * <p>Cada potencia de dos se divide en 8 cubetas, por lo que los percentiles se
+ * informan con un error relativo máximo de 12.5 %. El registro de un valor no crea
+ * objetos y solo incrementa contadores atómicos, de modo que puede utilizarse en
+ * rutas críticas (por ejemplo, para latencias en nanosegundos o tamaños de lote).</p>
+ *
+ * @author Victor Manuel Rodriguez Ramirez
+ * @version 1.0.0 - Nuevo histograma
+ */
+public final class LogLinearHistogram {
+
+    private static final int SUB_BUCKET_BITS = 3;
+
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+    private static final int BUCKETS = 64 * SUB_BUCKETS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+
+    private final LongAdder count = new LongAdder();
+
+    private final LongAdder sum = new LongAdder();
+
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+    /**
+     * Registra un valor; los valores negativos se registran como cero.
+     *
+     * @param value el valor a registrar.
+     */
+    public void record(long value) {
+        long normalized = Math.max(value, 0);
+        counts.incrementAndGet(indexOf(normalized));
+        count.increment();
+        sum.add(normalized);
+        max.accumulate(normalized);
+    }
+
+    /**
+     * Obtiene el número de valores registrados.
+     *
+     * @return el número de valores.
+     */
+    public long count() {
+        return count.sum();
+    }
+
+    /**
+     * Obtiene el valor máximo registrado.
+     *
+     * @return el valor máximo, o cero si no hay valores.
+     */
+    public long max() {
+        return max.get();
+    }
+
+    /**
+     * Obtiene la media de los valores registrados.
+     *
+     * @return la media, o cero si no hay valores.
+     */
+    public double mean() {
+        long total = count.sum();
+        return total == 0 ? 0 : (double) sum.sum() / total;
+    }
+
+    /**
+     * Obtiene el valor por debajo del cual se encuentra el porcentaje indicado de los
+     * valores registrados.
+     *
+     * @param percentile el percentil, entre 0 y 100.
+     * @return el límite superior de la cubeta que contiene el percentil, acotado por
+     *         el máximo registrado; cero si no hay valores.
+     * @throws IllegalArgumentException si el percentil está fuera de rango.
+     */
+    public long percentile(double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("El percentil debe estar entre 0 y 100");
+        }
+        long total = 0;
+        long[] snapshot = new long[BUCKETS];
+        for (int i = 0; i < BUCKETS; i++) {
+            snapshot[i] = counts.get(i);
+            total += snapshot[i];
+        }
+        if (total == 0) {
+            return 0;
+        }
+        long target = Math.max(1, (long) Math.ceil(percentile / 100 * total));
+        long cumulative = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            cumulative += snapshot[i];
+            if (cumulative >= target) {
+                return Math.min(upperBoundOf(i), max.get());
+            }
+        }
+        return max.get();
+    }
+
+    private static int indexOf(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        int subBucket = (int) (value >>> shift) & (SUB_BUCKETS - 1);
+        return (shift + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    private static long upperBoundOf(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int shift = index / SUB_BUCKETS - 1;
+        long lowerBound = (long) (SUB_BUCKETS + index % SUB_BUCKETS) << shift;
+        return lowerBound + (1L << shift) - 1;
+    }
+
+}
@@ -0,0 +1,87 @@
+package com.victorrot.commons.core.usecases.metrics;
+
+import com.victorrot.commons.exceptions.TypeException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Superficie de métricas respaldada por un {@link MeterRegistry} de Micrometer.
+ *
+ * <p>Registra los siguientes medidores, etiquetados con {@code usecase} y
+ * {@code operation}:</p>
+ * <ul>
+ *   <li>{@code usecase.operation}: {@link Timer} con histograma de percentiles de la
+ *       latencia; su conteo refleja el rendimiento.</li>
+ *   <li>{@code usecase.errors}: {@link Counter} de errores, etiquetado además con
+ *       {@code type} ({@link TypeException}).</li>
+ *   <li>{@code usecase.batch.size}: {@link DistributionSummary} del tamaño de las
+ *       operaciones en lote.</li>
+ * </ul>
+ *
+ * <p>Los medidores se crean al obtener el registro de cada caso de uso, de modo
+ * que el registro de cada operación no realiza búsquedas en el {@link MeterRegistry}.
+ * Requiere {@code micrometer-core} en el classpath.</p>
+ *
+ * @author Victor Manuel Rodriguez Ramirez
+ * @see UseCaseMetrics
+ * @version 1.0.0 - Nueva superficie de métricas para Micrometer
+ */
+public class MicrometerUseCaseMetrics implements UseCaseMetrics {
+
+    private final MeterRegistry registry;
+
+    /**
+     * Crea una superficie de métricas sobre el registro indicado.
+     *
+     * @param registry el registro de medidores de Micrometer.
+     */
+    public MicrometerUseCaseMetrics(MeterRegistry registry) {
+        this.registry = Objects.requireNonNull(registry, "registry");
+    }
+
+    @Override
+    public UseCaseRecorder recorder(String useCase) {
+        UseCaseOperation[] operations = UseCaseOperation.values();
+        TypeException[] types = TypeException.values();
+        Timer[] timers = new Timer[operations.length];
+        DistributionSummary[] batchSizes = new DistributionSummary[operations.length];
+        Counter[][] errors = new Counter[operations.length][types.length];
+        for (UseCaseOperation operation : operations) {
+            String name = operation.name().toLowerCase(Locale.ROOT);
+            timers[operation.ordinal()] = Timer.builder("usecase.operation")
+                    .tag("usecase", useCase).tag("operation", name)
+                    .publishPercentileHistogram()
+                    .register(registry);
+            batchSizes[operation.ordinal()] = DistributionSummary.builder("usecase.batch.size")
+                    .tag("usecase", useCase).tag("operation", name)
+                    .register(registry);
+            for (TypeException type : types) {
+                errors[operation.ordinal()][type.ordinal()] = Counter.builder("usecase.errors")
+                        .tag("usecase", useCase).tag("operation", name).tag("type", type.name())
+                        .register(registry);
+            }
+        }
+        return new UseCaseRecorder() {
+            @Override
+            public void recordLatency(UseCaseOperation operation, long nanos) {
+                timers[operation.ordinal()].record(nanos, TimeUnit.NANOSECONDS);
+            }
+
+            @Override
+            public void recordError(UseCaseOperation operation, TypeException type) {
+                errors[operation.ordinal()][type.ordinal()].increment();
+            }
+
+            @Override
+            public void recordBatchSize(UseCaseOperation operation, int size) {
+                batchSizes[operation.ordinal()].record(size);
+            }
+        };
+    }
+
+}
@@ -0,0 +1,32 @@
+package com.victorrot.commons.core.usecases.metrics;
+
+import com.victorrot.commons.exceptions.TypeException;
+import java.util.Map;
+
+/**
+ * Resumen de las métricas de una operación de un caso de uso.
+ *
+ * @author Victor Manuel Rodriguez Ramirez
+ * @param count         el número de operaciones terminadas.
+ * @param meanNanos     la latencia media en nanosegundos.
+ * @param p50Nanos      el percentil 50 de la latencia en nanosegundos.
+ * @param p99Nanos      el percentil 99 de la latencia en nanosegundos.
+ * @param maxNanos      la latencia máxima en nanosegundos.
+ * @param errors        el número de errores por categoría.
+ * @param meanBatchSize el tamaño medio de los lotes, o cero si no es una operación en lote.
+ * @param maxBatchSize  el tamaño máximo de los lotes, o cero si no es una operación en lote.
+ * @version 1.0.0 - Nuevo resumen de métricas
+ */
+public record OperationStatistics(long count, double meanNanos, long p50Nanos, long p99Nanos, long maxNanos,
+        Map<TypeException, Long> errors, double meanBatchSize, long maxBatchSize) {
+
+    /**
+     * Obtiene el número total de errores.
+     *
+     * @return la suma de los errores de todas las categorías.
+     */
+    public long errorCount() {
+        return errors.values().stream().mapToLong(Long::longValue).sum();
+    }
+
+}
@@ -0,0 +1,59 @@
+package com.victorrot.commons.core.usecases.metrics;
+
+import com.victorrot.commons.exceptions.TypeException;
+
+/**
+ * Superficie de métricas de los casos de uso instrumentados.
+ *
+ * <p>Permite conectar los decoradores de instrumentación con cualquier sistema
+ * de métricas. Se incluyen {@link InMemoryUseCaseMetrics}, sin dependencias
+ * externas, y {@link MicrometerUseCaseMetrics}, para Micrometer.</p>
+ *
+ * @author Victor Manuel Rodriguez Ramirez
+ * @see InstrumentedCrudUseCase
+ * @version 1.0.0 - Nueva interfaz de métricas
+ */
+public interface UseCaseMetrics {
+
+    /**
+     * Obtiene el registro de métricas de un caso de uso. Se invoca una sola vez al
+     * crear cada decorador.
+     *
+     * @param useCase el nombre del caso de uso.
+     * @return el registro de métricas del caso de uso.
+     */
+    UseCaseRecorder recorder(String useCase);
+
+    /**
+     * Obtiene una superficie de métricas que descarta todos los registros.
+     *
+     * @return la superficie de métricas vacía.
+     */
+    static UseCaseMetrics noop() {
+        return useCase -> NoopRecorder.INSTANCE;
+    }
+
+    /**
+     * Registro que descarta todas las métricas.
+     */
+    enum NoopRecorder implements UseCaseRecorder {
+
+        INSTANCE;
+
+        @Override
+        public void recordLatency(UseCaseOperation operation, long nanos) {
+            // Sin registro
+        }
+
+        @Override
+        public void recordError(UseCaseOperation operation, TypeException type) {
+            // Sin registro
+        }
+
+        @Override
+        public void recordBatchSize(UseCaseOperation operation, int size) {
+            // Sin registro
+        }
+    }
+
+}
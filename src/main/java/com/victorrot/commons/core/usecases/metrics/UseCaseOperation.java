@@ -0,0 +1,48 @@
+package com.victorrot.commons.core.usecases.metrics;
+
+/**
+ * Operaciones de los casos de uso que se instrumentan.
+ *
+ * @author Victor Manuel Rodriguez Ramirez
+ * @version 1.0.0 - Nuevo enum
+ */
+public enum UseCaseOperation {
+
+    /** {@code FindUseCase.findById}. */
+    FIND_BY_ID,
+    /** {@code FindUseCase.existsById}. */
+    EXISTS_BY_ID,
+    /** {@code BatchFindUseCase.findAll()}. */
+    FIND_ALL,
+    /** {@code BatchFindUseCase.findAll(Pageable)}. */
+    FIND_ALL_PAGED,
+    /** {@code PersistUseCase.create}. */
+    CREATE,
+    /** {@code BatchPersistUseCase.createAll}. */
+    CREATE_ALL,
+    /** {@code DeleteUseCase.delete}. */
+    DELETE,
+    /** {@code BatchDeleteUseCase.deleteAll}. */
+    DELETE_ALL;
+
+    /**
+     * Obtiene la operación que corresponde a un método de los casos de uso.
+     *
+     * @param methodName     el nombre del método.
+     * @param parameterCount el número de parámetros del método.
+     * @return la operación, o {@code null} si el método no corresponde a ninguna.
+     */
+    public static UseCaseOperation of(String methodName, int parameterCount) {
+        return switch (methodName) {
+            case "findById" -> FIND_BY_ID;
+            case "existsById" -> EXISTS_BY_ID;
+            case "findAll" -> parameterCount == 0 ? FIND_ALL : FIND_ALL_PAGED;
+            case "create" -> CREATE;
+            case "createAll" -> CREATE_ALL;
+            case "delete" -> DELETE;
+            case "deleteAll" -> DELETE_ALL;
+            default -> null;
+        };
+    }
+
+}
@@ -0,0 +1,40 @@
+package com.victorrot.commons.core.usecases.metrics;
+
+import com.victorrot.commons.exceptions.TypeException;
+
+/**
+ * Registro de las métricas de un caso de uso concreto.
+ *
+ * <p>Las implementaciones deben ser seguras para uso concurrente y evitar crear
+ * objetos en cada registro, ya que se invocan en cada operación instrumentada.</p>
+ *
+ * @author Victor Manuel Rodriguez Ramirez
+ * @version 1.0.0 - Nueva interfaz de registro de métricas
+ */
+public interface UseCaseRecorder {
+
+    /**
+     * Registra la duración de una operación terminada, con o sin error.
+     *
+     * @param operation la operación ejecutada.
+     * @param nanos     la duración en nanosegundos.
+     */
+    void recordLatency(UseCaseOperation operation, long nanos);
+
+    /**
+     * Registra una operación que terminó con error.
+     *
+     * @param operation la operación ejecutada.
+     * @param type      la categoría del error.
+     */
+    void recordError(UseCaseOperation operation, TypeException type);
+
+    /**
+     * Registra el número de elementos procesados por una operación en lote.
+     *
+     * @param operation la operación ejecutada.
+     * @param size      el número de elementos.
+     */
+    void recordBatchSize(UseCaseOperation operation, int size);
+
+}
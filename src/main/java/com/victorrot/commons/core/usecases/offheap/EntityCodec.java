@@ -0,0 +1,46 @@
+package com.victorrot.commons.core.usecases.offheap;
+
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * Serialización compacta de una entidad para los almacenes en archivos mapeados en
+ * memoria.
+ *
+ * <p>{@link #encode(Object, DataOutput)} y {@link #decode(ByteBuffer)} deben ser
+ * simétricos. Ambos utilizan orden big-endian, por lo que a cada
+ * {@code writeInt}/{@code writeLong}/{@code writeDouble} le corresponde el
+ * {@code getInt}/{@code getLong}/{@code getDouble} del buffer. Para las cadenas se
+ * recomienda escribir la longitud y los bytes UTF-8 en lugar de
+ * {@link DataOutput#writeUTF(String)}.</p>
+ *
+ * @author Victor Manuel Rodriguez Ramirez
+ * @param <E> el tipo de la entidad
+ *
+ * @see MappedEntityWriter
+ * @see MappedReadOnlyUseCase
+ * @version 1.0.0 - Nueva serialización de entidades
+ */
+public interface EntityCodec<E> {
+
+    /**
+     * Escribe la representación binaria de la entidad.
+     *
+     * @param entity la entidad a escribir.
+     * @param output el destino de la escritura.
+     * @throws IOException si falla la escritura.
+     */
+    void encode(E entity, DataOutput output) throws IOException;
+
+    /**
+     * Reconstruye una entidad a partir de su representación binaria.
+     *
+     * @param record buffer de solo lectura con el registro completo, desde la
+     *               posición {@code 0} hasta su límite; puede leerse con métodos
+     *               relativos o absolutos.
+     * @return la entidad reconstruida.
+     */
+    E decode(ByteBuffer record);
+
+}
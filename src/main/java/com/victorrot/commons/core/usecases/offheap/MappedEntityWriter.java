@@ -0,0 +1,256 @@
+package com.victorrot.commons.core.usecases.offheap;
+
+import com.victorrot.commons.exceptions.ServiceException;
+import com.victorrot.commons.exceptions.ServiceExceptionFactory;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.ToLongFunction;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Escribe el archivo de entidades que consulta {@link MappedReadOnlyUseCase}.
+ *
+ * <p>Formato del archivo, en orden big-endian:</p>
+ * <ul>
+ *   <li>Encabezado de {@value #HEADER_SIZE} bytes: firma, versión, número de
+ *       entidades, posición del índice y longitud máxima de un registro.</li>
+ *   <li>Registros en el orden en que se agregaron, cada uno con su longitud
+ *       ({@code int}) seguida de los bytes de {@link EntityCodec#encode}.</li>
+ *   <li>Índice con un par (identificador, posición del registro) de 16 bytes por
+ *       entidad, ordenado por identificador.</li>
+ * </ul>
+ *
+ * <p>El archivo se escribe en un archivo temporal junto al destino y se mueve al
+ * destino al cerrar el escritor, de modo que los lectores nunca ven un archivo
+ * incompleto. Mientras se escribe, el índice se conserva en memoria (16 bytes por
+ * entidad). Si una escritura falla, el cierre descarta el archivo temporal sin
+ * modificar el destino. Las instancias no son seguras para uso concurrente.</p>
+ *
+ * @author Victor Manuel Rodriguez Ramirez
+ * @param <E> el tipo de la entidad
+ *
+ * @see MappedReadOnlyUseCase
+ * @see ServiceException
+ * @version 1.0.0 - Nuevo escritor de archivos de entidades
+ */
+@Slf4j
+public final class MappedEntityWriter<E> implements AutoCloseable {
+
+    /** Firma del archivo ({@code CLMM}). */
+    static final int MAGIC = 0x434C4D4D;
+
+    static final int VERSION = 1;
+
+    static final int HEADER_SIZE = 32;
+
+    static final int INDEX_ENTRY_SIZE = 16;
+
+    private final Path target;
+
+    private final Path temporary;
+
+    private final EntityCodec<? super E> codec;
+
+    private final ToLongFunction<? super E> idExtractor;
+
+    private final DataOutputStream output;
+
+    private final ByteArrayOutputStream record = new ByteArrayOutputStream(256);
+
+    private final DataOutputStream recordOutput = new DataOutputStream(record);
+
+    private long position = HEADER_SIZE;
+
+    private long[] ids = new long[1024];
+
+    private long[] offsets = new long[1024];
+
+    private int count;
+
+    private int maxRecordLength;
+
+    private boolean closed;
+
+    /** Indica que una escritura falló y el archivo temporal quedó incompleto. */
+    private boolean failed;
+
+    /**
+     * Crea un escritor para el archivo indicado.
+     *
+     * @param target      el archivo de destino; se reemplaza al cerrar el escritor.
+     * @param codec       la serialización de las entidades.
+     * @param idExtractor función que obtiene el identificador de una entidad.
+     * @throws ServiceException de tipo {@code DATABASE} si no se puede crear el archivo temporal.
+     */
+    public MappedEntityWriter(Path target, EntityCodec<? super E> codec, ToLongFunction<? super E> idExtractor) {
+        this.target = Objects.requireNonNull(target, "target").toAbsolutePath();
+        this.codec = Objects.requireNonNull(codec, "codec");
+        this.idExtractor = Objects.requireNonNull(idExtractor, "idExtractor");
+        this.temporary = this.target.resolveSibling(this.target.getFileName() + ".tmp");
+        try {
+            this.output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporary), 1 << 16));
+            output.write(new byte[HEADER_SIZE]);
+        } catch (IOException ex) {
+            throw ServiceExceptionFactory.database(ex, "Error al crear el archivo de entidades {}", temporary);
+        }
+    }
+
+    /**
+     * Agrega una entidad al archivo.
+     *
+     * @param entity la entidad a agregar.
+     * @throws IllegalArgumentException si {@code entity} es {@code null}.
+     * @throws IllegalStateException si el escritor ya se cerró.
+     * @throws ServiceException de tipo {@code DATABASE} si falla la escritura.
+     */
+    public void append(E entity) {
+        if (entity == null) {
+            throw new IllegalArgumentException("La entidad no puede ser nula");
+        }
+        if (closed) {
+            throw new IllegalStateException("El escritor ya se cerró");
+        }
+        long id = idExtractor.applyAsLong(entity);
+        record.reset();
+        try {
+            codec.encode(entity, recordOutput);
+        } catch (IOException ex) {
+            throw ServiceExceptionFactory.database(ex, "Error al serializar la entidad {}", id);
+        }
+        try {
+            output.writeInt(record.size());
+            record.writeTo(output);
+        } catch (IOException ex) {
+            failed = true;
+            throw ServiceExceptionFactory.database(ex, "Error al escribir la entidad {} en {}", id, temporary);
+        }
+        if (count == ids.length) {
+            ids = Arrays.copyOf(ids, count << 1);
+            offsets = Arrays.copyOf(offsets, count << 1);
+        }
+        ids[count] = id;
+        offsets[count] = position;
+        count++;
+        position += Integer.BYTES + record.size();
+        maxRecordLength = Math.max(maxRecordLength, record.size());
+    }
+
+    /**
+     * Escribe el índice y el encabezado, y mueve el archivo a su destino.
+     *
+     * @throws ServiceException de tipo {@code VALIDATION} si hay identificadores
+     *         repetidos, o de tipo {@code DATABASE} si falla la escritura; en ambos
+     *         casos el destino no se modifica.
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        if (failed) {
+            discardTemporary();
+            return;
+        }
+        boolean completed = false;
+        try {
+            sortByIds(ids, offsets, count);
+            for (int i = 1; i < count; i++) {
+                if (ids[i] == ids[i - 1]) {
+                    throw ServiceExceptionFactory.validation("El identificador {} está repetido en {}", ids[i], target);
+                }
+            }
+            long indexOffset = position;
+            for (int i = 0; i < count; i++) {
+                output.writeLong(ids[i]);
+                output.writeLong(offsets[i]);
+            }
+            output.close();
+            writeHeader(indexOffset);
+            Files.move(temporary, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            completed = true;
+        } catch (IOException ex) {
+            throw ServiceExceptionFactory.database(ex, "Error al escribir el archivo de entidades {}", target);
+        } finally {
+            ids = null;
+            offsets = null;
+            if (!completed) {
+                discardTemporary();
+            }
+        }
+    }
+
+    private void writeHeader(long indexOffset) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE)
+                .putInt(MAGIC)
+                .putInt(VERSION)
+                .putLong(count)
+                .putLong(indexOffset)
+                .putInt(maxRecordLength)
+                .rewind();
+        try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.WRITE)) {
+            while (header.hasRemaining()) {
+                channel.write(header, header.position());
+            }
+            channel.force(true);
+        }
+    }
+
+    private void discardTemporary() {
+        ids = null;
+        offsets = null;
+        try {
+            output.close();
+        } catch (IOException ex) {
+            log.debug("Error al cerrar el archivo temporal {}", temporary, ex);
+        }
+        try {
+            Files.deleteIfExists(temporary);
+        } catch (IOException ex) {
+            log.warn("No se pudo eliminar el archivo temporal {}", temporary, ex);
+        }
+    }
+
+    /** Ordena los pares por identificador con heapsort, sin arreglos auxiliares. */
+    private static void sortByIds(long[] keys, long[] values, int size) {
+        for (int i = size / 2 - 1; i >= 0; i--) {
+            siftDown(keys, values, i, size);
+        }
+        for (int end = size - 1; end > 0; end--) {
+            swap(keys, values, 0, end);
+            siftDown(keys, values, 0, end);
+        }
+    }
+
+    private static void siftDown(long[] keys, long[] values, int node, int size) {
+        for (int child = 2 * node + 1; child < size; node = child, child = 2 * node + 1) {
+            if (child + 1 < size && keys[child + 1] > keys[child]) {
+                child++;
+            }
+            if (keys[node] >= keys[child]) {
+                return;
+            }
+            swap(keys, values, node, child);
+        }
+    }
+
+    private static void swap(long[] keys, long[] values, int i, int j) {
+        long key = keys[i];
+        keys[i] = keys[j];
+        keys[j] = key;
+        long value = values[i];
+        values[i] = values[j];
+        values[j] = value;
+    }
+
+}
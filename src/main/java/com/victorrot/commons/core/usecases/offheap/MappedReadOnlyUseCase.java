@@ -0,0 +1,231 @@
+package com.victorrot.commons.core.usecases.offheap;
+
+import com.victorrot.commons.core.usecases.find.ReadOnlyUseCase;
+import com.victorrot.commons.exceptions.ServiceException;
+import com.victorrot.commons.exceptions.ServiceExceptionFactory;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * Implementación de {@link ReadOnlyUseCase} sobre un archivo de entidades mapeado
+ * en memoria, fuera del montículo de Java.
+ *
+ * <p>El archivo, escrito con {@link MappedEntityWriter}, se mapea al crear la
+ * instancia sin leer su contenido, por lo que el arranque no depende del tamaño de
+ * los datos: el sistema operativo carga las páginas bajo demanda y las comparte
+ * entre procesos. Solo las entidades devueltas ocupan el montículo.</p>
+ *
+ * <p>{@link #findById(Long)} y {@link #existsById(Long)} realizan una búsqueda
+ * binaria sobre el índice ordenado del archivo. {@link #findAll()} y
+ * {@link #findAll(Pageable)} recorren los registros secuencialmente en el orden en
+ * que se escribieron, que es estable; el criterio de ordenamiento de
+ * {@link Pageable} se ignora y saltar hasta una página recorre las longitudes de los
+ * registros anteriores.</p>
+ *
+ * <p>El archivo se mapea en regiones de hasta 1 GiB que se solapan en la longitud
+ * máxima de un registro, de modo que cada registro se lee de una sola región. El
+ * archivo no debe modificarse mientras está mapeado; para publicar datos nuevos se
+ * escribe otro archivo y se abre una nueva instancia. Las instancias son seguras
+ * para uso concurrente. Las regiones se liberan cuando el recolector descarta la
+ * instancia; {@link #close()} impide nuevas consultas.</p>
+ *
+ * @author Victor Manuel Rodriguez Ramirez
+ * @param <E> el tipo de la entidad
+ *
+ * @see MappedEntityWriter
+ * @see EntityCodec
+ * @see ServiceException
+ * @version 1.0.0 - Nuevo caso de uso de solo lectura fuera del montículo
+ */
+public class MappedReadOnlyUseCase<E> implements ReadOnlyUseCase<E, Long>, AutoCloseable {
+
+    private static final int REGION_SHIFT = 30;
+
+    private static final long REGION_MASK = (1L << REGION_SHIFT) - 1;
+
+    private final Path path;
+
+    private final EntityCodec<? extends E> codec;
+
+    private final long count;
+
+    private final long indexOffset;
+
+    private volatile MappedByteBuffer[] regions;
+
+    /**
+     * Mapea el archivo de entidades indicado.
+     *
+     * @param path  el archivo escrito con {@link MappedEntityWriter}.
+     * @param codec la serialización de las entidades.
+     * @throws ServiceException de tipo {@code DATABASE} si el archivo no se puede
+     *         leer o no tiene el formato esperado.
+     */
+    public MappedReadOnlyUseCase(Path path, EntityCodec<? extends E> codec) {
+        this.path = Objects.requireNonNull(path, "path");
+        this.codec = Objects.requireNonNull(codec, "codec");
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            ByteBuffer header = ByteBuffer.allocate(MappedEntityWriter.HEADER_SIZE);
+            while (header.hasRemaining() && channel.read(header, header.position()) > 0) {
+                // Lee el encabezado completo.
+            }
+            if (header.hasRemaining() || header.getInt(0) != MappedEntityWriter.MAGIC) {
+                throw ServiceExceptionFactory.database("El archivo {} no es un archivo de entidades", path);
+            }
+            if (header.getInt(4) != MappedEntityWriter.VERSION) {
+                throw ServiceExceptionFactory.database("La versión {} del archivo {} no está soportada",
+                        header.getInt(4), path);
+            }
+            this.count = header.getLong(8);
+            this.indexOffset = header.getLong(16);
+            int maxRecordLength = header.getInt(24);
+            if (indexOffset + count * MappedEntityWriter.INDEX_ENTRY_SIZE != size) {
+                throw ServiceExceptionFactory.database("El archivo {} está incompleto o dañado", path);
+            }
+            this.regions = map(channel, size, Math.max(Integer.BYTES + maxRecordLength,
+                    MappedEntityWriter.INDEX_ENTRY_SIZE));
+        } catch (IOException ex) {
+            throw ServiceExceptionFactory.database(ex, "Error al mapear el archivo de entidades {}", path);
+        }
+    }
+
+    @Override
+    public Optional<E> findById(Long id) {
+        long offset = recordOffset(requireId(id));
+        return offset < 0 ? Optional.empty() : Optional.of(decode(regions(), offset));
+    }
+
+    @Override
+    public boolean existsById(Long id) {
+        return recordOffset(requireId(id)) >= 0;
+    }
+
+    @Override
+    public List<E> findAll() {
+        return scan(0, count);
+    }
+
+    @Override
+    public Page<E> findAll(Pageable pageable) {
+        if (pageable == null) {
+            throw new IllegalArgumentException("La información de paginación no puede ser nula");
+        }
+        if (pageable.isUnpaged()) {
+            return new PageImpl<>(findAll(), pageable, count);
+        }
+        return new PageImpl<>(scan(pageable.getOffset(), pageable.getPageSize()), pageable, count);
+    }
+
+    /**
+     * Obtiene el número de entidades del archivo.
+     *
+     * @return el número de entidades.
+     */
+    public long count() {
+        return count;
+    }
+
+    /**
+     * Impide nuevas consultas. Las regiones mapeadas se liberan cuando el recolector
+     * descarta las referencias a ellas.
+     */
+    @Override
+    public void close() {
+        regions = null;
+    }
+
+    private List<E> scan(long skip, long limit) {
+        MappedByteBuffer[] mapped = regions();
+        long from = Math.min(skip, count);
+        long to = Math.min(count, from + limit);
+        long offset = MappedEntityWriter.HEADER_SIZE;
+        for (long i = 0; i < from; i++) {
+            offset += Integer.BYTES + getInt(mapped, offset);
+        }
+        List<E> entities = new ArrayList<>((int) Math.min(to - from, Integer.MAX_VALUE - 8));
+        for (long i = from; i < to; i++) {
+            entities.add(decode(mapped, offset));
+            offset += Integer.BYTES + getInt(mapped, offset);
+        }
+        return entities;
+    }
+
+    /** Búsqueda binaria en el índice; devuelve la posición del registro o {@code -1}. */
+    private long recordOffset(long id) {
+        MappedByteBuffer[] mapped = regions();
+        long low = 0;
+        long high = count - 1;
+        while (low <= high) {
+            long middle = (low + high) >>> 1;
+            long entry = indexOffset + middle * MappedEntityWriter.INDEX_ENTRY_SIZE;
+            long current = getLong(mapped, entry);
+            if (current < id) {
+                low = middle + 1;
+            } else if (current > id) {
+                high = middle - 1;
+            } else {
+                return getLong(mapped, entry + Long.BYTES);
+            }
+        }
+        return -1;
+    }
+
+    private E decode(MappedByteBuffer[] mapped, long offset) {
+        MappedByteBuffer region = mapped[(int) (offset >>> REGION_SHIFT)];
+        int position = (int) (offset & REGION_MASK);
+        int length = region.getInt(position);
+        return codec.decode(region.slice(position + Integer.BYTES, length));
+    }
+
+    private MappedByteBuffer[] regions() {
+        MappedByteBuffer[] mapped = regions;
+        if (mapped == null) {
+            throw new IllegalStateException("El archivo de entidades " + path + " ya se cerró");
+        }
+        return mapped;
+    }
+
+    private static int getInt(MappedByteBuffer[] mapped, long offset) {
+        return mapped[(int) (offset >>> REGION_SHIFT)].getInt((int) (offset & REGION_MASK));
+    }
+
+    private static long getLong(MappedByteBuffer[] mapped, long offset) {
+        return mapped[(int) (offset >>> REGION_SHIFT)].getLong((int) (offset & REGION_MASK));
+    }
+
+    /**
+     * Mapea el archivo en regiones alineadas a 1 GiB, cada una extendida con el
+     * solapamiento indicado para que ningún registro ni entrada del índice quede
+     * partido entre dos regiones.
+     */
+    private static MappedByteBuffer[] map(FileChannel channel, long size, int overlap) throws IOException {
+        int count = (int) ((size + REGION_MASK) >>> REGION_SHIFT);
+        MappedByteBuffer[] mapped = new MappedByteBuffer[count];
+        for (int i = 0; i < count; i++) {
+            long start = (long) i << REGION_SHIFT;
+            long length = Math.min(size - start, Math.min(Integer.MAX_VALUE, (1L << REGION_SHIFT) + overlap));
+            mapped[i] = channel.map(FileChannel.MapMode.READ_ONLY, start, length);
+        }
+        return mapped;
+    }
+
+    private static long requireId(Long id) {
+        if (id == null) {
+            throw new IllegalArgumentException("El identificador no puede ser nulo");
+        }
+        return id;
+    }
+
+}
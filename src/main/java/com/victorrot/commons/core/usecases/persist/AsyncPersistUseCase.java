@@ -0,0 +1,42 @@
+package com.victorrot.commons.core.usecases.persist;
+
+import com.victorrot.commons.exceptions.ServiceException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Caso de uso genérico y asíncrono para la creación o persistencia de entidades.
+ *
+ * <p>Esta interfaz es la contraparte asíncrona de {@link PersistenceOnlyUseCase}:
+ * cada operación devuelve de inmediato un {@link CompletableFuture} que se completa
+ * con el resultado, o de forma excepcional con la {@link ServiceException} producida.</p>
+ * 
+ * @author Victor Manuel Rodriguez Ramirez
+ * @param <E>  el tipo de la entidad a persistir
+ * @param <ID> el tipo del identificador único de la entidad
+ *
+ * @see PersistenceOnlyUseCase
+ * @see ServiceException
+ * @version 1.0.0 - New use case
+ */
+public interface AsyncPersistUseCase<E, ID> {
+    
+    /**
+     * Crea o guarda la entidad proporcionada.
+     *
+     * @param entity la entidad que se debe crear o guardar.
+     * @return un futuro con la entidad persistida.
+     * @throws IllegalArgumentException si {@code entity} es {@code null}.
+     */
+    CompletableFuture<E> create(E entity);
+    
+    /**
+     * Crea o guarda todas las entidades proporcionadas.
+     *
+     * @param entities un iterable con las entidades que se deben crear o guardar.
+     * @return un futuro con una lista con las entidades persistidas.
+     * @throws IllegalArgumentException si {@code entities} es {@code null}.
+     */
+    CompletableFuture<List<E>> createAll(Iterable<E> entities);
+
+}
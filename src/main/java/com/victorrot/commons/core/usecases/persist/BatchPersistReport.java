@@ -0,0 +1,74 @@
+package com.victorrot.commons.core.usecases.persist;
+
+import com.victorrot.commons.exceptions.ServiceException;
+import java.util.List;
+
+/**
+ * Informe de una operación de persistencia en lote dividida en bloques.
+ *
+ * <p>Permite conocer qué bloques se persistieron y cuáles fallaron, de modo que
+ * solo sea necesario reintentar las entidades de los bloques fallidos.</p>
+ *
+ * @author Victor Manuel Rodriguez Ramirez
+ * @param <E>    el tipo de la entidad
+ * @param chunks los resultados de cada bloque, en orden.
+ *
+ * @see ChunkResult
+ * @version 1.0.0 - Nuevo informe de persistencia en lote
+ */
+public record BatchPersistReport<E>(List<ChunkResult<E>> chunks) {
+
+    /**
+     * Crea un informe con una copia inmutable de los resultados.
+     */
+    public BatchPersistReport {
+        chunks = List.copyOf(chunks);
+    }
+
+    /**
+     * Indica si algún bloque falló.
+     *
+     * @return {@code true} si existe al menos un bloque fallido.
+     */
+    public boolean hasFailures() {
+        return chunks.stream().anyMatch(chunk -> !chunk.isSuccessful());
+    }
+
+    /**
+     * Obtiene las entidades persistidas de todos los bloques exitosos.
+     *
+     * @return las entidades persistidas, en el orden de los bloques.
+     */
+    public List<E> persisted() {
+        return chunks.stream().flatMap(chunk -> chunk.persisted().stream()).toList();
+    }
+
+    /**
+     * Obtiene los resultados de los bloques fallidos.
+     *
+     * @return los bloques fallidos con sus entidades y la excepción producida.
+     */
+    public List<ChunkResult<E>> failures() {
+        return chunks.stream().filter(chunk -> !chunk.isSuccessful()).toList();
+    }
+
+    /**
+     * Obtiene las entidades de todos los bloques fallidos.
+     *
+     * @return las entidades que no se persistieron.
+     */
+    public List<E> failedItems() {
+        return failures().stream().flatMap(chunk -> chunk.items().stream()).toList();
+    }
+
+    /**
+     * Obtiene la primera excepción producida.
+     *
+     * @return la excepción del primer bloque fallido, o {@code null} si no hubo fallos.
+     */
+    public ServiceException firstFailure() {
+        return chunks.stream().filter(chunk -> !chunk.isSuccessful())
+                .map(ChunkResult::failure).findFirst().orElse(null);
+    }
+
+}
@@ -0,0 +1,37 @@
+package com.victorrot.commons.core.usecases.persist;
+
+import com.victorrot.commons.exceptions.ServiceException;
+import java.util.List;
+
+/**
+ * Caso de uso genérico para la inserción o actualización en lote de entidades.
+ *
+ * <p>Esta interfaz define un contrato para guardar múltiples entidades de manera
+ * simultánea: cada entidad se inserta si no existe y, si existe, se reemplazan sus
+ * datos, sin consultarlas previamente. Se utiliza típicamente en arquitecturas
+ * limpias o hexagonales, delegando la lógica de persistencia a los adaptadores
+ * correspondientes.</p>
+ *
+ * @author Victor Manuel Rodriguez Ramirez
+ * @param <E>  el tipo de la entidad a persistir
+ * @param <ID> el tipo del identificador único de la entidad
+ *
+ * @see UpsertUseCase
+ * @see ServiceException
+ * @version 1.0.0 - New use case
+ */
+public interface BatchUpsertUseCase<E, ID> {
+
+    /**
+     * Inserta las entidades proporcionadas o actualiza las existentes con el mismo
+     * identificador.
+     *
+     * @param entities un iterable con las entidades que se deben insertar o
+     *                 actualizar, con sus identificadores asignados.
+     * @return una lista con las entidades persistidas.
+     * @throws IllegalArgumentException si {@code entities} es {@code null} o contiene elementos {@code null}.
+     * @throws ServiceException si ocurre un error durante la persistencia.
+     */
+    List<E> upsertAll(Iterable<E> entities);
+
+}
@@ -0,0 +1,58 @@
+package com.victorrot.commons.core.usecases.persist;
+
+import com.victorrot.commons.exceptions.ServiceException;
+import java.util.List;
+
+/**
+ * Resultado de la persistencia de un bloque de entidades dentro de una
+ * operación en lote.
+ *
+ * @author Victor Manuel Rodriguez Ramirez
+ * @param <E>       el tipo de la entidad
+ * @param index     la posición del bloque dentro de la operación, desde cero.
+ * @param items     las entidades que formaban el bloque.
+ * @param persisted las entidades persistidas; vacía si el bloque falló.
+ * @param failure   la excepción que impidió persistir el bloque, o {@code null}
+ *                  si el bloque se persistió correctamente.
+ *
+ * @see BatchPersistReport
+ * @version 1.0.0 - Nuevo resultado por bloque
+ */
+public record ChunkResult<E>(int index, List<E> items, List<E> persisted, ServiceException failure) {
+
+    /**
+     * Crea el resultado de un bloque persistido correctamente.
+     *
+     * @param <E>       el tipo de la entidad
+     * @param index     la posición del bloque.
+     * @param items     las entidades del bloque.
+     * @param persisted las entidades persistidas.
+     * @return el resultado exitoso.
+     */
+    public static <E> ChunkResult<E> success(int index, List<E> items, List<E> persisted) {
+        return new ChunkResult<>(index, items, persisted, null);
+    }
+
+    /**
+     * Crea el resultado de un bloque que no pudo persistirse.
+     *
+     * @param <E>     el tipo de la entidad
+     * @param index   la posición del bloque.
+     * @param items   las entidades del bloque.
+     * @param failure la excepción producida.
+     * @return el resultado fallido.
+     */
+    public static <E> ChunkResult<E> failure(int index, List<E> items, ServiceException failure) {
+        return new ChunkResult<>(index, items, List.of(), failure);
+    }
+
+    /**
+     * Indica si el bloque se persistió correctamente.
+     *
+     * @return {@code true} si no hubo error.
+     */
+    public boolean isSuccessful() {
+        return failure == null;
+    }
+
+}
@@ -0,0 +1,62 @@
+package com.victorrot.commons.core.usecases.persist;
+
+import com.victorrot.commons.exceptions.ServiceException;
+import com.victorrot.commons.exceptions.ServiceExceptionFactory;
+import java.util.List;
+
+/**
+ * Caso de uso genérico para la persistencia en lote de entidades dividida en
+ * bloques independientes.
+ *
+ * <p>Esta interfaz extiende {@link BatchPersistUseCase} con una operación que
+ * informa el resultado de cada bloque, de modo que el fallo de un bloque no obliga
+ * a repetir toda la importación. Se utiliza típicamente en arquitecturas limpias o
+ * hexagonales, delegando la lógica de persistencia a los adaptadores
+ * correspondientes.</p>
+ * 
+ * @author Victor Manuel Rodriguez Ramirez 
+ * @param <E>  el tipo de la entidad a persistir
+ * @param <ID> el tipo del identificador único de la entidad
+ * 
+ * @see BatchPersistReport
+ * @see ServiceException
+ * @version 1.0.0 - New use case
+ */
+public interface ChunkedPersistUseCase<E, ID> extends BatchPersistUseCase<E, ID> {
+    
+    /**
+     * Crea o guarda todas las entidades proporcionadas en bloques.
+     *
+     * <p>Los bloques que fallan no detienen la operación; su excepción se informa
+     * en el resultado y las entidades de los demás bloques permanecen persistidas.</p>
+     *
+     * @param entities un iterable con las entidades que se deben crear o guardar.
+     * @return el informe con el resultado de cada bloque.
+     * @throws IllegalArgumentException si {@code entities} es {@code null} o contiene elementos {@code null}.
+     */
+    BatchPersistReport<E> createAllInChunks(Iterable<E> entities);
+    
+    /**
+     * Crea o guarda todas las entidades proporcionadas mediante
+     * {@link #createAllInChunks(Iterable)}.
+     *
+     * <p>Si algún bloque falla se lanza una excepción, aunque las entidades de los
+     * bloques exitosos permanecen persistidas.</p>
+     *
+     * @param entities un iterable con las entidades que se deben crear o guardar.
+     * @return una lista con las entidades persistidas.
+     * @throws IllegalArgumentException si {@code entities} es {@code null} o contiene elementos {@code null}.
+     * @throws ServiceException de tipo {@code DATABASE} si algún bloque no pudo persistirse.
+     */
+    @Override
+    default List<E> createAll(Iterable<E> entities) {
+        BatchPersistReport<E> report = createAllInChunks(entities);
+        if (report.hasFailures()) {
+            throw ServiceExceptionFactory.database(report.firstFailure(),
+                    "Fallaron {} de {} bloques al persistir las entidades",
+                    report.failures().size(), report.chunks().size());
+        }
+        return report.persisted();
+    }
+    
+}
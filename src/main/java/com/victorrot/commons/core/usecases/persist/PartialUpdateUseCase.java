@@ -0,0 +1,39 @@
+package com.victorrot.commons.core.usecases.persist;
+
+import com.victorrot.commons.exceptions.ServiceException;
+import java.util.Map;
+
+/**
+ * Caso de uso genérico para la actualización parcial de una entidad.
+ *
+ * <p>Esta interfaz define un contrato para modificar solo algunos datos de una
+ * entidad existente, identificados por el nombre de su propiedad, sin consultarla
+ * previamente ni reescribir los datos que no cambian. Se utiliza típicamente en
+ * arquitecturas limpias o hexagonales como puerto de entrada (Use Case), delegando
+ * la lógica de persistencia a los adaptadores correspondientes.</p>
+ *
+ * @author Victor Manuel Rodriguez Ramirez
+ * @param <ID> el tipo del identificador único de la entidad
+ *
+ * @see UpsertUseCase
+ * @see ServiceException
+ * @version 1.0.0 - New use case
+ */
+public interface PartialUpdateUseCase<ID> {
+
+    /**
+     * Actualiza los datos indicados de una entidad.
+     *
+     * @param id      el identificador único de la entidad.
+     * @param changes los nuevos valores, indexados por el nombre de la propiedad; un
+     *                valor {@code null} borra el dato.
+     * @return {@code true} si la entidad existía y se actualizó; {@code false} si no
+     *         existe.
+     * @throws IllegalArgumentException si {@code id} o {@code changes} son
+     *         {@code null}, si {@code changes} está vacío o si contiene una propiedad
+     *         que no puede actualizarse.
+     * @throws ServiceException si ocurre un error durante la persistencia.
+     */
+    boolean update(ID id, Map<String, ?> changes);
+
+}
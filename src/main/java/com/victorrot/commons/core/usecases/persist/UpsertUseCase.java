@@ -0,0 +1,36 @@
+package com.victorrot.commons.core.usecases.persist;
+
+import com.victorrot.commons.exceptions.ServiceException;
+
+/**
+ * Caso de uso genérico para la inserción o actualización de una entidad.
+ *
+ * <p>Esta interfaz define un contrato para guardar una entidad en una sola
+ * operación: si no existe una entidad con su identificador se inserta y, si existe,
+ * se reemplazan sus datos, sin consultarla previamente. Se utiliza típicamente en
+ * arquitecturas limpias o hexagonales como puerto de entrada (Use Case), delegando
+ * la lógica de persistencia a los adaptadores correspondientes.</p>
+ *
+ * @author Victor Manuel Rodriguez Ramirez
+ * @param <E>  el tipo de la entidad a persistir
+ * @param <ID> el tipo del identificador único de la entidad
+ *
+ * @see BatchUpsertUseCase
+ * @see ServiceException
+ * @version 1.0.0 - New use case
+ */
+public interface UpsertUseCase<E, ID> {
+
+    /**
+     * Inserta la entidad proporcionada o actualiza la existente con el mismo
+     * identificador.
+     *
+     * @param entity la entidad que se debe insertar o actualizar, con su
+     *               identificador asignado.
+     * @return la entidad persistida.
+     * @throws IllegalArgumentException si {@code entity} es {@code null}.
+     * @throws ServiceException si ocurre un error durante la persistencia.
+     */
+    E upsert(E entity);
+
+}
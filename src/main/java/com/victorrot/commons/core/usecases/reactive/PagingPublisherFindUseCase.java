@@ -0,0 +1,205 @@
+package com.victorrot.commons.core.usecases.reactive;
+
+import com.victorrot.commons.core.usecases.find.BatchFindUseCase;
+import com.victorrot.commons.core.usecases.find.PublisherFindUseCase;
+import com.victorrot.commons.core.usecases.find.ReadOnlyUseCase;
+import com.victorrot.commons.exceptions.ServiceException;
+import com.victorrot.commons.exceptions.ServiceExceptionFactory;
+import java.util.ArrayDeque;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+/**
+ * Adaptador que publica las entidades de un {@link ReadOnlyUseCase} (o de cualquier
+ * {@link BatchFindUseCase}) como un {@link Flow.Publisher} con contrapresión.
+ *
+ * <p>Las entidades se obtienen página por página mediante
+ * {@link BatchFindUseCase#findAll(Pageable)}. Una página solo se consulta cuando el
+ * suscriptor tiene demanda pendiente y ya recibió todas las entidades de la página
+ * anterior, por lo que en memoria se mantiene como máximo una página por suscripción.
+ * Las consultas y las señales al suscriptor se ejecutan en el {@link Executor}
+ * indicado, nunca en el hilo que invoca {@code request}.</p>
+ *
+ * <p>Para obtener un recorrido estable, el ordenamiento debe ser único y total
+ * (por ejemplo, por el identificador).</p>
+ *
+ * @author Victor Manuel Rodriguez Ramirez
+ * @param <E> el tipo de la entidad
+ *
+ * @see PublisherFindUseCase
+ * @see ServiceException
+ * @version 1.0.0 - Nuevo publicador paginado
+ */
+public class PagingPublisherFindUseCase<E> implements PublisherFindUseCase<E> {
+
+    private final BatchFindUseCase<E> source;
+
+    private final int pageSize;
+
+    private final Sort sort;
+
+    private final Executor executor;
+
+    /**
+     * Crea un publicador paginado que ejecuta las consultas en hilos virtuales.
+     *
+     * @param source   el caso de uso que proporciona las páginas.
+     * @param pageSize el número de entidades por página.
+     * @param sort     el ordenamiento de las páginas.
+     */
+    public PagingPublisherFindUseCase(BatchFindUseCase<E> source, int pageSize, Sort sort) {
+        this(source, pageSize, sort, Executors.newVirtualThreadPerTaskExecutor());
+    }
+
+    /**
+     * Crea un publicador paginado.
+     *
+     * @param source   el caso de uso que proporciona las páginas.
+     * @param pageSize el número de entidades por página.
+     * @param sort     el ordenamiento de las páginas.
+     * @param executor el ejecutor de las consultas y de las señales al suscriptor.
+     * @throws IllegalArgumentException si {@code pageSize} no es positivo.
+     */
+    public PagingPublisherFindUseCase(BatchFindUseCase<E> source, int pageSize, Sort sort, Executor executor) {
+        if (pageSize <= 0) {
+            throw new IllegalArgumentException("El tamaño de página debe ser positivo");
+        }
+        this.source = Objects.requireNonNull(source, "source");
+        this.pageSize = pageSize;
+        this.sort = Objects.requireNonNull(sort, "sort");
+        this.executor = Objects.requireNonNull(executor, "executor");
+    }
+
+    @Override
+    public Flow.Publisher<E> publishAll() {
+        return subscriber -> {
+            Objects.requireNonNull(subscriber, "subscriber");
+            subscriber.onSubscribe(new PageSubscription(subscriber));
+        };
+    }
+
+    /**
+     * Suscripción que consulta las páginas según la demanda del suscriptor.
+     *
+     * <p>Todas las señales se emiten desde {@link #drain()}, que se ejecuta de forma
+     * serializada mediante el contador {@link #wip}.</p>
+     */
+    private final class PageSubscription implements Flow.Subscription {
+
+        private final Flow.Subscriber<? super E> subscriber;
+
+        private final AtomicLong demand = new AtomicLong();
+
+        private final AtomicInteger wip = new AtomicInteger();
+
+        private final ArrayDeque<E> buffer = new ArrayDeque<>();
+
+        private volatile boolean cancelled;
+
+        private volatile Throwable invalidRequest;
+
+        private Pageable nextPage = PageRequest.of(0, pageSize, sort);
+
+        private boolean exhausted;
+
+        private boolean done;
+
+        private PageSubscription(Flow.Subscriber<? super E> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                invalidRequest = new IllegalArgumentException("La demanda debe ser positiva (regla 3.9): " + n);
+            } else {
+                demand.getAndAccumulate(n, (current, added) -> {
+                    long sum = current + added;
+                    return sum < 0 ? Long.MAX_VALUE : sum;
+                });
+            }
+            schedule();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+        }
+
+        private void schedule() {
+            if (wip.getAndIncrement() == 0) {
+                executor.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            int missed = 1;
+            do {
+                emit();
+                missed = wip.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        private void emit() {
+            while (!done) {
+                if (cancelled) {
+                    terminate();
+                    return;
+                }
+                if (invalidRequest != null) {
+                    terminate();
+                    subscriber.onError(invalidRequest);
+                    return;
+                }
+                if (buffer.isEmpty()) {
+                    if (exhausted) {
+                        terminate();
+                        subscriber.onComplete();
+                        return;
+                    }
+                    if (demand.get() == 0) {
+                        return;
+                    }
+                    if (!fetch()) {
+                        return;
+                    }
+                    continue;
+                }
+                if (demand.get() == 0) {
+                    return;
+                }
+                demand.decrementAndGet();
+                subscriber.onNext(buffer.poll());
+            }
+        }
+
+        private boolean fetch() {
+            try {
+                Page<E> page = source.findAll(nextPage);
+                page.forEach(buffer::add);
+                exhausted = !page.hasNext() || page.isEmpty();
+                nextPage = page.nextPageable();
+                return true;
+            } catch (RuntimeException ex) {
+                terminate();
+                subscriber.onError(ex instanceof ServiceException ? ex
+                        : ServiceExceptionFactory.database(ex, "Error al obtener la página {}", nextPage.getPageNumber()));
+                return false;
+            }
+        }
+
+        private void terminate() {
+            done = true;
+            buffer.clear();
+        }
+    }
+
+}
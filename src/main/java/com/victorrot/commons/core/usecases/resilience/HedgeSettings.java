@@ -0,0 +1,60 @@
+package com.victorrot.commons.core.usecases.resilience;
+
+import java.time.Duration;
+
+/**
+ * Configuración de las consultas duplicadas ({@code hedged requests}) de las
+ * búsquedas por identificador.
+ *
+ * @param percentile el percentil de la latencia a partir del cual se envía la
+ *                   consulta duplicada, mayor que 0 y hasta 100.
+ * @param minDelay   la espera mínima antes de enviar la consulta duplicada, aunque
+ *                   el percentil sea menor.
+ * @param minSamples el número de consultas con el que se calcula cada percentil;
+ *                   hasta reunir las primeras no se envían consultas duplicadas.
+ *
+ * @author Victor Manuel Rodriguez Ramirez
+ * @version 1.0.0 - Nueva configuración de consultas duplicadas
+ */
+public record HedgeSettings(double percentile, Duration minDelay, int minSamples) {
+
+    /** Percentil por defecto. */
+    public static final double DEFAULT_PERCENTILE = 95;
+
+    /** Espera mínima por defecto. */
+    public static final Duration DEFAULT_MIN_DELAY = Duration.ofMillis(1);
+
+    /** Número de consultas por percentil por defecto. */
+    public static final int DEFAULT_MIN_SAMPLES = 1000;
+
+    /**
+     * Valida los parámetros de la configuración.
+     *
+     * @throws IllegalArgumentException si el percentil no es mayor que 0 y menor o
+     *         igual que 100, si {@code minDelay} es {@code null} o negativo, o si
+     *         {@code minSamples} no es positivo.
+     */
+    public HedgeSettings {
+        if (!(percentile > 0 && percentile <= 100)) {
+            throw new IllegalArgumentException("El percentil debe ser mayor que 0 y menor o igual que 100");
+        }
+        if (minDelay == null || minDelay.isNegative()) {
+            throw new IllegalArgumentException("La espera mínima no puede ser nula ni negativa");
+        }
+        if (minSamples <= 0) {
+            throw new IllegalArgumentException("El número de consultas por percentil debe ser positivo");
+        }
+    }
+
+    /**
+     * Crea la configuración por defecto: consulta duplicada a partir del percentil
+     * {@value #DEFAULT_PERCENTILE} de la latencia, calculado cada
+     * {@value #DEFAULT_MIN_SAMPLES} consultas, con una espera mínima de 1 ms.
+     *
+     * @return la configuración por defecto.
+     */
+    public static HedgeSettings defaults() {
+        return new HedgeSettings(DEFAULT_PERCENTILE, DEFAULT_MIN_DELAY, DEFAULT_MIN_SAMPLES);
+    }
+
+}
@@ -0,0 +1,67 @@
+package com.victorrot.commons.core.usecases.resilience;
+
+import com.victorrot.commons.core.usecases.persist.PersistenceOnlyUseCase;
+import com.victorrot.commons.exceptions.ServiceException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Decorador de {@link PersistenceOnlyUseCase} que reintenta las altas que fallan
+ * por errores transitorios de base de datos.
+ *
+ * <p>Las altas que fallan con una {@link ServiceException} de tipo {@code DATABASE}
+ * se reintentan según la {@link RetrySettings} y el {@link RetryBudget}
+ * configurados; los demás errores se propagan sin reintentar. Un error recibido
+ * después de que la base de datos confirmara la escritura, como la pérdida de la
+ * conexión durante el {@code commit}, provoca que el alta se repita: el decorador
+ * debe usarse solo con altas idempotentes, por ejemplo con identificadores asignados
+ * por el cliente y una restricción de unicidad, o con operaciones de tipo
+ * {@code upsert}. Dentro de una transacción activa en el hilo que llama no se
+ * reintenta, y el error se propaga para que se repita la transacción completa.</p>
+ *
+ * @author Victor Manuel Rodriguez Ramirez
+ * @param <E>  el tipo de la entidad
+ * @param <ID> el tipo del identificador único de la entidad
+ *
+ * @see RetryBudget
+ * @see ResilientReadOnlyUseCase
+ * @version 1.0.0 - Nuevo decorador con reintentos
+ */
+public class ResilientPersistenceOnlyUseCase<E, ID> implements PersistenceOnlyUseCase<E, ID> {
+
+    private final PersistenceOnlyUseCase<E, ID> delegate;
+
+    private final Retrier retrier;
+
+    /**
+     * Crea un decorador con reintentos.
+     *
+     * @param delegate      el caso de uso de persistencia decorado.
+     * @param retrySettings la configuración de los reintentos.
+     * @param budget        el presupuesto de reintentos.
+     */
+    public ResilientPersistenceOnlyUseCase(PersistenceOnlyUseCase<E, ID> delegate, RetrySettings retrySettings,
+            RetryBudget budget) {
+        this.delegate = Objects.requireNonNull(delegate, "delegate");
+        this.retrier = new Retrier(retrySettings, budget);
+    }
+
+    @Override
+    public E create(E entity) {
+        return retrier.call("create", () -> delegate.create(entity));
+    }
+
+    @Override
+    public List<E> createAll(Iterable<E> entities) {
+        if (entities == null) {
+            throw new IllegalArgumentException("Las entidades no pueden ser nulas");
+        }
+        // Se copian una sola vez: cada intento debe recibir todas las entidades aunque el
+        // iterable no pueda recorrerse de nuevo.
+        List<E> copy = new ArrayList<>();
+        entities.forEach(copy::add);
+        return retrier.call("createAll", () -> delegate.createAll(copy));
+    }
+
+}
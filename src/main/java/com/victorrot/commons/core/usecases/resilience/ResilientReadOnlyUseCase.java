@@ -0,0 +1,237 @@
+package com.victorrot.commons.core.usecases.resilience;
+
+import com.victorrot.commons.core.usecases.find.ReadOnlyUseCase;
+import com.victorrot.commons.core.usecases.metrics.LogLinearHistogram;
+import com.victorrot.commons.exceptions.ServiceException;
+import com.victorrot.commons.exceptions.ServiceExceptionFactory;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import org.slf4j.MDC;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Decorador de {@link ReadOnlyUseCase} que reintenta las consultas que fallan por
+ * errores transitorios de base de datos y duplica las búsquedas por identificador
+ * lentas.
+ *
+ * <p>Todas las consultas que fallan con una {@link ServiceException} de tipo
+ * {@code DATABASE} se reintentan según la {@link RetrySettings} y el
+ * {@link RetryBudget} configurados, salvo dentro de una transacción activa en el
+ * hilo que llama; los demás errores se propagan sin reintentar.</p>
+ *
+ * <p>Si se configura {@link HedgeSettings}, {@link #findById(Object)} y
+ * {@link #existsById(Object)} se ejecutan en un hilo virtual y, si no responden
+ * antes del percentil configurado de su latencia, se envía una consulta duplicada
+ * ({@code hedged request}) y se devuelve la primera respuesta exitosa; la otra
+ * consulta se cancela. El percentil se recalcula con cada bloque de
+ * {@link HedgeSettings#minSamples()} consultas, de modo que sigue los cambios de la
+ * latencia. Cada consulta duplicada consume una ficha del presupuesto de reintentos,
+ * por lo que tampoco multiplica la carga durante una caída. La instancia debe
+ * cerrarse con {@link #close()} para liberar los hilos de las consultas duplicadas.</p>
+ *
+ * <p>Las consultas que se ejecutan en hilos virtuales reciben una copia del
+ * {@link MDC} del hilo que llama, pero no el resto de su estado asociado al hilo,
+ * como la transacción de Spring o el contexto de seguridad. Por ello, cuando hay una
+ * sincronización de transacciones activa en el hilo que llama, la búsqueda se
+ * ejecuta en ese mismo hilo y sin consulta duplicada, que leería fuera de la
+ * transacción. Si el caso de uso decorado depende de otro estado del hilo, debe
+ * crearse el decorador sin {@link HedgeSettings}.</p>
+ *
+ * @author Victor Manuel Rodriguez Ramirez
+ * @param <E>  el tipo de la entidad
+ * @param <ID> el tipo del identificador único de la entidad
+ *
+ * @see RetryBudget
+ * @see ResilientPersistenceOnlyUseCase
+ * @version 1.0.0 - Nuevo decorador con reintentos y consultas duplicadas
+ */
+public class ResilientReadOnlyUseCase<E, ID> implements ReadOnlyUseCase<E, ID>, AutoCloseable {
+
+    private final ReadOnlyUseCase<E, ID> delegate;
+
+    private final Retrier retrier;
+
+    private final HedgeSettings hedgeSettings;
+
+    private final ExecutorService executor;
+
+    private final AtomicReference<LogLinearHistogram> latencies = new AtomicReference<>(new LogLinearHistogram());
+
+    /** Espera antes de la consulta duplicada; negativa mientras no hay un percentil calculado. */
+    private volatile long hedgeDelayNanos = -1;
+
+    private volatile boolean closed;
+
+    /**
+     * Crea un decorador que solo reintenta, sin consultas duplicadas.
+     *
+     * @param delegate      el caso de uso de consulta decorado.
+     * @param retrySettings la configuración de los reintentos.
+     * @param budget        el presupuesto de reintentos.
+     */
+    public ResilientReadOnlyUseCase(ReadOnlyUseCase<E, ID> delegate, RetrySettings retrySettings,
+            RetryBudget budget) {
+        this.delegate = Objects.requireNonNull(delegate, "delegate");
+        this.retrier = new Retrier(retrySettings, budget);
+        this.hedgeSettings = null;
+        this.executor = null;
+    }
+
+    /**
+     * Crea un decorador que reintenta y duplica las búsquedas por identificador lentas.
+     *
+     * @param delegate      el caso de uso de consulta decorado.
+     * @param retrySettings la configuración de los reintentos.
+     * @param budget        el presupuesto de reintentos y consultas duplicadas.
+     * @param hedgeSettings la configuración de las consultas duplicadas.
+     */
+    public ResilientReadOnlyUseCase(ReadOnlyUseCase<E, ID> delegate, RetrySettings retrySettings,
+            RetryBudget budget, HedgeSettings hedgeSettings) {
+        this.delegate = Objects.requireNonNull(delegate, "delegate");
+        this.retrier = new Retrier(retrySettings, budget);
+        this.hedgeSettings = Objects.requireNonNull(hedgeSettings, "hedgeSettings");
+        this.executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("hedged-find-", 0).factory());
+    }
+
+    @Override
+    public Optional<E> findById(ID id) {
+        return retrier.call("findById", () -> hedged(() -> delegate.findById(id)));
+    }
+
+    @Override
+    public boolean existsById(ID id) {
+        return retrier.call("existsById", () -> hedged(() -> delegate.existsById(id)));
+    }
+
+    @Override
+    public List<E> findAll() {
+        return retrier.call("findAll", delegate::findAll);
+    }
+
+    @Override
+    public Page<E> findAll(Pageable pageable) {
+        return retrier.call("findAll", () -> delegate.findAll(pageable));
+    }
+
+    /**
+     * Obtiene la espera actual antes de enviar una consulta duplicada.
+     *
+     * @return la espera en nanosegundos, o un valor negativo si las consultas
+     *         duplicadas están desactivadas o aún no hay consultas suficientes.
+     */
+    public long getHedgeDelayNanos() {
+        return hedgeDelayNanos;
+    }
+
+    /**
+     * Libera los hilos de las consultas duplicadas; las consultas en curso terminan
+     * normalmente.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        if (executor != null) {
+            executor.shutdown();
+        }
+    }
+
+    private <T> T hedged(Supplier<T> call) {
+        if (hedgeSettings == null) {
+            return call.get();
+        }
+        if (closed) {
+            throw new IllegalStateException("El caso de uso con consultas duplicadas está cerrado");
+        }
+        long start = System.nanoTime();
+        long delay = hedgeDelayNanos;
+        T result = delay < 0 || TransactionSynchronizationManager.isSynchronizationActive() ? call.get()
+                : race(withCallerContext(call), delay);
+        record(System.nanoTime() - start);
+        return result;
+    }
+
+    private <T> T race(Supplier<T> call, long delayNanos) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        // Intentos en curso; el último en fallar propaga su error si ninguno tuvo éxito.
+        AtomicInteger running = new AtomicInteger(1);
+        Future<?> primary = executor.submit(() -> attempt(call, result, running));
+        Future<?> hedge = null;
+        try {
+            try {
+                return result.get(delayNanos, TimeUnit.NANOSECONDS);
+            } catch (TimeoutException ex) {
+                if (!result.isDone() && retrier.budget().tryAcquire()) {
+                    running.incrementAndGet();
+                    hedge = executor.submit(() -> attempt(call, result, running));
+                }
+                return result.get();
+            }
+        } catch (ExecutionException ex) {
+            Throwable cause = ex.getCause();
+            if (cause instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(cause);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw ServiceExceptionFactory.service("Se interrumpió la espera de la consulta por identificador");
+        } finally {
+            primary.cancel(true);
+            if (hedge != null) {
+                hedge.cancel(true);
+            }
+        }
+    }
+
+    private static <T> Supplier<T> withCallerContext(Supplier<T> call) {
+        Map<String, String> context = MDC.getCopyOfContextMap();
+        return () -> {
+            if (context != null) {
+                MDC.setContextMap(context);
+            }
+            try {
+                return call.get();
+            } finally {
+                MDC.clear();
+            }
+        };
+    }
+
+    private static <T> void attempt(Supplier<T> call, CompletableFuture<T> result, AtomicInteger running) {
+        try {
+            result.complete(call.get());
+        } catch (RuntimeException | Error ex) {
+            if (running.decrementAndGet() == 0) {
+                result.completeExceptionally(ex);
+            }
+        }
+    }
+
+    private void record(long latencyNanos) {
+        LogLinearHistogram window = latencies.get();
+        window.record(latencyNanos);
+        if (window.count() >= hedgeSettings.minSamples()
+                && latencies.compareAndSet(window, new LogLinearHistogram())) {
+            hedgeDelayNanos = Math.max(hedgeSettings.minDelay().toNanos(),
+                    window.percentile(hedgeSettings.percentile()));
+        }
+    }
+
+}
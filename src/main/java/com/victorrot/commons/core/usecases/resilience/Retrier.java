@@ -0,0 +1,75 @@
+package com.victorrot.commons.core.usecases.resilience;
+
+import com.victorrot.commons.exceptions.ServiceException;
+import com.victorrot.commons.exceptions.TypeException;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Ejecuta una operación y la reintenta mientras falle con una
+ * {@link ServiceException} de tipo {@code DATABASE}.
+ *
+ * <p>La espera antes de cada reintento es aleatoria entre cero y un tope que se
+ * duplica en cada intento ({@code full jitter}), de modo que los clientes que
+ * fallaron a la vez no reintentan a la vez. Cada reintento consume una ficha del
+ * {@link RetryBudget}; sin fichas, o agotados los intentos, se relanza el último
+ * error. Los demás errores se relanzan sin reintentar.</p>
+ *
+ * <p>Dentro de una transacción activa en el hilo que llama no se reintenta: tras un
+ * error de base de datos la transacción suele quedar marcada para deshacerse, y
+ * repetir la operación en ella fallaría de nuevo o escribiría sobre un estado
+ * parcial. El error se propaga para que se reintente la transacción completa.</p>
+ *
+ * @author Victor Manuel Rodriguez Ramirez
+ * @version 1.0.0 - Nuevo ejecutor de reintentos
+ */
+@Slf4j
+final class Retrier {
+
+    private final RetrySettings settings;
+
+    private final RetryBudget budget;
+
+    Retrier(RetrySettings settings, RetryBudget budget) {
+        this.settings = Objects.requireNonNull(settings, "settings");
+        this.budget = Objects.requireNonNull(budget, "budget");
+    }
+
+    RetryBudget budget() {
+        return budget;
+    }
+
+    <T> T call(String operation, Supplier<T> attempt) {
+        budget.recordCall();
+        for (int attempts = 1;; attempts++) {
+            try {
+                return attempt.get();
+            } catch (ServiceException ex) {
+                if (ex.getType() != TypeException.DATABASE || attempts >= settings.maxAttempts()
+                        || TransactionSynchronizationManager.isActualTransactionActive() || !budget.tryAcquire()) {
+                    throw ex;
+                }
+                long backoff = backoffNanos(attempts);
+                log.debug("Reintento {} de {} en {} ms tras un error de base de datos", attempts, operation,
+                        TimeUnit.NANOSECONDS.toMillis(backoff));
+                try {
+                    TimeUnit.NANOSECONDS.sleep(backoff);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    throw ex;
+                }
+            }
+        }
+    }
+
+    private long backoffNanos(int attempts) {
+        double ceiling = Math.min(settings.maxBackoff().toNanos(),
+                settings.initialBackoff().toNanos() * Math.pow(2, attempts - 1));
+        return ThreadLocalRandom.current().nextLong((long) ceiling + 1);
+    }
+
+}
@@ -0,0 +1,108 @@
+package com.victorrot.commons.core.usecases.resilience;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Presupuesto de reintentos con forma de cubeta de fichas.
+ *
+ * <p>Cada llamada original deposita {@code ratio} fichas, hasta un máximo de
+ * {@code maxTokens}, y cada reintento o consulta duplicada consume una ficha; sin
+ * fichas no se reintenta. Así, mientras la base de datos responde, los reintentos
+ * disponen del saldo acumulado, pero durante una caída no superan la fracción
+ * {@code ratio} de las llamadas y no multiplican la carga sobre un recurso que ya
+ * está fallando. El presupuesto es seguro para uso concurrente y puede compartirse
+ * entre los decoradores que acceden a la misma base de datos.</p>
+ *
+ * @author Victor Manuel Rodriguez Ramirez
+ *
+ * @see ResilientReadOnlyUseCase
+ * @see ResilientPersistenceOnlyUseCase
+ * @version 1.0.0 - Nuevo presupuesto de reintentos
+ */
+public final class RetryBudget {
+
+    /** Fracción de reintentos por llamada por defecto. */
+    public static final double DEFAULT_RATIO = 0.1;
+
+    /** Saldo máximo de fichas por defecto. */
+    public static final int DEFAULT_MAX_TOKENS = 10;
+
+    /** Las fichas se guardan en milésimas para operar con enteros. */
+    private static final long SCALE = 1000;
+
+    private final long deposit;
+
+    private final long capacity;
+
+    private final AtomicLong balance;
+
+    /**
+     * Crea un presupuesto con el saldo máximo disponible.
+     *
+     * @param ratio     las fichas que deposita cada llamada original, entre 0 y 1.
+     * @param maxTokens el saldo máximo de fichas.
+     * @throws IllegalArgumentException si {@code ratio} no está entre 0 y 1 o si
+     *         {@code maxTokens} no es positivo.
+     */
+    public RetryBudget(double ratio, int maxTokens) {
+        if (!(ratio >= 0 && ratio <= 1)) {
+            throw new IllegalArgumentException("La fracción de reintentos debe estar entre 0 y 1");
+        }
+        if (maxTokens <= 0) {
+            throw new IllegalArgumentException("El saldo máximo de fichas debe ser positivo");
+        }
+        this.deposit = Math.round(ratio * SCALE);
+        this.capacity = maxTokens * SCALE;
+        this.balance = new AtomicLong(capacity);
+    }
+
+    /**
+     * Crea el presupuesto por defecto: una ficha por cada 10 llamadas, con un saldo
+     * máximo de {@value #DEFAULT_MAX_TOKENS} fichas.
+     *
+     * @return el presupuesto por defecto.
+     */
+    public static RetryBudget defaults() {
+        return new RetryBudget(DEFAULT_RATIO, DEFAULT_MAX_TOKENS);
+    }
+
+    /**
+     * Registra una llamada original, que deposita su fracción de ficha.
+     */
+    public void recordCall() {
+        long current;
+        do {
+            current = balance.get();
+            if (current >= capacity) {
+                return;
+            }
+        } while (!balance.compareAndSet(current, Math.min(capacity, current + deposit)));
+    }
+
+    /**
+     * Consume una ficha para un reintento o una consulta duplicada.
+     *
+     * @return {@code true} si había saldo y la ficha se consumió; {@code false} si el
+     *         reintento no debe realizarse.
+     */
+    public boolean tryAcquire() {
+        long current;
+        do {
+            current = balance.get();
+            if (current < SCALE) {
+                return false;
+            }
+        } while (!balance.compareAndSet(current, current - SCALE));
+        return true;
+    }
+
+    /**
+     * Obtiene el saldo actual.
+     *
+     * @return el número de fichas disponibles, con decimales.
+     */
+    public double getTokens() {
+        return (double) balance.get() / SCALE;
+    }
+
+}
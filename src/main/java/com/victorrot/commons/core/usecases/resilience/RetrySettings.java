@@ -0,0 +1,58 @@
+package com.victorrot.commons.core.usecases.resilience;
+
+import java.time.Duration;
+
+/**
+ * Configuración de los reintentos de las operaciones que fallan por errores de base
+ * de datos.
+ *
+ * @param maxAttempts    el número máximo de intentos, incluido el primero; 1
+ *                       desactiva los reintentos.
+ * @param initialBackoff la espera máxima antes del primer reintento; se duplica en
+ *                       cada reintento posterior.
+ * @param maxBackoff     el tope de la espera máxima entre dos intentos.
+ *
+ * @author Victor Manuel Rodriguez Ramirez
+ * @version 1.0.0 - Nueva configuración de reintentos
+ */
+public record RetrySettings(int maxAttempts, Duration initialBackoff, Duration maxBackoff) {
+
+    /** Número máximo de intentos por defecto. */
+    public static final int DEFAULT_MAX_ATTEMPTS = 3;
+
+    /** Espera máxima antes del primer reintento por defecto. */
+    public static final Duration DEFAULT_INITIAL_BACKOFF = Duration.ofMillis(50);
+
+    /** Tope de la espera entre dos intentos por defecto. */
+    public static final Duration DEFAULT_MAX_BACKOFF = Duration.ofSeconds(1);
+
+    /**
+     * Valida los parámetros de la configuración.
+     *
+     * @throws IllegalArgumentException si {@code maxAttempts} no es positivo, si
+     *         alguna espera es {@code null} o negativa, o si {@code maxBackoff} es
+     *         menor que {@code initialBackoff}.
+     */
+    public RetrySettings {
+        if (maxAttempts <= 0) {
+            throw new IllegalArgumentException("El número máximo de intentos debe ser positivo");
+        }
+        if (initialBackoff == null || initialBackoff.isNegative() || maxBackoff == null
+                || maxBackoff.compareTo(initialBackoff) < 0) {
+            throw new IllegalArgumentException(
+                    "Las esperas entre intentos no pueden ser nulas ni negativas y la máxima no puede ser menor que la inicial");
+        }
+    }
+
+    /**
+     * Crea la configuración por defecto: hasta {@value #DEFAULT_MAX_ATTEMPTS}
+     * intentos, con una espera máxima de 50 ms antes del primer reintento y de 1 s
+     * como tope.
+     *
+     * @return la configuración por defecto.
+     */
+    public static RetrySettings defaults() {
+        return new RetrySettings(DEFAULT_MAX_ATTEMPTS, DEFAULT_INITIAL_BACKOFF, DEFAULT_MAX_BACKOFF);
+    }
+
+}
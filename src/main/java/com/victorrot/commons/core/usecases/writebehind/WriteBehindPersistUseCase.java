@@ -0,0 +1,237 @@
+package com.victorrot.commons.core.usecases.writebehind;
+
+import com.victorrot.commons.core.usecases.persist.BatchPersistUseCase;
+import com.victorrot.commons.core.usecases.persist.PersistenceOnlyUseCase;
+import com.victorrot.commons.exceptions.ServiceException;
+import com.victorrot.commons.exceptions.ServiceExceptionFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.BiConsumer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Decorador de escritura diferida (<i>write-behind</i>) para
+ * {@link PersistenceOnlyUseCase}.
+ *
+ * <p>{@link #create(Object)} no escribe la entidad de inmediato: la agrega a un
+ * búfer acotado y sin bloqueos, y devuelve la misma instancia recibida. Un hilo de
+ * escritura vacía el búfer mediante {@link BatchPersistUseCase#createAll(Iterable)}
+ * cuando se acumulan {@link WriteBehindSettings#batchSize()} entidades o cuando vence
+ * {@link WriteBehindSettings#maxLag()}, lo que ocurra primero. Por lo tanto, las
+ * entidades devueltas por {@code create} no incluyen cambios generados por la capa
+ * de persistencia, como identificadores.</p>
+ *
+ * <p>Cuando el búfer está lleno, {@code create} espera hasta
+ * {@link WriteBehindSettings#offerTimeout()} a que se libere espacio y después lanza
+ * una {@link ServiceException} de tipo {@code SERVICE}. Los lotes que no pueden
+ * escribirse se notifican al manejador de fallos con una {@link ServiceException} de
+ * tipo {@code DATABASE}; por defecto solo se registran en el log.</p>
+ *
+ * <p>{@link #createAll(Iterable)} se delega de forma síncrona. {@link #close()}
+ * escribe las entidades pendientes antes de terminar; Spring lo invoca al destruir
+ * el bean y {@link #registerShutdownHook()} permite hacerlo al detener la JVM. Una
+ * llamada a {@code create} que está esperando espacio cuando se invoca {@code close}
+ * termina de agregar su entidad antes del vaciado final; las posteriores se rechazan
+ * con una {@link IllegalStateException}, de modo que ninguna entidad aceptada se
+ * pierde.</p>
+ *
+ * @author Victor Manuel Rodriguez Ramirez
+ * @param <E>  el tipo de la entidad a persistir
+ * @param <ID> el tipo del identificador único de la entidad
+ *
+ * @see PersistenceOnlyUseCase
+ * @see ServiceException
+ * @version 1.0.0 - Nuevo decorador de escritura diferida
+ */
+@Slf4j
+public final class WriteBehindPersistUseCase<E, ID> implements PersistenceOnlyUseCase<E, ID>, AutoCloseable {
+
+    private final PersistenceOnlyUseCase<E, ID> delegate;
+
+    private final WriteBehindSettings settings;
+
+    private final BiConsumer<List<E>, ServiceException> failureHandler;
+
+    private final ConcurrentLinkedQueue<E> buffer = new ConcurrentLinkedQueue<>();
+
+    /** Espacios libres del búfer; se liberan cuando el lote que contiene la entidad termina de escribirse. */
+    private final Semaphore slots;
+
+    private final AtomicInteger pending = new AtomicInteger();
+
+    /** Excluye la admisión de entidades ({@code create}) del cierre del búfer. */
+    private final ReadWriteLock admission = new ReentrantReadWriteLock();
+
+    private final Thread flusher;
+
+    private volatile boolean running = true;
+
+    /**
+     * Crea un decorador de escritura diferida que registra en el log los lotes fallidos.
+     *
+     * @param delegate el caso de uso que persiste los lotes.
+     * @param settings la configuración del búfer.
+     */
+    public WriteBehindPersistUseCase(PersistenceOnlyUseCase<E, ID> delegate, WriteBehindSettings settings) {
+        this(delegate, settings, (entities, ex) -> log.error("No fue posible persistir un lote diferido de {} entidades",
+                entities.size(), ex));
+    }
+
+    /**
+     * Crea un decorador de escritura diferida.
+     *
+     * @param delegate       el caso de uso que persiste los lotes.
+     * @param settings       la configuración del búfer.
+     * @param failureHandler el manejador de los lotes que no pudieron escribirse.
+     */
+    public WriteBehindPersistUseCase(PersistenceOnlyUseCase<E, ID> delegate, WriteBehindSettings settings,
+            BiConsumer<List<E>, ServiceException> failureHandler) {
+        this.delegate = Objects.requireNonNull(delegate, "delegate");
+        this.settings = Objects.requireNonNull(settings, "settings");
+        this.failureHandler = Objects.requireNonNull(failureHandler, "failureHandler");
+        this.slots = new Semaphore(settings.capacity());
+        this.flusher = Thread.ofPlatform().name("write-behind-flusher").daemon(true).unstarted(this::runFlusher);
+        this.flusher.start();
+    }
+
+    @Override
+    public E create(E entity) {
+        if (entity == null) {
+            throw new IllegalArgumentException("La entidad no puede ser nula");
+        }
+        int count;
+        admission.readLock().lock();
+        try {
+            if (!running) {
+                throw new IllegalStateException("El búfer de escritura diferida está cerrado");
+            }
+            acquireSlot();
+            buffer.offer(entity);
+            count = pending.incrementAndGet();
+        } finally {
+            admission.readLock().unlock();
+        }
+        if (count >= settings.batchSize()) {
+            LockSupport.unpark(flusher);
+        }
+        return entity;
+    }
+
+    @Override
+    public List<E> createAll(Iterable<E> entities) {
+        return delegate.createAll(entities);
+    }
+
+    /**
+     * Obtiene el número de entidades pendientes de escribir.
+     *
+     * @return el número de entidades en el búfer.
+     */
+    public int pendingCount() {
+        return pending.get();
+    }
+
+    /**
+     * Registra un gancho de apagado de la JVM que invoca {@link #close()}.
+     */
+    public void registerShutdownHook() {
+        Runtime.getRuntime().addShutdownHook(new Thread(this::close, "write-behind-shutdown"));
+    }
+
+    /**
+     * Deja de aceptar entidades y espera a que se escriban las pendientes.
+     */
+    @Override
+    public void close() {
+        admission.writeLock().lock();
+        try {
+            running = false;
+        } finally {
+            admission.writeLock().unlock();
+        }
+        LockSupport.unpark(flusher);
+        if (Thread.currentThread() == flusher) {
+            return;
+        }
+        try {
+            flusher.join();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            log.warn("Interrumpido mientras se escribían {} entidades diferidas", pending.get());
+            return;
+        }
+        // Entidades agregadas mientras el hilo de escritura terminaba
+        flushAvailable();
+    }
+
+    private void acquireSlot() {
+        try {
+            if (!slots.tryAcquire(settings.offerTimeout().toNanos(), TimeUnit.NANOSECONDS)) {
+                throw ServiceExceptionFactory.service("El búfer de escritura diferida está lleno ({} entidades)",
+                        settings.capacity());
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw ServiceExceptionFactory.service(ex, "Interrumpido mientras se esperaba espacio en el búfer");
+        }
+    }
+
+    private void runFlusher() {
+        long maxLagNanos = settings.maxLag().toNanos();
+        long lastFlush = System.nanoTime();
+        while (running || pending.get() > 0) {
+            long remaining = lastFlush + maxLagNanos - System.nanoTime();
+            if (running && remaining > 0 && pending.get() < settings.batchSize()) {
+                LockSupport.parkNanos(this, remaining);
+                continue;
+            }
+            flushAvailable();
+            lastFlush = System.nanoTime();
+        }
+    }
+
+    private void flushAvailable() {
+        List<E> batch = new ArrayList<>(settings.batchSize());
+        E entity;
+        while ((entity = buffer.poll()) != null) {
+            batch.add(entity);
+            if (batch.size() == settings.batchSize()) {
+                write(batch);
+                batch = new ArrayList<>(settings.batchSize());
+            }
+        }
+        if (!batch.isEmpty()) {
+            write(batch);
+        }
+    }
+
+    private void write(List<E> batch) {
+        pending.addAndGet(-batch.size());
+        try {
+            delegate.createAll(batch);
+        } catch (RuntimeException ex) {
+            notifyFailure(batch, ex);
+        } finally {
+            slots.release(batch.size());
+        }
+    }
+
+    private void notifyFailure(List<E> batch, RuntimeException ex) {
+        ServiceException failure = ServiceExceptionFactory.database(ex,
+                "Error al persistir un lote diferido de {} entidades", batch.size());
+        try {
+            failureHandler.accept(batch, failure);
+        } catch (RuntimeException handlerEx) {
+            log.error("El manejador de fallos de escritura diferida lanzó una excepción", handlerEx);
+        }
+    }
+
+}
@@ -0,0 +1,43 @@
+package com.victorrot.commons.core.usecases.writebehind;
+
+import java.time.Duration;
+
+/**
+ * Configuración del búfer de escritura diferida.
+ *
+ * @author Victor Manuel Rodriguez Ramirez
+ * @param capacity     número máximo de entidades pendientes, incluidas las que se
+ *                     están escribiendo.
+ * @param batchSize    número de entidades a partir del cual se escribe un lote sin
+ *                     esperar a que venza {@code maxLag}.
+ * @param maxLag       tiempo máximo que una entidad permanece en el búfer antes de
+ *                     escribirse.
+ * @param offerTimeout tiempo máximo que {@code create} espera un espacio libre
+ *                     cuando el búfer está lleno.
+ * @version 1.0.0 - Nueva configuración de escritura diferida
+ */
+public record WriteBehindSettings(int capacity, int batchSize, Duration maxLag, Duration offerTimeout) {
+
+    /**
+     * Valida los parámetros de la configuración.
+     *
+     * @throws IllegalArgumentException si algún tamaño no es positivo, si
+     *         {@code batchSize} supera a {@code capacity}, o si algún tiempo es
+     *         {@code null} o negativo.
+     */
+    public WriteBehindSettings {
+        if (capacity <= 0 || batchSize <= 0) {
+            throw new IllegalArgumentException("La capacidad y el tamaño del lote deben ser positivos");
+        }
+        if (batchSize > capacity) {
+            throw new IllegalArgumentException("El tamaño del lote no puede superar la capacidad del búfer");
+        }
+        if (maxLag == null || maxLag.isNegative() || maxLag.isZero()) {
+            throw new IllegalArgumentException("El retraso máximo debe ser positivo");
+        }
+        if (offerTimeout == null || offerTimeout.isNegative()) {
+            throw new IllegalArgumentException("El tiempo de espera no puede ser nulo ni negativo");
+        }
+    }
+
+}
@@ -0,0 +1,184 @@
+package com.victorrot.commons.exceptions;
+
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.text.MessageFormat;
+import java.text.NumberFormat;
+import java.util.Date;
+import java.util.Locale;
+
+/**
+ * Formateo de los mensajes de {@link ServiceException} con marcadores {@code "{}"}.
+ *
+ * <p>El resultado es el mismo que se obtenía al convertir cada {@code "{}"} en
+ * {@code "{0}"}, {@code "{1}"}, ... y aplicar {@link MessageFormat#format(String, Object...)}
+ * sobre el texto resultante. Para los casos habituales (plantillas sin comillas
+ * simples ni otros argumentos entre llaves, y parámetros que no son fechas ni
+ * números decimales) el mensaje se construye en una sola pasada sobre la plantilla,
+ * sin crear un {@link MessageFormat}; los enteros se agrupan con los mismos símbolos
+ * que utilizaría el formato numérico de la configuración regional actual. El resto de
+ * los casos se delega en {@link MessageFormat}.</p>
+ *
+ * <p>Los marcadores sin parámetro correspondiente se conservan como {@code "{}"} y,
+ * si {@link MessageFormat} rechaza la plantilla, se devuelve la plantilla sin
+ * formatear. Como el mensaje se formatea al consultarlo, a menudo fuera de la
+ * transacción en la que se creó la excepción, un parámetro cuyo {@code toString()}
+ * falla (por ejemplo, una entidad JPA desconectada) se sustituye por
+ * {@code [toString falló: <clase>]}, de modo que obtener el mensaje nunca lanza
+ * excepciones.</p>
+ *
+ * @author Victor Manuel Rodriguez Ramirez
+ * @version 1.0.0 - Nuevo formateo de mensajes en una sola pasada
+ * @see ServiceException
+ */
+final class MessageTemplates {
+
+    private static final Object[] NO_PARAMS = {};
+
+    /** Formato de enteros de la última configuración regional utilizada. */
+    private static volatile IntegerStyle integerStyle;
+
+    private MessageTemplates() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * Formatea una plantilla con marcadores {@code "{}"}.
+     *
+     * @param template la plantilla del mensaje.
+     * @param params   los parámetros a insertar en el mensaje.
+     * @return el mensaje formateado, o {@code null} si la plantilla es {@code null}.
+     */
+    static String format(String template, Object[] params) {
+        if (template == null) {
+            return null;
+        }
+        Object[] args = params == null ? NO_PARAMS : params;
+        int length = template.length();
+        StringBuilder result = new StringBuilder(length + 16 * args.length);
+        IntegerStyle style = null;
+        int paramIndex = 0;
+        int last = 0;
+        for (int i = 0; i < length; i++) {
+            char c = template.charAt(i);
+            if (c == '\'') {
+                return formatWithMessageFormat(template, args);
+            }
+            if (c != '{') {
+                continue;
+            }
+            if (i + 1 == length || template.charAt(i + 1) != '}') {
+                return formatWithMessageFormat(template, args);
+            }
+            if (paramIndex < args.length) {
+                Object arg = args[paramIndex++];
+                result.append(template, last, i);
+                if (arg instanceof Long || arg instanceof Integer || arg instanceof Short || arg instanceof Byte) {
+                    if (style == null) {
+                        style = integerStyle();
+                    }
+                    if (!style.append(result, ((Number) arg).longValue())) {
+                        return formatWithMessageFormat(template, args);
+                    }
+                } else if (arg instanceof Number || arg instanceof Date) {
+                    return formatWithMessageFormat(template, args);
+                } else {
+                    result.append(safeToString(arg));
+                }
+                last = i + 2;
+            }
+            i++;
+        }
+        if (last == 0) {
+            return template;
+        }
+        return result.append(template, last, length).toString();
+    }
+
+    private static String formatWithMessageFormat(String template, Object[] args) {
+        StringBuilder pattern = new StringBuilder(template.length() + 2 * args.length);
+        int paramIndex = 0;
+        int last = 0;
+        int index;
+        while (paramIndex < args.length && (index = template.indexOf("{}", last)) != -1) {
+            pattern.append(template, last, index).append('{').append(paramIndex++).append('}');
+            last = index + 2;
+        }
+        pattern.append(template, last, template.length());
+        Object[] safeArgs = new Object[args.length];
+        for (int i = 0; i < args.length; i++) {
+            Object arg = args[i];
+            safeArgs[i] = arg == null || arg instanceof Number || arg instanceof Date ? arg : safeToString(arg);
+        }
+        try {
+            return MessageFormat.format(pattern.toString(), safeArgs);
+        } catch (RuntimeException ex) {
+            return template;
+        }
+    }
+
+    private static String safeToString(Object arg) {
+        if (arg == null) {
+            return "null";
+        }
+        try {
+            return arg.toString();
+        } catch (RuntimeException ex) {
+            return "[toString falló: " + arg.getClass().getName() + "]";
+        }
+    }
+
+    private static IntegerStyle integerStyle() {
+        Locale locale = Locale.getDefault(Locale.Category.FORMAT);
+        IntegerStyle style = integerStyle;
+        if (style == null || !style.locale().equals(locale)) {
+            style = IntegerStyle.of(locale);
+            integerStyle = style;
+        }
+        return style;
+    }
+
+    /**
+     * Símbolos con los que {@link NumberFormat#getInstance(Locale)} formatea los enteros.
+     *
+     * @param supported si el formato numérico de la configuración regional puede
+     *                  reproducirse; si no, los enteros se formatean con {@link MessageFormat}.
+     */
+    private record IntegerStyle(Locale locale, boolean supported, char zeroDigit, char groupingSeparator,
+            int groupingSize, String positivePrefix, String positiveSuffix, String negativePrefix,
+            String negativeSuffix) {
+
+        static IntegerStyle of(Locale locale) {
+            if (NumberFormat.getInstance(locale) instanceof DecimalFormat format
+                    && format.getMultiplier() == 1
+                    && format.getMinimumIntegerDigits() <= 1) {
+                DecimalFormatSymbols symbols = format.getDecimalFormatSymbols();
+                return new IntegerStyle(locale, true, symbols.getZeroDigit(), symbols.getGroupingSeparator(),
+                        format.isGroupingUsed() ? format.getGroupingSize() : 0,
+                        format.getPositivePrefix(), format.getPositiveSuffix(),
+                        format.getNegativePrefix(), format.getNegativeSuffix());
+            }
+            return new IntegerStyle(locale, false, '0', ',', 0, "", "", "-", "");
+        }
+
+        boolean append(StringBuilder result, long value) {
+            if (!supported) {
+                return false;
+            }
+            String digits = Long.toString(value);
+            int start = value < 0 ? 1 : 0;
+            result.append(value < 0 ? negativePrefix : positivePrefix);
+            for (int i = start; i < digits.length(); i++) {
+                result.append((char) (zeroDigit + (digits.charAt(i) - '0')));
+                int remaining = digits.length() - i - 1;
+                if (groupingSize > 0 && remaining > 0 && remaining % groupingSize == 0) {
+                    result.append(groupingSeparator);
+                }
+            }
+            result.append(value < 0 ? negativeSuffix : positiveSuffix);
+            return true;
+        }
+
+    }
+
+}
@@ -1,6 +1,7 @@
 package com.victorrot.commons.exceptions;
 
-import java.text.MessageFormat;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
 import java.util.Objects;
 
 /**
@@ -41,25 +42,16 @@ public class ServiceException extends RuntimeException {
     private TypeException type;
 
     /**
-     * Formatea un mensaje con parámetros reemplazando las ocurrencias de "{}" con
-     * los valores proporcionados.
-     * 
-     * @param text      El mensaje base con marcadores "{}" para reemplazar.
-     * @param params    Los parámetros a insertar en el mensaje.
-     * @return El mensaje formateado con los parámetros sustituidos.
+     * Plantilla del mensaje con marcadores "{}", pendiente de formatear. Es nula si
+     * la excepción se creó con un mensaje sin parámetros.
      */
-    private static String formatMessage(String text, Object... params) {
-        StringBuilder formattedText = new StringBuilder();
-        int paramIndex = 0, lastIndex = 0;
-        while ((lastIndex = text.indexOf("{}", lastIndex)) != -1 && paramIndex < params.length) {
-            formattedText.append(text, 0, lastIndex)
-                    .append("{").append(paramIndex++).append("}");
-            text = text.substring(lastIndex + 2);
-            lastIndex = 0;
-        }
-        formattedText.append(text);
-        return MessageFormat.format(formattedText.toString(), params);
-    }
+    private transient String template;
+
+    /** Parámetros a insertar en la plantilla. */
+    private transient Object[] params;
+
+    /** Mensaje formateado a partir de la plantilla; se calcula en el primer acceso. */
+    private String formattedMessage;
 
     /**
      * Crea una nueva instancia de <code>ServiceException</code> sin mensaje 
@@ -210,10 +202,74 @@ public class ServiceException extends RuntimeException {
      * @see String#format(java.lang.String, java.lang.Object...) 
      */
     public ServiceException(TypeException type, Throwable cause, String msg, Object... params) {
-        super(formatMessage(msg, params), cause);
+        super(null, cause);
+        this.type = Objects.<TypeException>requireNonNullElse(type, TypeException.GENERAL);
+        this.template = msg;
+        this.params = params;
+    }
+
+    /**
+     * Crea una nueva instancia de <code>ServiceException</code> indicando si se 
+     * captura la traza de la pila.
+     * 
+     * <p>Con {@code writableStackTrace} en {@code false} no se captura la traza ni se 
+     * registran excepciones suprimidas, lo que reduce el costo de construcción de 
+     * excepciones esperadas, como los rechazos de validación.</p>
+     * 
+     * @param writableStackTrace Si se captura la traza de la pila y se registran 
+     *                           excepciones suprimidas.
+     * @param type El tipo de excepción {@link TypeException} que clasifica el error.
+     * @param cause La causa original de la excepción.
+     * @param msg El mensaje detallado que describe el error.
+     * @see StacklessServiceException
+     */
+    protected ServiceException(boolean writableStackTrace, TypeException type, Throwable cause, String msg) {
+        super(msg, cause, writableStackTrace, writableStackTrace);
         this.type = Objects.<TypeException>requireNonNullElse(type, TypeException.GENERAL);
     }
 
+    /**
+     * Crea una nueva instancia de <code>ServiceException</code> con el mensaje 
+     * detallado formateado, indicando si se captura la traza de la pila.
+     * 
+     * @param writableStackTrace Si se captura la traza de la pila y se registran 
+     *                           excepciones suprimidas.
+     * @param type El tipo de excepción {@link TypeException}.
+     * @param cause La causa original de la excepción.
+     * @param msg El mensaje detallado con los marcadores de formato (como "{}").
+     * @param params Los parámetros a ser insertados en el mensaje.
+     * @see StacklessServiceException
+     */
+    protected ServiceException(boolean writableStackTrace, TypeException type, Throwable cause, String msg,
+            Object... params) {
+        super(null, cause, writableStackTrace, writableStackTrace);
+        this.type = Objects.<TypeException>requireNonNullElse(type, TypeException.GENERAL);
+        this.template = msg;
+        this.params = params;
+    }
+
+    /**
+     * Obtiene el mensaje detallado de la excepción.
+     * 
+     * <p>Si la excepción se creó con una plantilla y parámetros, el mensaje se 
+     * formatea en el primer acceso y se conserva para los siguientes, de modo que 
+     * las excepciones cuyo mensaje nunca se consulta no pagan el costo del formateo.</p>
+     * 
+     * @return El mensaje detallado de la excepción.
+     */
+    @Override
+    public String getMessage() {
+        String message = formattedMessage;
+        if (message == null) {
+            if (template == null) {
+                return super.getMessage();
+            }
+            message = MessageTemplates.format(template, params);
+            formattedMessage = message;
+        }
+        return message;
+    }
+
     /**
      * Obtiene el tipo de excepción {@link TypeException} que clasifica el error 
      * ocurrido.
@@ -225,4 +281,26 @@ public class ServiceException extends RuntimeException {
         return this.type;
     }
 
+    /**
+     * Obtiene la plantilla del mensaje, con los marcadores "{}" sin sustituir, o el 
+     * mensaje si la excepción no se creó con parámetros.
+     * 
+     * @return La plantilla del mensaje.
+     */
+    String getMessageTemplate() {
+        return template != null ? template : getMessage();
+    }
+
+    /**
+     * Formatea el mensaje antes de serializar la excepción, ya que la plantilla y 
+     * los parámetros no se serializan.
+     * 
+     * @param out El flujo de salida.
+     * @throws IOException Si ocurre un error de escritura.
+     */
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        getMessage();
+        out.defaultWriteObject();
+    }
+
 }
@@ -1,6 +1,11 @@
 package com.victorrot.commons.exceptions;
 
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumSet;
 import java.util.Objects;
+import java.util.Set;
 import lombok.extern.slf4j.Slf4j;
 
 /**
@@ -13,6 +18,12 @@ import lombok.extern.slf4j.Slf4j;
  * en los mensajes y tipos de error. Puede ser utilizada en cualquier capa que 
  * necesite generar excepciones del dominio.</p>
  *
+ * <p>Cada excepción creada se registra en el log según la política configurada con
+ * {@link #setLogPolicy(ServiceExceptionLogPolicy)}; con Spring Boot, la política y
+ * los tipos sin traza de la pila se configuran con las propiedades
+ * {@code commons.exceptions.*}. Además, cada excepción se cuenta por tipo en
+ * {@link #statistics()}.</p>
+ *
  * <p>Esta clase es final y tiene un constructor privado para evitar su instanciación.</p>
  *
  * @author Victor Manuel Rodriguez Ramirez
@@ -24,32 +35,138 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public final class ServiceExceptionFactory {
     
+    private static final String DEFAULT_MESSAGE = "Ha ocurrido un error inesperado.";
+
+    /** Tipos de excepción que se crean sin traza de la pila; se reemplaza completo al configurarlo. */
+    private static volatile Set<TypeException> stacklessTypes = EnumSet.noneOf(TypeException.class);
+
+    private static final ServiceExceptionLogger LOGGER = new ServiceExceptionLogger(log);
+
+    private static final ServiceExceptionStatistics STATISTICS = new ServiceExceptionStatistics();
+
     // Constructor privado para evitar instanciación
     private ServiceExceptionFactory() {
         throw new IllegalStateException("Utility class");
     }
     
     private static ServiceException logAndReturn(ServiceException ex) {
-        log.error("Type Error: {}", ex.getType());
-        log.error("Message: {}", ex.getMessage());
-        log.error("Cause: {}", Objects.isNull(ex.getCause()) ? "N/A" : ex.getCause().toString());
+        STATISTICS.record(ex.getType());
+        LOGGER.log(ex);
         return ex;
     }
 
     private static ServiceException create(TypeException type, String message) {
-        return logAndReturn(new ServiceException(type, message));
+        return logAndReturn(isStackless(type)
+                ? new StacklessServiceException(type, null, message)
+                : new ServiceException(type, message));
     }
 
     private static ServiceException create(TypeException type, Throwable cause) {
-        return logAndReturn(new ServiceException(type, cause));
+        return logAndReturn(isStackless(type)
+                ? new StacklessServiceException(type, cause, DEFAULT_MESSAGE)
+                : new ServiceException(type, cause));
     }
 
     private static ServiceException create(TypeException type, String message, Object... params) {
-        return logAndReturn(new ServiceException(type, message, params));
+        return logAndReturn(isStackless(type)
+                ? new StacklessServiceException(type, null, message, params)
+                : new ServiceException(type, message, params));
     }
 
     private static ServiceException create(TypeException type, Throwable cause, String message, Object... params) {
-         return logAndReturn(new ServiceException(type, cause, message, params));
+        return logAndReturn(isStackless(type)
+                ? new StacklessServiceException(type, cause, message, params)
+                : new ServiceException(type, cause, message, params));
+    }
+
+    // ========== CONFIGURACIÓN ==========
+
+    /**
+     * Configura los tipos de excepción que se crean sin traza de la pila.
+     *
+     * <p>Las excepciones de estos tipos se crean como {@link StacklessServiceException},
+     * lo que evita el costo de capturar la traza en errores esperados y frecuentes
+     * (típicamente {@link TypeException#VALIDATION}). Por defecto ningún tipo se crea
+     * sin traza. Cada llamada reemplaza la configuración anterior; sin argumentos
+     * restablece el comportamiento por defecto.</p>
+     *
+     * @param types los tipos que se crean sin traza de la pila.
+     * @throws IllegalArgumentException si algún tipo es {@code null}.
+     */
+    public static void setStacklessTypes(TypeException... types) {
+        setStacklessTypes(types == null ? Set.of() : Arrays.asList(types));
+    }
+
+    /**
+     * Configura los tipos de excepción que se crean sin traza de la pila.
+     *
+     * @param types los tipos que se crean sin traza de la pila.
+     * @throws IllegalArgumentException si {@code types} es {@code null} o contiene
+     *         elementos {@code null}.
+     * @see #setStacklessTypes(TypeException...)
+     */
+    public static void setStacklessTypes(Collection<TypeException> types) {
+        if (types == null || types.contains(null)) {
+            throw new IllegalArgumentException("Los tipos de excepción no pueden ser nulos");
+        }
+        stacklessTypes = types.isEmpty() ? EnumSet.noneOf(TypeException.class) : EnumSet.copyOf(types);
+    }
+
+    /**
+     * Obtiene los tipos de excepción que se crean sin traza de la pila.
+     *
+     * @return un conjunto inmutable con los tipos configurados.
+     */
+    public static Set<TypeException> getStacklessTypes() {
+        return Collections.unmodifiableSet(EnumSet.copyOf(stacklessTypes));
+    }
+
+    /**
+     * Configura el registro en el log de las excepciones creadas.
+     *
+     * <p>Por defecto cada excepción se registra en tres líneas sin límite
+     * ({@link ServiceExceptionLogMode#LEGACY}). Con
+     * {@link ServiceExceptionLogMode#STRUCTURED} se registra un único evento por
+     * excepción y se limitan las repeticiones de un mismo tipo y plantilla;
+     * con {@link ServiceExceptionLogMode#OFF} no se registra nada.</p>
+     *
+     * @param policy la política de registro.
+     * @throws IllegalArgumentException si {@code policy} es {@code null}.
+     * @see ServiceExceptionLogPolicy
+     */
+    public static void setLogPolicy(ServiceExceptionLogPolicy policy) {
+        if (policy == null) {
+            throw new IllegalArgumentException("La política de registro no puede ser nula");
+        }
+        LOGGER.configure(policy);
+    }
+
+    /**
+     * Obtiene la política de registro en el log vigente.
+     *
+     * @return la política de registro.
+     */
+    public static ServiceExceptionLogPolicy getLogPolicy() {
+        return LOGGER.policy();
+    }
+
+    /**
+     * Obtiene los contadores de las excepciones creadas por esta fábrica, por tipo.
+     *
+     * @return las estadísticas de excepciones.
+     */
+    public static ServiceExceptionStatistics statistics() {
+        return STATISTICS;
+    }
+
+    /**
+     * Indica si las excepciones del tipo indicado se crean sin traza de la pila.
+     *
+     * @param type el tipo de excepción.
+     * @return {@code true} si el tipo está configurado como sin traza.
+     */
+    public static boolean isStackless(TypeException type) {
+        return stacklessTypes.contains(Objects.requireNonNullElse(type, TypeException.GENERAL));
     }
     
     // ========== VALIDATION EXCEPTIONS ==========
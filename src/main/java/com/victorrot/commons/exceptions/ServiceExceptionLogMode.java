@@ -0,0 +1,23 @@
+package com.victorrot.commons.exceptions;
+
+/**
+ * Modos de registro en el log de las excepciones creadas por {@link ServiceExceptionFactory}.
+ *
+ * <ul>
+ *     <li>{@code LEGACY}: tres líneas de nivel {@code ERROR} por excepción (tipo,
+ *         mensaje y causa), sin límite. Es el modo por defecto.</li>
+ *     <li>{@code STRUCTURED}: un único evento por excepción con los datos como pares
+ *         clave-valor, limitando los eventos repetidos y resumiendo periódicamente
+ *         los suprimidos.</li>
+ *     <li>{@code OFF}: no se registra nada.</li>
+ * </ul>
+ *
+ * @author Victor Manuel Rodriguez Ramirez
+ * @version 1.0.0 - Nuevos modos de registro de excepciones
+ * @see ServiceExceptionLogPolicy
+ */
+public enum ServiceExceptionLogMode {
+    LEGACY,
+    STRUCTURED,
+    OFF
+}
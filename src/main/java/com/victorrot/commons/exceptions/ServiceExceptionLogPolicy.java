@@ -0,0 +1,73 @@
+package com.victorrot.commons.exceptions;
+
+import java.time.Duration;
+
+/**
+ * Política de registro en el log de las excepciones creadas por {@link ServiceExceptionFactory}.
+ *
+ * <p>En modo {@link ServiceExceptionLogMode#STRUCTURED} las excepciones se agrupan
+ * por tipo y plantilla del mensaje (el texto con los marcadores {@code "{}"} antes de
+ * formatear). Dentro de cada ventana de duración {@code window} se registran como
+ * máximo {@code maxPerWindow} eventos de cada grupo; los demás se suprimen y, al
+ * final de la ventana, se registra un resumen con el número de excepciones
+ * suprimidas. En los demás modos la ventana y el límite se ignoran.</p>
+ *
+ * @author Victor Manuel Rodriguez Ramirez
+ * @param mode         el modo de registro.
+ * @param window       la duración de la ventana de limitación.
+ * @param maxPerWindow el número máximo de eventos por grupo y ventana.
+ *
+ * @see ServiceExceptionFactory#setLogPolicy(ServiceExceptionLogPolicy)
+ * @version 1.0.0 - Nueva política de registro de excepciones
+ */
+public record ServiceExceptionLogPolicy(ServiceExceptionLogMode mode, Duration window, int maxPerWindow) {
+
+    /** Ventana de limitación por defecto. */
+    public static final Duration DEFAULT_WINDOW = Duration.ofSeconds(10);
+
+    /** Número máximo de eventos por grupo y ventana por defecto. */
+    public static final int DEFAULT_MAX_PER_WINDOW = 5;
+
+    /** Política por defecto: registro en tres líneas, sin límite. */
+    public static final ServiceExceptionLogPolicy DEFAULT =
+            new ServiceExceptionLogPolicy(ServiceExceptionLogMode.LEGACY, DEFAULT_WINDOW, DEFAULT_MAX_PER_WINDOW);
+
+    /**
+     * Valida la política.
+     *
+     * @throws IllegalArgumentException si algún valor es nulo, la ventana no es
+     *         positiva o el límite no es positivo.
+     */
+    public ServiceExceptionLogPolicy {
+        if (mode == null) {
+            throw new IllegalArgumentException("El modo de registro no puede ser nulo");
+        }
+        if (window == null || window.isZero() || window.isNegative()) {
+            throw new IllegalArgumentException("La ventana de limitación debe ser positiva");
+        }
+        if (maxPerWindow <= 0) {
+            throw new IllegalArgumentException("El número máximo de eventos por ventana debe ser positivo");
+        }
+    }
+
+    /**
+     * Crea una política de registro estructurado.
+     *
+     * @param window       la duración de la ventana de limitación.
+     * @param maxPerWindow el número máximo de eventos por grupo y ventana.
+     * @return la política.
+     */
+    public static ServiceExceptionLogPolicy structured(Duration window, int maxPerWindow) {
+        return new ServiceExceptionLogPolicy(ServiceExceptionLogMode.STRUCTURED, window, maxPerWindow);
+    }
+
+    /**
+     * Crea una política que no registra las excepciones.
+     *
+     * @return la política.
+     */
+    public static ServiceExceptionLogPolicy off() {
+        return new ServiceExceptionLogPolicy(ServiceExceptionLogMode.OFF, DEFAULT_WINDOW, DEFAULT_MAX_PER_WINDOW);
+    }
+
+}
@@ -0,0 +1,178 @@
+package com.victorrot.commons.exceptions;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import org.slf4j.Logger;
+
+/**
+ * Registro en el log de las excepciones creadas por {@link ServiceExceptionFactory}
+ * según la {@link ServiceExceptionLogPolicy} vigente.
+ *
+ * <p>En modo {@link ServiceExceptionLogMode#STRUCTURED} cada excepción produce un
+ * único evento con el tipo, la plantilla del mensaje, el mensaje y la causa como
+ * pares clave-valor de SLF4J. Los grupos (tipo y plantilla) se llevan en contadores
+ * sin bloqueos; una tarea periódica registra el resumen de las excepciones
+ * suprimidas y descarta los grupos inactivos. El número de grupos está acotado: a
+ * partir de {@value #MAX_GROUPS} grupos, las plantillas nuevas se agrupan por tipo.
+ * El límite por ventana es aproximado cuando varios hilos cambian de ventana al
+ * mismo tiempo.</p>
+ *
+ * @author Victor Manuel Rodriguez Ramirez
+ * @version 1.0.0 - Nuevo registro estructurado de excepciones
+ * @see ServiceExceptionLogPolicy
+ */
+final class ServiceExceptionLogger {
+
+    static final int MAX_GROUPS = 10_000;
+
+    private static final String OVERFLOW_TEMPLATE = "*";
+
+    private final Logger log;
+
+    private final Map<Group, Counter> groups = new ConcurrentHashMap<>();
+
+    private volatile ServiceExceptionLogPolicy policy = ServiceExceptionLogPolicy.DEFAULT;
+
+    private volatile long windowNanos = ServiceExceptionLogPolicy.DEFAULT_WINDOW.toNanos();
+
+    private ScheduledThreadPoolExecutor scheduler;
+
+    private ScheduledFuture<?> summaries;
+
+    ServiceExceptionLogger(Logger log) {
+        this.log = log;
+    }
+
+    ServiceExceptionLogPolicy policy() {
+        return policy;
+    }
+
+    /**
+     * Aplica una nueva política. Los resúmenes pendientes de la política anterior se
+     * registran antes de cambiarla.
+     */
+    synchronized void configure(ServiceExceptionLogPolicy newPolicy) {
+        if (summaries != null) {
+            summaries.cancel(false);
+            summaries = null;
+        }
+        logSummaries(true);
+        this.windowNanos = newPolicy.window().toNanos();
+        this.policy = newPolicy;
+        if (newPolicy.mode() == ServiceExceptionLogMode.STRUCTURED) {
+            if (scheduler == null) {
+                scheduler = new ScheduledThreadPoolExecutor(1, task -> {
+                    Thread thread = new Thread(task, "service-exception-log-summary");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+                scheduler.setRemoveOnCancelPolicy(true);
+            }
+            summaries = scheduler.scheduleAtFixedRate(() -> logSummaries(false), windowNanos, windowNanos,
+                    TimeUnit.NANOSECONDS);
+        }
+    }
+
+    void log(ServiceException ex) {
+        ServiceExceptionLogPolicy current = policy;
+        switch (current.mode()) {
+            case LEGACY -> {
+                log.error("Type Error: {}", ex.getType());
+                log.error("Message: {}", ex.getMessage());
+                log.error("Cause: {}", Objects.isNull(ex.getCause()) ? "N/A" : ex.getCause().toString());
+            }
+            case STRUCTURED -> logStructured(ex, current);
+            case OFF -> { }
+        }
+    }
+
+    private void logStructured(ServiceException ex, ServiceExceptionLogPolicy current) {
+        if (!log.isErrorEnabled()) {
+            return;
+        }
+        Counter counter = counter(ex.getType(), ex.getMessageTemplate());
+        long now = System.nanoTime();
+        if (!counter.tryAcquire(now, windowNanos, current.maxPerWindow())) {
+            return;
+        }
+        String cause = ex.getCause() == null ? "N/A" : ex.getCause().toString();
+        log.atError()
+                .addKeyValue("exception.type", ex.getType())
+                .addKeyValue("exception.template", ex.getMessageTemplate())
+                .addKeyValue("exception.cause", cause)
+                .log("[{}] {} | Cause: {}", ex.getType(), ex.getMessage(), cause);
+    }
+
+    private Counter counter(TypeException type, String template) {
+        Group group = new Group(type, Objects.requireNonNullElse(template, "null"));
+        Counter counter = groups.get(group);
+        if (counter != null) {
+            return counter;
+        }
+        if (groups.size() >= MAX_GROUPS) {
+            group = new Group(type, OVERFLOW_TEMPLATE);
+        }
+        return groups.computeIfAbsent(group, key -> new Counter());
+    }
+
+    /**
+     * Registra el número de excepciones suprimidas de cada grupo y descarta los
+     * grupos sin actividad en las dos últimas ventanas.
+     *
+     * @param all si se descartan todos los grupos, al cambiar la política.
+     */
+    private void logSummaries(boolean all) {
+        long now = System.nanoTime();
+        long window = windowNanos;
+        groups.forEach((group, counter) -> {
+            long suppressed = counter.suppressed.sumThenReset();
+            if (suppressed > 0) {
+                log.atWarn()
+                        .addKeyValue("exception.type", group.type())
+                        .addKeyValue("exception.template", group.template())
+                        .addKeyValue("exception.suppressed", suppressed)
+                        .log("[{}] Se suprimieron {} excepciones similares: {}", group.type(), suppressed,
+                                group.template());
+            }
+            if (all || now - counter.lastSeen > 2 * window) {
+                groups.remove(group, counter);
+            }
+        });
+    }
+
+    private record Group(TypeException type, String template) {
+    }
+
+    private static final class Counter {
+
+        private final AtomicLong windowStart = new AtomicLong(System.nanoTime());
+
+        private final AtomicInteger emitted = new AtomicInteger();
+
+        private final LongAdder suppressed = new LongAdder();
+
+        private volatile long lastSeen = System.nanoTime();
+
+        boolean tryAcquire(long now, long windowNanos, int maxPerWindow) {
+            lastSeen = now;
+            long start = windowStart.get();
+            if (now - start >= windowNanos && windowStart.compareAndSet(start, now)) {
+                emitted.set(0);
+            }
+            if (emitted.get() < maxPerWindow && emitted.incrementAndGet() <= maxPerWindow) {
+                return true;
+            }
+            suppressed.increment();
+            return false;
+        }
+
+    }
+
+}
@@ -0,0 +1,74 @@
+package com.victorrot.commons.exceptions;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * Publica las {@link ServiceExceptionStatistics} en un {@link MeterRegistry} de Micrometer.
+ *
+ * <p>Registra, etiquetados con {@code type} ({@link TypeException}):</p>
+ * <ul>
+ *   <li>{@code service.exceptions}: {@link FunctionCounter} con el total de excepciones.</li>
+ *   <li>{@code service.exceptions.rate}: {@link Gauge} con la tasa por segundo,
+ *       etiquetado además con {@code window} ({@code 1s}, {@code 1m} o {@code 5m}).</li>
+ * </ul>
+ *
+ * <p>Los medidores leen los contadores al publicarse, por lo que no añaden costo a la
+ * creación de excepciones. Requiere {@code micrometer-core} en el classpath.</p>
+ *
+ * @author Victor Manuel Rodriguez Ramirez
+ * @see ServiceExceptionStatistics
+ * @version 1.0.0 - Nueva publicación de estadísticas de excepciones
+ */
+public class ServiceExceptionMeterBinder implements MeterBinder {
+
+    private final ServiceExceptionStatistics statistics;
+
+    /**
+     * Crea un publicador de las estadísticas de {@link ServiceExceptionFactory}.
+     */
+    public ServiceExceptionMeterBinder() {
+        this(ServiceExceptionFactory.statistics());
+    }
+
+    /**
+     * Crea un publicador de las estadísticas indicadas.
+     *
+     * @param statistics las estadísticas de excepciones.
+     */
+    public ServiceExceptionMeterBinder(ServiceExceptionStatistics statistics) {
+        this.statistics = Objects.requireNonNull(statistics, "statistics");
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (TypeException type : TypeException.values()) {
+            String tag = type.name().toLowerCase(Locale.ROOT);
+            FunctionCounter.builder("service.exceptions", statistics, stats -> stats.total(type))
+                    .description("Excepciones creadas por ServiceExceptionFactory")
+                    .tag("type", tag)
+                    .register(registry);
+            for (ServiceExceptionStatistics.Window window : ServiceExceptionStatistics.Window.values()) {
+                Gauge.builder("service.exceptions.rate", statistics, stats -> stats.rate(type, window))
+                        .description("Excepciones por segundo en la ventana")
+                        .baseUnit("exceptions/s")
+                        .tag("type", tag)
+                        .tag("window", windowTag(window))
+                        .register(registry);
+            }
+        }
+    }
+
+    private static String windowTag(ServiceExceptionStatistics.Window window) {
+        return switch (window) {
+            case ONE_SECOND -> "1s";
+            case ONE_MINUTE -> "1m";
+            case FIVE_MINUTES -> "5m";
+        };
+    }
+
+}
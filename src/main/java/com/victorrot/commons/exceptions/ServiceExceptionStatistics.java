@@ -0,0 +1,183 @@
+package com.victorrot.commons.exceptions;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Contadores de las excepciones creadas por {@link ServiceExceptionFactory}, por
+ * {@link TypeException}.
+ *
+ * <p>Por cada tipo se lleva el total desde el inicio de la aplicación y el número de
+ * excepciones de cada uno de los últimos {@value #HORIZON_SECONDS} segundos, en un
+ * anillo de contadores por segundo. Los contadores son {@link LongAdder}, por lo que
+ * registrar una excepción no produce contención entre hilos; a partir de ellos se
+ * obtienen el número de excepciones y la tasa por segundo en las ventanas
+ * deslizantes de {@link Window}.</p>
+ *
+ * <p>Las ventanas incluyen el segundo en curso, por lo que la tasa de
+ * {@link Window#ONE_SECOND} refleja solo lo transcurrido de ese segundo.</p>
+ *
+ * @author Victor Manuel Rodriguez Ramirez
+ * @version 1.0.0 - Nuevas estadísticas de excepciones
+ * @see ServiceExceptionFactory#statistics()
+ */
+public final class ServiceExceptionStatistics {
+
+    /** Número de segundos que se conservan. */
+    static final int HORIZON_SECONDS = 300;
+
+    /**
+     * Ventanas deslizantes disponibles.
+     */
+    public enum Window {
+        ONE_SECOND(1),
+        ONE_MINUTE(60),
+        FIVE_MINUTES(300);
+
+        private final int seconds;
+
+        Window(int seconds) {
+            this.seconds = seconds;
+        }
+
+        /**
+         * Obtiene la duración de la ventana.
+         *
+         * @return la duración de la ventana en segundos.
+         */
+        public int seconds() {
+            return seconds;
+        }
+    }
+
+    private final LongSupplier nanoTime;
+
+    private final long origin;
+
+    private final Map<TypeException, Counters> counters = new EnumMap<>(TypeException.class);
+
+    ServiceExceptionStatistics() {
+        this(System::nanoTime);
+    }
+
+    ServiceExceptionStatistics(LongSupplier nanoTime) {
+        this.nanoTime = nanoTime;
+        this.origin = nanoTime.getAsLong();
+        for (TypeException type : TypeException.values()) {
+            counters.put(type, new Counters());
+        }
+    }
+
+    void record(TypeException type) {
+        counters.get(type).record(currentSecond());
+    }
+
+    /**
+     * Obtiene el número de excepciones de un tipo desde el inicio de la aplicación.
+     *
+     * @param type el tipo de excepción.
+     * @return el número de excepciones.
+     * @throws IllegalArgumentException si {@code type} es {@code null}.
+     */
+    public long total(TypeException type) {
+        return counters(type).total.sum();
+    }
+
+    /**
+     * Obtiene el número de excepciones de cada tipo desde el inicio de la aplicación.
+     *
+     * @return un mapa inmutable con el total de cada tipo.
+     */
+    public Map<TypeException, Long> totals() {
+        Map<TypeException, Long> totals = new EnumMap<>(TypeException.class);
+        counters.forEach((type, typeCounters) -> totals.put(type, typeCounters.total.sum()));
+        return Collections.unmodifiableMap(totals);
+    }
+
+    /**
+     * Obtiene el número de excepciones de un tipo en una ventana deslizante.
+     *
+     * @param type   el tipo de excepción.
+     * @param window la ventana.
+     * @return el número de excepciones en la ventana.
+     * @throws IllegalArgumentException si algún argumento es {@code null}.
+     */
+    public long count(TypeException type, Window window) {
+        if (window == null) {
+            throw new IllegalArgumentException("La ventana no puede ser nula");
+        }
+        return counters(type).count(currentSecond(), window.seconds());
+    }
+
+    /**
+     * Obtiene la tasa de excepciones por segundo de un tipo en una ventana deslizante.
+     *
+     * @param type   el tipo de excepción.
+     * @param window la ventana.
+     * @return el número medio de excepciones por segundo en la ventana.
+     * @throws IllegalArgumentException si algún argumento es {@code null}.
+     */
+    public double rate(TypeException type, Window window) {
+        return (double) count(type, window) / window.seconds();
+    }
+
+    private Counters counters(TypeException type) {
+        if (type == null) {
+            throw new IllegalArgumentException("El tipo de excepción no puede ser nulo");
+        }
+        return counters.get(type);
+    }
+
+    private long currentSecond() {
+        return TimeUnit.NANOSECONDS.toSeconds(nanoTime.getAsLong() - origin);
+    }
+
+    private static final class Counters {
+
+        private final LongAdder total = new LongAdder();
+
+        private final AtomicReferenceArray<Bucket> buckets = new AtomicReferenceArray<>(HORIZON_SECONDS);
+
+        void record(long second) {
+            total.increment();
+            int slot = (int) (second % HORIZON_SECONDS);
+            Bucket bucket = buckets.get(slot);
+            if (bucket == null || bucket.second != second) {
+                Bucket fresh = new Bucket(second);
+                bucket = buckets.compareAndSet(slot, bucket, fresh) ? fresh : buckets.get(slot);
+            }
+            bucket.count.increment();
+        }
+
+        long count(long now, int seconds) {
+            long sum = 0;
+            for (int i = 0; i < seconds && i <= now; i++) {
+                long second = now - i;
+                Bucket bucket = buckets.get((int) (second % HORIZON_SECONDS));
+                if (bucket != null && bucket.second == second) {
+                    sum += bucket.count.sum();
+                }
+            }
+            return sum;
+        }
+
+    }
+
+    private static final class Bucket {
+
+        private final long second;
+
+        private final LongAdder count = new LongAdder();
+
+        Bucket(long second) {
+            this.second = second;
+        }
+
+    }
+
+}
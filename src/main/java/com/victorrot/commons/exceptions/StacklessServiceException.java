@@ -0,0 +1,52 @@
+package com.victorrot.commons.exceptions;
+
+/**
+ * Variante ligera de {@link ServiceException} que no captura la traza de la pila
+ * ni registra excepciones suprimidas.
+ *
+ * <p>Está pensada para errores esperados que forman parte del flujo normal, como
+ * los rechazos de validación, que pueden lanzarse miles de veces por segundo; en
+ * esos casos la captura de la traza es el costo dominante de la excepción y no
+ * aporta información útil. La causa, el mensaje y {@link #getType()} se comportan
+ * igual que en {@link ServiceException}, por lo que los llamadores que la capturan
+ * como {@link ServiceException} no necesitan cambios. {@link #getStackTrace()}
+ * devuelve un arreglo vacío.</p>
+ *
+ * <p>{@link ServiceExceptionFactory} la utiliza para los tipos configurados con
+ * {@link ServiceExceptionFactory#setStacklessTypes(TypeException...)}.</p>
+ *
+ * @author Victor Manuel Rodriguez Ramirez
+ * @version 1.0.0 - Nueva excepción sin traza de la pila
+ * @see ServiceException
+ * @see ServiceExceptionFactory
+ */
+public class StacklessServiceException extends ServiceException {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Crea una nueva instancia con el mensaje detallado, la causa y el tipo de
+     * excepción.
+     *
+     * @param type El tipo de excepción {@link TypeException} que clasifica el error.
+     * @param cause La causa original de la excepción.
+     * @param msg El mensaje detallado que describe el error.
+     */
+    public StacklessServiceException(TypeException type, Throwable cause, String msg) {
+        super(false, type, cause, msg);
+    }
+
+    /**
+     * Crea una nueva instancia con el mensaje detallado formateado, la causa y el
+     * tipo de excepción.
+     *
+     * @param type El tipo de excepción {@link TypeException}.
+     * @param cause La causa original de la excepción.
+     * @param msg El mensaje detallado con los marcadores de formato (como "{}").
+     * @param params Los parámetros a ser insertados en el mensaje.
+     */
+    public StacklessServiceException(TypeException type, Throwable cause, String msg, Object... params) {
+        super(false, type, cause, msg, params);
+    }
+
+}
@@ -0,0 +1,57 @@
+package com.victorrot.commons.core.usecases.batch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.victorrot.commons.core.usecases.persist.BatchPersistReport;
+import com.victorrot.commons.core.usecases.persist.BatchPersistUseCase;
+import com.victorrot.commons.core.usecases.persist.ChunkResult;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.UnaryOperator;
+import org.junit.jupiter.api.Test;
+
+class ChunkedBatchPersistUseCaseTests {
+
+    /** Registro de las escrituras y de las ejecuciones de {@code afterChunk}, en orden. */
+    private final List<String> events = new ArrayList<>();
+
+    private final BatchPersistUseCase<Integer, Integer> writer = entities -> {
+        List<Integer> written = new ArrayList<>();
+        for (Integer entity : entities) {
+            if (entity < 0) {
+                events.add("fallo");
+                throw new IllegalStateException("fallo");
+            }
+            written.add(entity);
+        }
+        events.add("escritura " + written);
+        return written;
+    };
+
+    @Test
+    void runsAfterChunkAlsoWhenTheChunkFails() {
+        ChunkedBatchPersistUseCase<Integer, Integer> persist = new ChunkedBatchPersistUseCase<>(writer,
+                new ChunkSettings(2, false), UnaryOperator.identity(), () -> events.add("limpieza"));
+
+        BatchPersistReport<Integer> report = persist.createAllInChunks(List.of(1, 2, -3, 4, 5));
+
+        assertThat(events).containsExactly("escritura [1, 2]", "limpieza", "fallo", "limpieza",
+                "escritura [5]", "limpieza");
+        assertThat(report.chunks()).extracting(ChunkResult::index).containsExactly(0, 1, 2);
+        assertThat(report.persisted()).containsExactly(1, 2, 5);
+        assertThat(report.failedItems()).containsExactly(-3, 4);
+    }
+
+    @Test
+    void pipelinedModeWritesTheChunksInOrder() {
+        ChunkedBatchPersistUseCase<Integer, Integer> persist = new ChunkedBatchPersistUseCase<>(writer,
+                new ChunkSettings(2, true), chunk -> chunk.stream().map(i -> i * 10).toList(),
+                () -> events.add("limpieza"));
+
+        BatchPersistReport<Integer> report = persist.createAllInChunks(List.of(1, 2, 3));
+
+        assertThat(events).containsExactly("escritura [10, 20]", "limpieza", "escritura [30]", "limpieza");
+        assertThat(report.hasFailures()).isFalse();
+    }
+
+}
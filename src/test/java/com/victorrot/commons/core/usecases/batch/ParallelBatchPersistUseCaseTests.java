@@ -0,0 +1,61 @@
+package com.victorrot.commons.core.usecases.batch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.victorrot.commons.core.usecases.persist.BatchPersistReport;
+import com.victorrot.commons.core.usecases.persist.BatchPersistUseCase;
+import com.victorrot.commons.core.usecases.persist.ChunkResult;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+class ParallelBatchPersistUseCaseTests {
+
+    private final Queue<Boolean> callerTransactionVisible = new ConcurrentLinkedQueue<>();
+
+    private final BatchPersistUseCase<Integer, Integer> writer = entities -> {
+        callerTransactionVisible.add(TransactionSynchronizationManager.isSynchronizationActive());
+        List<Integer> written = new ArrayList<>();
+        for (Integer entity : entities) {
+            if (entity < 0) {
+                throw new IllegalStateException("fallo");
+            }
+            written.add(entity);
+        }
+        return written;
+    };
+
+    @Test
+    void singlePartitionDoesNotJoinTheCallerTransaction() {
+        ParallelBatchPersistUseCase<Integer, Integer> persist = new ParallelBatchPersistUseCase<>(writer,
+                new PartitionSettings(10, 2), TransactionOperations.withoutTransaction());
+        TransactionSynchronizationManager.initSynchronization();
+        BatchPersistReport<Integer> report;
+        try {
+            report = persist.createAllInChunks(List.of(1, 2, 3));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertThat(report.persisted()).containsExactly(1, 2, 3);
+        assertThat(callerTransactionVisible).containsExactly(false);
+    }
+
+    @Test
+    void failedPartitionsDoNotStopTheOthersAndKeepTheirOrder() {
+        ParallelBatchPersistUseCase<Integer, Integer> persist = new ParallelBatchPersistUseCase<>(writer,
+                new PartitionSettings(2, 2), TransactionOperations.withoutTransaction());
+
+        BatchPersistReport<Integer> report = persist.createAllInChunks(List.of(1, 2, -3, 4, 5));
+
+        assertThat(report.chunks()).extracting(ChunkResult::index).containsExactly(0, 1, 2);
+        assertThat(report.persisted()).containsExactly(1, 2, 5);
+        assertThat(report.failedItems()).containsExactly(-3, 4);
+        assertThat(report.firstFailure()).isNotNull();
+    }
+
+}
@@ -0,0 +1,70 @@
+package com.victorrot.commons.core.usecases.bloom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.victorrot.commons.core.usecases.memory.InMemoryCrudUseCase;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+
+class BloomFilterCrudUseCaseTests {
+
+    private final AtomicInteger lookups = new AtomicInteger();
+
+    private final InMemoryCrudUseCase<Long, Long> delegate = new InMemoryCrudUseCase<>(entity -> entity) {
+
+        @Override
+        public boolean existsById(Long id) {
+            lookups.incrementAndGet();
+            return super.existsById(id);
+        }
+
+    };
+
+    @Test
+    void startBuildsTheFilterInTheBackgroundAndFiltersMissingIds() throws InterruptedException {
+        delegate.create(1L);
+        try (BloomFilterCrudUseCase<Long, Long> bloom = new BloomFilterCrudUseCase<>(delegate, entity -> entity,
+                () -> Stream.of(1L), new BloomFilterSettings(1_000, 0.001, Duration.ofHours(1)))) {
+            assertThat(bloom.isReady()).isFalse();
+
+            bloom.start();
+            bloom.start();
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (!bloom.isReady() && System.nanoTime() < deadline) {
+                Thread.sleep(5);
+            }
+
+            assertThat(bloom.isReady()).isTrue();
+            assertThat(bloom.existsById(1L)).isTrue();
+            assertThat(bloom.existsById(2L)).isFalse();
+            assertThat(lookups).hasValue(1);
+        }
+    }
+
+    @Test
+    void createdIdsAreNeverFilteredOut() {
+        try (BloomFilterCrudUseCase<Long, Long> bloom = new BloomFilterCrudUseCase<>(delegate, entity -> entity,
+                Stream::empty, BloomFilterSettings.of(1_000, 0.001))) {
+            bloom.rebuild();
+
+            bloom.create(7L);
+
+            assertThat(bloom.existsById(7L)).isTrue();
+            assertThat(bloom.findById(7L)).contains(7L);
+        }
+    }
+
+    @Test
+    void startAfterCloseIsRejected() {
+        BloomFilterCrudUseCase<Long, Long> bloom = new BloomFilterCrudUseCase<>(delegate, entity -> entity,
+                Stream::empty, new BloomFilterSettings(1_000, 0.001, Duration.ofHours(1)));
+        bloom.close();
+
+        assertThatThrownBy(bloom::start).isInstanceOf(IllegalStateException.class);
+    }
+
+}
@@ -0,0 +1,161 @@
+package com.victorrot.commons.core.usecases.breaker;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.victorrot.commons.core.usecases.find.FindUseCase;
+import com.victorrot.commons.exceptions.ServiceException;
+import com.victorrot.commons.exceptions.ServiceExceptionFactory;
+import com.victorrot.commons.exceptions.TypeException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class CircuitBreakerTests {
+
+    private final List<String> transitions = new ArrayList<>();
+
+    private final AtomicInteger invocations = new AtomicInteger();
+
+    @Test
+    void opensWhenTheFailureRateIsReachedAndRejectsWithoutCalling() {
+        CircuitBreaker breaker = breaker(4, 50, Duration.ofHours(1));
+        succeed(breaker);
+        succeed(breaker);
+        fail(breaker, TypeException.DATABASE);
+        assertThat(breaker.getState()).isEqualTo(CircuitState.CLOSED);
+
+        fail(breaker, TypeException.DATABASE);
+
+        assertThat(breaker.getState()).isEqualTo(CircuitState.OPEN);
+        int before = invocations.get();
+        assertThatThrownBy(() -> succeed(breaker)).isInstanceOfSatisfying(ServiceException.class,
+                ex -> assertThat(ex.getType()).isEqualTo(TypeException.SERVICE));
+        assertThat(invocations).hasValue(before);
+        assertThat(transitions).containsExactly("CLOSED->OPEN");
+    }
+
+    @Test
+    void errorsOutsideTheFailureTypesDoNotOpen() {
+        CircuitBreaker breaker = breaker(4, 50, Duration.ofHours(1));
+        for (int i = 0; i < 8; i++) {
+            assertThatThrownBy(() -> breaker.execute(() -> {
+                throw new IllegalArgumentException("inválido");
+            })).isInstanceOf(IllegalArgumentException.class);
+            fail(breaker, TypeException.CONFIG);
+        }
+
+        assertThat(breaker.getState()).isEqualTo(CircuitState.CLOSED);
+        assertThat(transitions).isEmpty();
+    }
+
+    @Test
+    void slidingWindowForgetsTheOldestResults() {
+        CircuitBreaker breaker = breaker(4, 75, Duration.ofHours(1));
+        fail(breaker, TypeException.DATABASE);
+        fail(breaker, TypeException.DATABASE);
+        succeed(breaker);
+        succeed(breaker);
+        succeed(breaker);
+        succeed(breaker);
+        fail(breaker, TypeException.DATABASE);
+        fail(breaker, TypeException.DATABASE);
+        assertThat(breaker.getState()).isEqualTo(CircuitState.CLOSED);
+
+        fail(breaker, TypeException.DATABASE);
+
+        assertThat(breaker.getState()).isEqualTo(CircuitState.OPEN);
+    }
+
+    @Test
+    void closesAfterTheTrialCallsSucceed() {
+        CircuitBreaker breaker = breaker(2, 50, Duration.ZERO);
+        fail(breaker, TypeException.DATABASE);
+        fail(breaker, TypeException.DATABASE);
+
+        succeed(breaker);
+        assertThat(breaker.getState()).isEqualTo(CircuitState.HALF_OPEN);
+        succeed(breaker);
+
+        assertThat(breaker.getState()).isEqualTo(CircuitState.CLOSED);
+        assertThat(transitions).containsExactly("CLOSED->OPEN", "OPEN->HALF_OPEN", "HALF_OPEN->CLOSED");
+    }
+
+    @Test
+    void trialFailureOpensAgain() {
+        CircuitBreaker breaker = breaker(2, 50, Duration.ZERO);
+        fail(breaker, TypeException.DATABASE);
+        fail(breaker, TypeException.DATABASE);
+
+        fail(breaker, TypeException.DATABASE);
+
+        assertThat(transitions).containsExactly("CLOSED->OPEN", "OPEN->HALF_OPEN", "HALF_OPEN->OPEN");
+    }
+
+    @Test
+    void halfOpenAdmitsOnlyTheConfiguredTrialCalls() {
+        CircuitBreaker breaker = breaker(2, 50, Duration.ZERO);
+        fail(breaker, TypeException.DATABASE);
+        fail(breaker, TypeException.DATABASE);
+
+        breaker.execute(() -> {
+            // Dentro de la primera llamada de prueba, la segunda se admite y la tercera se rechaza.
+            succeed(breaker);
+            assertThatThrownBy(() -> succeed(breaker)).isInstanceOf(ServiceException.class);
+            return null;
+        });
+
+        assertThat(breaker.getState()).isEqualTo(CircuitState.CLOSED);
+    }
+
+    @Test
+    void decoratedUseCaseRunsThroughTheBreaker() {
+        CircuitBreaker breaker = breaker(2, 50, Duration.ofHours(1));
+        FindUseCase<String, Long> failing = new FindUseCase<>() {
+
+            @Override
+            public Optional<String> findById(Long id) {
+                throw ServiceExceptionFactory.database("Error al consultar {}", id);
+            }
+
+            @Override
+            public boolean existsById(Long id) {
+                return true;
+            }
+
+        };
+        @SuppressWarnings("unchecked")
+        FindUseCase<String, Long> protectedFinder = CircuitBreakers.decorate(FindUseCase.class, failing, breaker);
+
+        assertThatThrownBy(() -> protectedFinder.findById(1L)).isInstanceOf(ServiceException.class);
+        assertThatThrownBy(() -> protectedFinder.findById(2L)).isInstanceOf(ServiceException.class);
+
+        assertThat(breaker.getState()).isEqualTo(CircuitState.OPEN);
+        assertThatThrownBy(() -> protectedFinder.existsById(3L)).isInstanceOfSatisfying(ServiceException.class,
+                ex -> assertThat(ex.getType()).isEqualTo(TypeException.SERVICE));
+        assertThat(protectedFinder.toString()).isNotNull();
+    }
+
+    private CircuitBreaker breaker(int windowSize, int failureRatePercent, Duration openDuration) {
+        CircuitBreaker breaker = new CircuitBreaker("test", new CircuitBreakerSettings(windowSize, windowSize,
+                failureRatePercent, openDuration, 2, Set.of(TypeException.DATABASE)));
+        breaker.addListener((name, from, to) -> transitions.add(from + "->" + to));
+        return breaker;
+    }
+
+    private void succeed(CircuitBreaker breaker) {
+        breaker.execute(invocations::incrementAndGet);
+    }
+
+    private void fail(CircuitBreaker breaker, TypeException type) {
+        assertThatThrownBy(() -> breaker.execute(() -> {
+            invocations.incrementAndGet();
+            throw new ServiceException(type, "fallo");
+        })).isInstanceOf(ServiceException.class);
+    }
+
+}
@@ -0,0 +1,94 @@
+package com.victorrot.commons.core.usecases.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+class BoundedCacheTests {
+
+    private final AtomicLong clock = new AtomicLong();
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Test
+    void reloadsEntriesOnceTheTimeToLiveElapses() {
+        BoundedCache<String, String> cache = new BoundedCache<>(10, Duration.ofSeconds(1), clock::get);
+
+        assertThat(cache.get("a", this::load)).isEqualTo("a1");
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(999));
+        assertThat(cache.get("a", this::load)).isEqualTo("a1");
+        assertThat(cache.getIfPresent("a")).isEqualTo("a1");
+
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(1));
+        assertThat(cache.getIfPresent("a")).isNull();
+        assertThat(cache.get("a", this::load)).isEqualTo("a2");
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void evictsTheOldestEntriesWhenTheSizeLimitIsExceeded() {
+        BoundedCache<String, String> cache = new BoundedCache<>(2, Duration.ofHours(1), clock::get);
+        cache.get("a", this::load);
+        cache.get("b", this::load);
+        // Consultar "a" no altera el orden de expulsión, que sigue al de inserción.
+        cache.get("a", this::load);
+
+        cache.get("c", this::load);
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.getIfPresent("a")).isNull();
+        assertThat(cache.getIfPresent("b")).isEqualTo("b2");
+        assertThat(cache.getIfPresent("c")).isEqualTo("c3");
+    }
+
+    @Test
+    void concurrentMissesShareASingleLoad() throws Exception {
+        BoundedCache<String, String> cache = new BoundedCache<>(10, Duration.ofHours(1), clock::get);
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<String> first = CompletableFuture.supplyAsync(() -> cache.get("a", key -> {
+            loading.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            return load(key);
+        }));
+        assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+
+        CompletableFuture<String> second = new CompletableFuture<>();
+        Thread waiter = Thread.ofPlatform().daemon(true).start(() -> second.complete(cache.get("a", this::load)));
+        while (!isAwaitingLoad(waiter) && !second.isDone()) {
+            Thread.onSpinWait();
+        }
+        release.countDown();
+
+        assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("a1");
+        assertThat(second.get(5, TimeUnit.SECONDS)).isEqualTo("a1");
+        assertThat(loads).hasValue(1);
+    }
+
+    private String load(String key) {
+        return key + loads.incrementAndGet();
+    }
+
+    private static boolean isAwaitingLoad(Thread thread) {
+        if (thread.getState() != Thread.State.WAITING) {
+            return false;
+        }
+        for (StackTraceElement frame : thread.getStackTrace()) {
+            if (frame.getClassName().equals(CompletableFuture.class.getName()) && frame.getMethodName().equals("join")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+}
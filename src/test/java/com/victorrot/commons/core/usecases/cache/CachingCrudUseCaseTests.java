@@ -0,0 +1,86 @@
+package com.victorrot.commons.core.usecases.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.victorrot.commons.core.usecases.memory.InMemoryCrudUseCase;
+import com.victorrot.commons.exceptions.ServiceException;
+import com.victorrot.commons.exceptions.TypeException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class CachingCrudUseCaseTests {
+
+    private final AtomicInteger lookups = new AtomicInteger();
+
+    /** Indica si {@code createAll} falla después de persistir las entidades. */
+    private final AtomicBoolean failCreateAll = new AtomicBoolean();
+
+    private final InMemoryCrudUseCase<String, String> delegate = new InMemoryCrudUseCase<>(entity -> entity) {
+
+        @Override
+        public Optional<String> findById(String id) {
+            lookups.incrementAndGet();
+            return super.findById(id);
+        }
+
+        @Override
+        public List<String> createAll(Iterable<String> entities) {
+            List<String> created = super.createAll(entities);
+            if (failCreateAll.get()) {
+                throw new ServiceException(TypeException.DATABASE, "Conexión perdida");
+            }
+            return created;
+        }
+
+    };
+
+    private final CachingCrudUseCase<String, String> caching = new CachingCrudUseCase<>(delegate, entity -> entity,
+            CacheSettings.of(100, Duration.ofHours(1)));
+
+    @Test
+    void servesRepeatedLookupsFromTheCache() {
+        delegate.create("a");
+
+        assertThat(caching.findById("a")).contains("a");
+        assertThat(caching.findById("a")).contains("a");
+        assertThat(caching.existsById("a")).isTrue();
+
+        assertThat(lookups).hasValue(1);
+    }
+
+    @Test
+    void invalidatesDeletedIds() {
+        delegate.createAll(List.of("a", "b", "c"));
+        caching.findById("a");
+        caching.findById("b");
+        caching.findById("c");
+
+        caching.delete("a");
+        caching.deleteAll(List.of("b", "c").stream()::iterator);
+
+        assertThat(caching.findById("a")).isEmpty();
+        assertThat(caching.findById("b")).isEmpty();
+        assertThat(caching.findById("c")).isEmpty();
+        assertThat(delegate.size()).isZero();
+        assertThat(lookups).hasValue(6);
+    }
+
+    @Test
+    void invalidatesEveryEntryWhenCreateAllFails() {
+        // El resultado vacío queda en caché hasta que una escritura lo invalide.
+        assertThat(caching.findById("a")).isEmpty();
+        assertThat(caching.existsById("b")).isFalse();
+        failCreateAll.set(true);
+
+        assertThatThrownBy(() -> caching.createAll(List.of("a", "b"))).isInstanceOf(ServiceException.class);
+
+        assertThat(caching.findById("a")).contains("a");
+        assertThat(caching.existsById("b")).isTrue();
+    }
+
+}
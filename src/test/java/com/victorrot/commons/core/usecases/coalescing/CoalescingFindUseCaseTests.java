@@ -0,0 +1,132 @@
+package com.victorrot.commons.core.usecases.coalescing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.victorrot.commons.core.usecases.find.BatchFindByIdUseCase;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class CoalescingFindUseCaseTests {
+
+    private final Queue<List<Long>> queries = new ConcurrentLinkedQueue<>();
+
+    private final BatchFindByIdUseCase<String, Long> delegate = this::findAllById;
+
+    @Test
+    void groupsConcurrentLookupsIntoOneBatchWithDistinctIds() throws Exception {
+        try (CoalescingFindUseCase<String, Long> finder = new CoalescingFindUseCase<>(delegate,
+                new CoalescingSettings(Duration.ofHours(1), 3))) {
+            List<CompletableFuture<Optional<String>>> results = new ArrayList<>();
+            for (long id : new long[] {1L, 2L, 1L}) {
+                results.add(lookUpWhenBlocked(finder, id));
+            }
+
+            assertThat(finder.findById(3L)).contains("e3");
+
+            for (CompletableFuture<Optional<String>> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).isPresent();
+            }
+            assertThat(queries).singleElement().satisfies(ids -> assertThat(ids).containsExactly(1L, 2L, 3L));
+        }
+    }
+
+    @Test
+    void resolvesPendingLookupsWhenMaxDelayExpires() {
+        try (CoalescingFindUseCase<String, Long> finder = new CoalescingFindUseCase<>(delegate,
+                new CoalescingSettings(Duration.ofMillis(5), 100))) {
+            assertThat(finder.findById(2L)).contains("e2");
+            assertThat(finder.existsById(-1L)).isFalse();
+        }
+    }
+
+    @Test
+    void closeResolvesPendingLookupsAndRejectsNewOnes() throws Exception {
+        CoalescingFindUseCase<String, Long> finder = new CoalescingFindUseCase<>(delegate,
+                new CoalescingSettings(Duration.ofHours(1), 100));
+        CompletableFuture<Optional<String>> pending = lookUpWhenBlocked(finder, 7L);
+
+        finder.close();
+
+        assertThat(pending.get(5, TimeUnit.SECONDS)).contains("e7");
+        assertThatThrownBy(() -> finder.findById(1L)).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void lookupsNeverHangWhenCloseRacesWithTheTimer() throws Exception {
+        for (int round = 0; round < 200; round++) {
+            CoalescingFindUseCase<String, Long> finder = new CoalescingFindUseCase<>(delegate,
+                    new CoalescingSettings(Duration.ofNanos(1), 100));
+            long id = round;
+            CompletableFuture<Optional<String>> result = CompletableFuture.supplyAsync(() -> {
+                try {
+                    return finder.findById(id);
+                } catch (IllegalStateException ex) {
+                    return Optional.empty();
+                }
+            });
+            finder.close();
+
+            result.get(5, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    void propagatesBatchFailuresToEveryCaller() {
+        BatchFindByIdUseCase<String, Long> failing = ids -> {
+            throw new IllegalStateException("fallo");
+        };
+        try (CoalescingFindUseCase<String, Long> finder = new CoalescingFindUseCase<>(failing,
+                new CoalescingSettings(Duration.ofMillis(1), 100))) {
+            assertThatThrownBy(() -> finder.findById(1L)).isInstanceOf(IllegalStateException.class)
+                    .hasMessage("fallo");
+        }
+    }
+
+    /** Inicia la búsqueda en otro hilo y espera a que quede bloqueada aguardando su lote. */
+    private static CompletableFuture<Optional<String>> lookUpWhenBlocked(CoalescingFindUseCase<String, Long> finder,
+            long id) {
+        CompletableFuture<Optional<String>> result = new CompletableFuture<>();
+        Thread caller = Thread.ofPlatform().daemon(true).start(() -> {
+            try {
+                result.complete(finder.findById(id));
+            } catch (RuntimeException ex) {
+                result.completeExceptionally(ex);
+            }
+        });
+        while (!isAwaitingBatch(caller) && !result.isDone()) {
+            Thread.onSpinWait();
+        }
+        return result;
+    }
+
+    private static boolean isAwaitingBatch(Thread thread) {
+        if (thread.getState() != Thread.State.WAITING) {
+            return false;
+        }
+        for (StackTraceElement frame : thread.getStackTrace()) {
+            if (frame.getClassName().equals(CompletableFuture.class.getName()) && frame.getMethodName().equals("join")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private Map<Long, String> findAllById(Collection<Long> ids) {
+        queries.add(List.copyOf(ids));
+        Map<Long, String> found = new HashMap<>();
+        ids.stream().filter(id -> id >= 0).forEach(id -> found.put(id, "e" + id));
+        return found;
+    }
+
+}
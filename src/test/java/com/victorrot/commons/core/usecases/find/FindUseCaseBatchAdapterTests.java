@@ -0,0 +1,55 @@
+package com.victorrot.commons.core.usecases.find;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+
+class FindUseCaseBatchAdapterTests {
+
+    private final List<Long> queried = new ArrayList<>();
+
+    private final FindUseCase<String, Long> finder = new FindUseCase<>() {
+
+        @Override
+        public Optional<String> findById(Long id) {
+            queried.add(id);
+            return id % 2 == 0 ? Optional.of("e" + id) : Optional.empty();
+        }
+
+        @Override
+        public boolean existsById(Long id) {
+            queried.add(id);
+            return id % 2 == 0;
+        }
+
+    };
+
+    private final BatchFindByIdUseCase<String, Long> batch = BatchFindByIdUseCase.of(finder);
+
+    @Test
+    void findAllByIdQueriesEachDistinctIdOnceIncludingMissingOnes() {
+        assertThat(batch.findAllById(List.of(1L, 2L, 1L, 2L, 3L, 1L)))
+                .containsExactly(Map.entry(2L, "e2"));
+        assertThat(queried).containsExactly(1L, 2L, 3L);
+    }
+
+    @Test
+    void existsAllByIdMarksPositionsAndQueriesEachDistinctIdOnce() {
+        assertThat(batch.existsAllById(List.of(2L, 1L, 2L, 4L)).stream().toArray()).containsExactly(0, 2, 3);
+        assertThat(queried).containsExactly(2L, 1L, 4L);
+    }
+
+    @Test
+    void rejectsNullIds() {
+        assertThatThrownBy(() -> batch.findAllById(Arrays.asList(1L, null)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(queried).isEmpty();
+    }
+
+}
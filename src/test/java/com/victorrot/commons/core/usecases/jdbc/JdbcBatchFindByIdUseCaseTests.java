@@ -0,0 +1,52 @@
+package com.victorrot.commons.core.usecases.jdbc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.h2.Driver;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SimpleDriverDataSource;
+
+class JdbcBatchFindByIdUseCaseTests {
+
+    private final JdbcTemplate jdbcTemplate = new JdbcTemplate(
+            new SimpleDriverDataSource(new Driver(), "jdbc:h2:mem:batchfind;DB_CLOSE_DELAY=-1"));
+
+    /** Número de fila recibido por el {@code RowMapper} en cada invocación. */
+    private final List<Integer> rowNumbers = new ArrayList<>();
+
+    private final JdbcBatchFindByIdUseCase<Person, Long> people = new JdbcBatchFindByIdUseCase<>(jdbcTemplate,
+            SqlDialect.H2, "person", "id", Long.class, (rs, rowNum) -> {
+                rowNumbers.add(rowNum);
+                return new Person(rs.getLong("id"), rs.getString("first_name"));
+            }, Person::id, 2);
+
+    @BeforeEach
+    void createTable() {
+        jdbcTemplate.execute("DROP TABLE IF EXISTS person");
+        jdbcTemplate.execute("CREATE TABLE person (id BIGINT PRIMARY KEY, first_name VARCHAR(10))");
+        jdbcTemplate.update("INSERT INTO person VALUES (1, 'Ana'), (2, 'Luis'), (3, 'Eva')");
+    }
+
+    @Test
+    void findAllByIdNumbersTheRowsOfEachStatementFromZero() {
+        Map<Long, Person> found = people.findAllById(List.of(1L, 2L, 3L, 4L));
+
+        assertThat(found).containsOnlyKeys(1L, 2L, 3L);
+        assertThat(found.get(2L).firstName()).isEqualTo("Luis");
+        assertThat(rowNumbers).containsExactly(0, 1, 0);
+    }
+
+    @Test
+    void existsAllByIdMarksThePositionsOfExistingIds() {
+        assertThat(people.existsAllById(List.of(4L, 1L, 3L, 1L)).stream().toArray()).containsExactly(1, 2, 3);
+    }
+
+    private record Person(Long id, String firstName) {
+    }
+
+}
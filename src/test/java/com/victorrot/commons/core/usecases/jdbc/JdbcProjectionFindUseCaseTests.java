@@ -0,0 +1,91 @@
+package com.victorrot.commons.core.usecases.jdbc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import java.util.Map;
+import org.h2.Driver;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SimpleDriverDataSource;
+
+class JdbcProjectionFindUseCaseTests {
+
+    private final JdbcTemplate jdbcTemplate = new JdbcTemplate(
+            new SimpleDriverDataSource(new Driver(), "jdbc:h2:mem:projection;DB_CLOSE_DELAY=-1"));
+
+    private final JdbcProjectionFindUseCase<Long> people = new JdbcProjectionFindUseCase<>(jdbcTemplate,
+            SqlDialect.H2, "person", "id", Long.class);
+
+    @BeforeEach
+    void createTable() {
+        jdbcTemplate.execute("DROP TABLE IF EXISTS person");
+        jdbcTemplate.execute("CREATE TABLE person (id BIGINT PRIMARY KEY, first_name VARCHAR(10), age INT)");
+        jdbcTemplate.update("INSERT INTO person VALUES (1, 'Luis', 40), (2, 'Ana', NULL), (3, 'Eva', 25), "
+                + "(4, 'Ana', 31)");
+    }
+
+    @Test
+    void findByIdReadsRecordAndInterfaceProjections() {
+        assertThat(people.findById(3L, PersonSummary.class)).contains(new PersonSummary(3L, "Eva", 25));
+        assertThat(people.findById(3L, PersonName.class)).hasValueSatisfying(
+                name -> assertThat(name.getFirstName()).isEqualTo("Eva"));
+        assertThat(people.findById(9L, PersonSummary.class)).isEmpty();
+    }
+
+    @Test
+    void nullValuesBecomeTheDefaultOfPrimitiveComponents() {
+        assertThat(people.findById(2L, PersonSummary.class)).contains(new PersonSummary(2L, "Ana", 0));
+    }
+
+    @Test
+    void findAllByIdKeysProjectionsWithoutTheIdColumn() {
+        Map<Long, FirstName> found = people.findAllById(List.of(1L, 3L, 9L), FirstName.class);
+
+        assertThat(found).containsOnly(Map.entry(1L, new FirstName("Luis")), Map.entry(3L, new FirstName("Eva")));
+    }
+
+    @Test
+    void findAllSortsByTheMappedColumnsAndBreaksTiesById() {
+        Page<PersonSummary> first = people.findAll(PageRequest.of(0, 3, Sort.by("firstName")), PersonSummary.class);
+        Page<PersonSummary> second = people.findAll(PageRequest.of(1, 3, Sort.by("firstName")), PersonSummary.class);
+
+        assertThat(first.getContent()).extracting(PersonSummary::id).containsExactly(2L, 4L, 3L);
+        assertThat(second.getContent()).extracting(PersonSummary::id).containsExactly(1L);
+        assertThat(first.getTotalElements()).isEqualTo(4);
+        assertThat(people.findAll(PageRequest.of(0, 2, Sort.by(Sort.Direction.DESC, "id")), PersonSummary.class)
+                .getContent()).extracting(PersonSummary::id).containsExactly(4L, 3L);
+    }
+
+    @Test
+    void rejectsOpenProjections() {
+        assertThatThrownBy(() -> people.findById(1L, OpenProjection.class))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private record PersonSummary(Long id, String firstName, int age) {
+    }
+
+    private record FirstName(String firstName) {
+    }
+
+    interface PersonName {
+
+        String getFirstName();
+
+    }
+
+    interface OpenProjection {
+
+        @Value("#{target.firstName + ' (' + target.age + ')'}")
+        String getDescription();
+
+    }
+
+}
@@ -0,0 +1,101 @@
+package com.victorrot.commons.core.usecases.jdbc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.victorrot.commons.exceptions.ServiceException;
+import com.victorrot.commons.exceptions.TypeException;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.h2.Driver;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SimpleDriverDataSource;
+
+class JdbcUpsertUseCaseTests {
+
+    private final JdbcTemplate jdbcTemplate = new JdbcTemplate(
+            new SimpleDriverDataSource(new Driver(), "jdbc:h2:mem:upsert;DB_CLOSE_DELAY=-1"));
+
+    private final JdbcUpsertUseCase<Person, Long> people = new JdbcUpsertUseCase<>(jdbcTemplate, SqlDialect.H2,
+            "person", "id", List.of("first_name", "age"), Person::id,
+            person -> new Object[] {person.firstName(), person.age()}, 2);
+
+    @BeforeEach
+    void createTable() {
+        jdbcTemplate.execute("DROP TABLE IF EXISTS person");
+        jdbcTemplate.execute("CREATE TABLE person (id BIGINT PRIMARY KEY, first_name VARCHAR(10), age INT)");
+    }
+
+    @Test
+    void upsertInsertsAndThenUpdatesTheSameRow() {
+        people.upsert(new Person(1L, "Ana", 30));
+        people.upsert(new Person(1L, "Ana María", 31));
+
+        assertThat(rows()).containsExactly("1|Ana María|31");
+    }
+
+    @Test
+    void upsertAllWritesNewAndExistingRowsInSeveralBatches() {
+        people.upsert(new Person(2L, "Luis", 40));
+
+        List<Person> written = people.upsertAll(List.of(new Person(1L, "Ana", 30), new Person(2L, "Luis", 41),
+                new Person(3L, "Eva", 25)));
+
+        assertThat(written).hasSize(3);
+        assertThat(rows()).containsExactly("1|Ana|30", "2|Luis|41", "3|Eva|25");
+    }
+
+    @Test
+    void upsertAllValidatesEveryEntityBeforeWriting() {
+        assertThatThrownBy(() -> people.upsertAll(Arrays.asList(new Person(1L, "Ana", 30), null)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> people.upsertAll(List.of(new Person(1L, "Ana", 30), new Person(null, "Eva", 25))))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        assertThat(rows()).isEmpty();
+    }
+
+    @Test
+    void updateWritesOnlyTheChangedColumns() {
+        people.upsert(new Person(1L, "Ana", 30));
+
+        assertThat(people.update(1L, Map.of("firstName", "Eva"))).isTrue();
+        assertThat(people.update(2L, Map.of("age", 50))).isFalse();
+
+        assertThat(rows()).containsExactly("1|Eva|30");
+    }
+
+    @Test
+    void updateRejectsTheIdUnknownAndRepeatedColumns() {
+        people.upsert(new Person(1L, "Ana", 30));
+        Map<String, Object> repeated = new LinkedHashMap<>();
+        repeated.put("firstName", "Eva");
+        repeated.put("first_name", "Eva");
+
+        assertThatThrownBy(() -> people.update(1L, Map.of("id", 2L))).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> people.update(1L, Map.of("email", "x"))).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> people.update(1L, repeated)).isInstanceOf(IllegalArgumentException.class);
+
+        assertThat(rows()).containsExactly("1|Ana|30");
+    }
+
+    @Test
+    void databaseErrorsAreReportedAsDatabaseServiceExceptions() {
+        assertThatThrownBy(() -> people.upsert(new Person(1L, "Nombre demasiado largo", 30)))
+                .isInstanceOfSatisfying(ServiceException.class,
+                        ex -> assertThat(ex.getType()).isEqualTo(TypeException.DATABASE));
+    }
+
+    private List<String> rows() {
+        return jdbcTemplate.query("SELECT id, first_name, age FROM person ORDER BY id",
+                (rs, rowNum) -> rs.getLong(1) + "|" + rs.getString(2) + "|" + rs.getInt(3));
+    }
+
+    private record Person(Long id, String firstName, int age) {
+    }
+
+}
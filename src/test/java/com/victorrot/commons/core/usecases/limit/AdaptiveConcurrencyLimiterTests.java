@@ -0,0 +1,96 @@
+package com.victorrot.commons.core.usecases.limit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.victorrot.commons.exceptions.ServiceException;
+import com.victorrot.commons.exceptions.TypeException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+class AdaptiveConcurrencyLimiterTests {
+
+    @Test
+    void rejectsCallsOverTheLimitWhenTheQueueIsFull() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("test",
+                new AdaptiveLimitSettings(2, 1, 10, 0, Duration.ZERO));
+        long first = limiter.acquire();
+        limiter.acquire();
+
+        assertThatThrownBy(limiter::acquire).isInstanceOfSatisfying(ServiceException.class,
+                ex -> assertThat(ex.getType()).isEqualTo(TypeException.SERVICE));
+        assertThat(limiter.getInFlight()).isEqualTo(2);
+
+        limiter.release(first, false);
+        limiter.acquire();
+        assertThat(limiter.getInFlight()).isEqualTo(2);
+    }
+
+    @Test
+    void queuedCallObtainsTheReleasedSlot() throws Exception {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("test",
+                new AdaptiveLimitSettings(1, 1, 10, 1, Duration.ofSeconds(5)));
+        long start = limiter.acquire();
+        CompletableFuture<Long> queued = CompletableFuture.supplyAsync(limiter::acquire);
+        while (limiter.getWaiting() == 0) {
+            Thread.onSpinWait();
+        }
+
+        limiter.release(start, false);
+
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isNotNull();
+        assertThat(limiter.getInFlight()).isEqualTo(1);
+        assertThat(limiter.getWaiting()).isZero();
+    }
+
+    @Test
+    void growsWithoutCongestionAndHalvesTheLimitToProbe() {
+        AtomicLong clock = new AtomicLong();
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("test",
+                new AdaptiveLimitSettings(20, 1, 200, 0, Duration.ZERO), clock::get);
+
+        // Con la latencia constante el gradiente es 1 y el límite crece en su raíz cuadrada por ventana.
+        List<Integer> limits = new ArrayList<>();
+        for (int window = 0; window < 20; window++) {
+            limits.add(runWindow(limiter, clock, 1_000));
+        }
+        assertThat(limits).containsExactly(24, 29, 34, 40, 47, 53, 61, 69, 77, 86, 95, 105, 115, 126, 137, 149,
+                161, 174, 187, 200);
+
+        int windows = limits.size();
+        int limit;
+        do {
+            limit = runWindow(limiter, clock, 1_000);
+            windows++;
+        } while (limit == 200);
+        assertThat(limit).isEqualTo(100);
+        assertThat(windows).isBetween(AdaptiveConcurrencyLimiter.PROBE_WINDOWS,
+                2 * AdaptiveConcurrencyLimiter.PROBE_WINDOWS);
+
+        // Tras la prueba la latencia sin congestión se mide de nuevo y el límite vuelve a crecer.
+        assertThat(runWindow(limiter, clock, 1_000)).isEqualTo(110);
+    }
+
+    /**
+     * Ocupa todos los lugares, avanza el reloj la latencia indicada y los libera,
+     * completando una ventana de muestras.
+     */
+    private static int runWindow(AdaptiveConcurrencyLimiter limiter, AtomicLong clock, long rtt) {
+        int slots = limiter.getLimit();
+        long[] starts = new long[slots];
+        for (int i = 0; i < slots; i++) {
+            starts[i] = limiter.acquire();
+        }
+        clock.addAndGet(rtt);
+        for (int i = 0; i < slots; i++) {
+            limiter.release(starts[i], true);
+        }
+        return limiter.getLimit();
+    }
+
+}
@@ -0,0 +1,54 @@
+package com.victorrot.commons.core.usecases.limit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.victorrot.commons.core.usecases.memory.InMemoryCrudUseCase;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class LimitedCrudUseCaseTests {
+
+    private final List<String> observed = new ArrayList<>();
+
+    private LimitedCrudUseCase<String, String> limited;
+
+    private final InMemoryCrudUseCase<String, String> delegate = new InMemoryCrudUseCase<>(entity -> entity) {
+
+        @Override
+        public List<String> findAll() {
+            observed.add("scan=" + limited.getScanLimiter().getInFlight() + ",find="
+                    + limited.getFindLimiter().getInFlight());
+            return super.findAll();
+        }
+
+    };
+
+    @Test
+    void scansUseTheirOwnLimiter() {
+        limited = new LimitedCrudUseCase<>(delegate, "test",
+                new AdaptiveLimitSettings(5, 1, 10, 0, Duration.ZERO));
+        limited.create("a");
+
+        assertThat(limited.findAll()).containsExactly("a");
+        assertThat(observed).containsExactly("scan=1,find=0");
+        assertThat(limited.findById("a")).contains("a");
+        assertThat(limited.getScanLimiter().getInFlight()).isZero();
+        assertThat(limited.getFindLimiter().getInFlight()).isZero();
+    }
+
+    @Test
+    void invalidArgumentsReleaseTheSlot() {
+        limited = new LimitedCrudUseCase<>(delegate, "test",
+                new AdaptiveLimitSettings(1, 1, 10, 0, Duration.ZERO));
+
+        for (int i = 0; i < 3; i++) {
+            assertThatThrownBy(() -> limited.create(null)).isInstanceOf(IllegalArgumentException.class);
+        }
+
+        assertThat(limited.getPersistLimiter().getInFlight()).isZero();
+    }
+
+}
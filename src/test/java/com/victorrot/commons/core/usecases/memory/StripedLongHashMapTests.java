@@ -0,0 +1,77 @@
+package com.victorrot.commons.core.usecases.memory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class StripedLongHashMapTests {
+
+    @Test
+    void matchesHashMapUnderRandomPutsAndRemovesAcrossResizes() {
+        StripedLongHashMap<String> map = new StripedLongHashMap<>();
+        Map<Long, String> expected = new HashMap<>();
+        Random random = new Random(42);
+        for (int i = 0; i < 200_000; i++) {
+            // Un rango de claves pequeño provoca colisiones, reemplazos y eliminaciones con desplazamiento.
+            long key = random.nextInt(20_000) - 10_000L;
+            if (random.nextInt(3) == 0) {
+                assertThat(map.remove(key)).isEqualTo(expected.remove(key));
+            } else {
+                String value = "v" + i;
+                assertThat(map.put(key, value)).isEqualTo(expected.put(key, value));
+            }
+        }
+
+        assertThat(map.size()).isEqualTo(expected.size());
+        expected.forEach((key, value) -> assertThat(map.get(key)).isEqualTo(value));
+        for (long key = -10_000; key < 10_000; key++) {
+            assertThat(map.containsKey(key)).isEqualTo(expected.containsKey(key));
+        }
+        Map<Long, String> visited = new HashMap<>();
+        map.forEach(visited::put);
+        assertThat(visited).isEqualTo(expected);
+        assertThat(map.sortedKeys()).containsExactly(expected.keySet().stream().mapToLong(Long::longValue).sorted()
+                .toArray());
+    }
+
+    @Test
+    void keepsEveryKeyReachableAfterRemovingFromLongProbeChains() {
+        StripedLongHashMap<Long> map = new StripedLongHashMap<>();
+        for (long key = 0; key < 10_000; key++) {
+            map.put(key, key);
+        }
+        for (long key = 0; key < 10_000; key += 2) {
+            assertThat(map.remove(key)).isEqualTo(key);
+        }
+
+        assertThat(map.size()).isEqualTo(5_000);
+        for (long key = 0; key < 10_000; key++) {
+            assertThat(map.get(key)).isEqualTo(key % 2 == 0 ? null : key);
+        }
+        assertThat(map.remove(0L)).isNull();
+    }
+
+    @Test
+    void reusesSortedKeysUntilAKeyIsAddedOrRemoved() {
+        StripedLongHashMap<String> map = new StripedLongHashMap<>();
+        map.put(3, "c");
+        map.put(1, "a");
+        long[] first = map.sortedKeys();
+
+        map.put(1, "a2");
+        assertThat(map.sortedKeys()).isSameAs(first).containsExactly(1, 3);
+
+        map.put(2, "b");
+        long[] afterPut = map.sortedKeys();
+        assertThat(afterPut).isNotSameAs(first).containsExactly(1, 2, 3);
+
+        map.remove(1);
+        assertThat(map.sortedKeys()).containsExactly(2, 3);
+        map.remove(99);
+        assertThat(map.sortedKeys()).containsExactly(2, 3);
+    }
+
+}
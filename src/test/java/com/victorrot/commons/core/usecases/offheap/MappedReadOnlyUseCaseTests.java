@@ -0,0 +1,131 @@
+package com.victorrot.commons.core.usecases.offheap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.victorrot.commons.exceptions.ServiceException;
+import com.victorrot.commons.exceptions.TypeException;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+class MappedReadOnlyUseCaseTests {
+
+    private static final EntityCodec<Person> CODEC = new EntityCodec<>() {
+
+        @Override
+        public void encode(Person entity, DataOutput output) throws IOException {
+            byte[] name = entity.name().getBytes(StandardCharsets.UTF_8);
+            output.writeLong(entity.id());
+            output.writeInt(name.length);
+            output.write(name);
+        }
+
+        @Override
+        public Person decode(ByteBuffer record) {
+            long id = record.getLong();
+            byte[] name = new byte[record.getInt()];
+            record.get(name);
+            return new Person(id, new String(name, StandardCharsets.UTF_8));
+        }
+
+    };
+
+    private static final List<Person> PEOPLE = List.of(new Person(30, "Luis"), new Person(10, "Ana"),
+            new Person(50, "Eva"), new Person(20, "José"), new Person(40, "Inés"));
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void findsPresentAndMissingIdsThroughTheIndex() {
+        try (MappedReadOnlyUseCase<Person> people = open(write(PEOPLE))) {
+            assertThat(people.count()).isEqualTo(5);
+            assertThat(people.findById(20L)).contains(new Person(20, "José"));
+            assertThat(people.findById(50L)).contains(new Person(50, "Eva"));
+            assertThat(people.existsById(10L)).isTrue();
+            assertThat(people.findById(25L)).isEmpty();
+            assertThat(people.existsById(60L)).isFalse();
+            assertThat(people.existsById(0L)).isFalse();
+        }
+    }
+
+    @Test
+    void pagesFollowTheWriteOrder() {
+        try (MappedReadOnlyUseCase<Person> people = open(write(PEOPLE))) {
+            Page<Person> first = people.findAll(PageRequest.of(0, 2));
+            Page<Person> second = people.findAll(PageRequest.of(1, 2));
+            Page<Person> last = people.findAll(PageRequest.of(2, 2));
+
+            assertThat(first.getContent()).containsExactlyElementsOf(PEOPLE.subList(0, 2));
+            assertThat(second.getContent()).containsExactlyElementsOf(PEOPLE.subList(2, 4));
+            assertThat(last.getContent()).containsExactlyElementsOf(PEOPLE.subList(4, 5));
+            assertThat(last.getTotalElements()).isEqualTo(5);
+            assertThat(people.findAll(PageRequest.of(3, 2)).getContent()).isEmpty();
+            assertThat(people.findAll()).containsExactlyElementsOf(PEOPLE);
+        }
+    }
+
+    @Test
+    void duplicateIdsLeaveTheTargetUnchanged() throws IOException {
+        Path file = write(PEOPLE);
+        byte[] original = Files.readAllBytes(file);
+        MappedEntityWriter<Person> writer = new MappedEntityWriter<>(file, CODEC, Person::id);
+        writer.append(new Person(1, "Ana"));
+        writer.append(new Person(1, "Eva"));
+
+        assertThatThrownBy(writer::close).isInstanceOfSatisfying(ServiceException.class,
+                ex -> assertThat(ex.getType()).isEqualTo(TypeException.VALIDATION));
+        assertThat(Files.readAllBytes(file)).isEqualTo(original);
+        assertThat(directory.resolve(file.getFileName() + ".tmp")).doesNotExist();
+    }
+
+    @Test
+    void rejectsTruncatedFilesAndUnknownSignatures() throws IOException {
+        byte[] content = Files.readAllBytes(write(PEOPLE));
+        Path truncated = Files.write(directory.resolve("truncated.bin"), Arrays.copyOf(content, content.length - 1));
+        Path header = Files.write(directory.resolve("header.bin"), Arrays.copyOf(content, 10));
+        byte[] corrupted = content.clone();
+        corrupted[0] ^= 0x7F;
+        Path signature = Files.write(directory.resolve("signature.bin"), corrupted);
+
+        for (Path file : List.of(truncated, header, signature)) {
+            assertThatThrownBy(() -> open(file)).isInstanceOfSatisfying(ServiceException.class,
+                    ex -> assertThat(ex.getType()).isEqualTo(TypeException.DATABASE));
+        }
+    }
+
+    @Test
+    void closeBlocksFurtherQueries() {
+        MappedReadOnlyUseCase<Person> people = open(write(PEOPLE));
+        people.close();
+
+        assertThatThrownBy(() -> people.findById(10L)).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(people::findAll).isInstanceOf(IllegalStateException.class);
+    }
+
+    private Path write(List<Person> entities) {
+        Path file = directory.resolve("people.bin");
+        try (MappedEntityWriter<Person> writer = new MappedEntityWriter<>(file, CODEC, Person::id)) {
+            entities.forEach(writer::append);
+        }
+        return file;
+    }
+
+    private static MappedReadOnlyUseCase<Person> open(Path file) {
+        return new MappedReadOnlyUseCase<>(file, CODEC);
+    }
+
+    private record Person(long id, String name) {
+    }
+
+}
@@ -0,0 +1,78 @@
+package com.victorrot.commons.core.usecases.resilience;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.victorrot.commons.core.usecases.memory.InMemoryCrudUseCase;
+import com.victorrot.commons.exceptions.ServiceException;
+import com.victorrot.commons.exceptions.TypeException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+class ResilientPersistenceOnlyUseCaseTests {
+
+    /** Número de invocaciones que fallan con un error de base de datos antes de responder. */
+    private final AtomicInteger failures = new AtomicInteger();
+
+    private final List<List<String>> received = new ArrayList<>();
+
+    private final InMemoryCrudUseCase<String, String> delegate = new InMemoryCrudUseCase<>(entity -> entity) {
+
+        @Override
+        public String create(String entity) {
+            received.add(List.of(entity));
+            failIfPending();
+            return super.create(entity);
+        }
+
+        @Override
+        public List<String> createAll(Iterable<String> entities) {
+            List<String> batch = new ArrayList<>();
+            entities.forEach(batch::add);
+            received.add(batch);
+            failIfPending();
+            return super.createAll(batch);
+        }
+
+        private void failIfPending() {
+            if (failures.getAndDecrement() > 0) {
+                throw new ServiceException(TypeException.DATABASE, "Conexión perdida");
+            }
+        }
+
+    };
+
+    private final ResilientPersistenceOnlyUseCase<String, String> resilient = new ResilientPersistenceOnlyUseCase<>(
+            delegate, new RetrySettings(3, Duration.ZERO, Duration.ZERO), RetryBudget.defaults());
+
+    @Test
+    void retriesCreateAllWithEveryEntityOfAOneShotIterable() {
+        failures.set(1);
+        Iterable<String> once = List.of("a", "b").stream()::iterator;
+
+        assertThat(resilient.createAll(once)).containsExactly("a", "b");
+
+        assertThat(received).containsExactly(List.of("a", "b"), List.of("a", "b"));
+    }
+
+    @Test
+    void doesNotRetryInsideAnActiveTransaction() {
+        failures.set(1);
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        try {
+            assertThatThrownBy(() -> resilient.create("a")).isInstanceOfSatisfying(ServiceException.class,
+                    ex -> assertThat(ex.getType()).isEqualTo(TypeException.DATABASE));
+        } finally {
+            TransactionSynchronizationManager.setActualTransactionActive(false);
+        }
+
+        assertThat(received).hasSize(1);
+        assertThat(resilient.create("a")).isEqualTo("a");
+        assertThat(received).hasSize(2);
+    }
+
+}
@@ -0,0 +1,114 @@
+package com.victorrot.commons.core.usecases.resilience;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.victorrot.commons.core.usecases.memory.InMemoryCrudUseCase;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+class ResilientReadOnlyUseCaseTests {
+
+    private static final int WARM_UP = 5;
+
+    /** Número de la invocación que tarda; 0 si ninguna tarda. */
+    private final AtomicInteger slowCall = new AtomicInteger();
+
+    private final AtomicInteger calls = new AtomicInteger();
+
+    private final Queue<String> observed = new ConcurrentLinkedQueue<>();
+
+    private final InMemoryCrudUseCase<String, String> delegate = new InMemoryCrudUseCase<>(entity -> entity) {
+
+        @Override
+        public Optional<String> findById(String id) {
+            int call = calls.incrementAndGet();
+            observed.add(Thread.currentThread().getName() + "|" + MDC.get("requestId"));
+            if (call == slowCall.get()) {
+                try {
+                    Thread.sleep(TimeUnit.SECONDS.toMillis(2));
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return super.findById(id);
+        }
+
+    };
+
+    private final ResilientReadOnlyUseCase<String, String> resilient = new ResilientReadOnlyUseCase<>(delegate,
+            RetrySettings.defaults(), RetryBudget.defaults(), new HedgeSettings(50, Duration.ofMillis(20), WARM_UP));
+
+    @AfterEach
+    void close() {
+        resilient.close();
+        MDC.clear();
+    }
+
+    @Test
+    void computesTheHedgeDelayAfterWarmUp() {
+        delegate.create("a");
+        assertThat(resilient.getHedgeDelayNanos()).isNegative();
+
+        warmUp();
+
+        assertThat(resilient.getHedgeDelayNanos()).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(20));
+    }
+
+    @Test
+    void hedgedRequestAnswersWhenThePrimaryIsSlow() {
+        delegate.create("a");
+        warmUp();
+        slowCall.set(calls.get() + 1);
+
+        long start = System.nanoTime();
+        Optional<String> result = resilient.findById("a");
+
+        assertThat(result).contains("a");
+        assertThat(System.nanoTime() - start).isLessThan(TimeUnit.SECONDS.toNanos(1));
+        assertThat(calls).hasValue(WARM_UP + 2);
+    }
+
+    @Test
+    void hedgedAttemptsSeeTheCallerMdc() {
+        delegate.create("a");
+        warmUp();
+        observed.clear();
+        MDC.put("requestId", "r-1");
+
+        resilient.findById("a");
+
+        assertThat(observed).singleElement().satisfies(entry -> assertThat(entry).endsWith("|r-1"));
+    }
+
+    @Test
+    void runsOnTheCallerThreadWithoutHedgingInsideATransaction() {
+        delegate.create("a");
+        warmUp();
+        observed.clear();
+        slowCall.set(calls.get() + 1);
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            assertThat(resilient.findById("a")).contains("a");
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertThat(observed).singleElement()
+                .satisfies(entry -> assertThat(entry).startsWith(Thread.currentThread().getName() + "|"));
+    }
+
+    private void warmUp() {
+        for (int i = 0; i < WARM_UP; i++) {
+            resilient.findById("a");
+        }
+    }
+
+}
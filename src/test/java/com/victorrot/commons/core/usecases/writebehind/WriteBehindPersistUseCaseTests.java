@@ -0,0 +1,132 @@
+package com.victorrot.commons.core.usecases.writebehind;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.victorrot.commons.core.usecases.persist.PersistenceOnlyUseCase;
+import com.victorrot.commons.exceptions.ServiceException;
+import com.victorrot.commons.exceptions.TypeException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class WriteBehindPersistUseCaseTests {
+
+    private final Queue<List<Integer>> batches = new ConcurrentLinkedQueue<>();
+
+    private final PersistenceOnlyUseCase<Integer, Integer> delegate = new PersistenceOnlyUseCase<>() {
+
+        @Override
+        public Integer create(Integer entity) {
+            batches.add(List.of(entity));
+            return entity;
+        }
+
+        @Override
+        public List<Integer> createAll(Iterable<Integer> entities) {
+            List<Integer> batch = new ArrayList<>();
+            entities.forEach(batch::add);
+            batches.add(batch);
+            return batch;
+        }
+
+    };
+
+    @Test
+    void closeWritesPendingEntitiesAndRejectsNewOnes() {
+        WriteBehindPersistUseCase<Integer, Integer> writeBehind = new WriteBehindPersistUseCase<>(delegate,
+                new WriteBehindSettings(100, 10, Duration.ofHours(1), Duration.ofSeconds(1)));
+        for (int i = 0; i < 25; i++) {
+            writeBehind.create(i);
+        }
+
+        writeBehind.close();
+
+        assertThat(written()).hasSize(25).doesNotHaveDuplicates();
+        assertThat(batches).allSatisfy(batch -> assertThat(batch).hasSizeLessThanOrEqualTo(10));
+        assertThat(writeBehind.pendingCount()).isZero();
+        assertThatThrownBy(() -> writeBehind.create(99)).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void flushesWhenMaxLagExpires() throws InterruptedException {
+        try (WriteBehindPersistUseCase<Integer, Integer> writeBehind = new WriteBehindPersistUseCase<>(delegate,
+                new WriteBehindSettings(100, 10, Duration.ofMillis(20), Duration.ofSeconds(1)))) {
+            writeBehind.create(1);
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (batches.isEmpty() && System.nanoTime() < deadline) {
+                Thread.sleep(5);
+            }
+            assertThat(written()).containsExactly(1);
+        }
+    }
+
+    @Test
+    void everyAcceptedEntityIsWrittenWhenCloseRacesWithCreate() throws InterruptedException {
+        for (int round = 0; round < 20; round++) {
+            batches.clear();
+            WriteBehindPersistUseCase<Integer, Integer> writeBehind = new WriteBehindPersistUseCase<>(delegate,
+                    new WriteBehindSettings(4, 2, Duration.ofHours(1), Duration.ofSeconds(5)));
+            Queue<Integer> accepted = new ConcurrentLinkedQueue<>();
+            CountDownLatch started = new CountDownLatch(4);
+            List<Thread> producers = new ArrayList<>();
+            for (int p = 0; p < 4; p++) {
+                int base = p * 1_000;
+                producers.add(Thread.ofPlatform().start(() -> {
+                    started.countDown();
+                    for (int i = base; i < base + 1_000; i++) {
+                        try {
+                            accepted.add(writeBehind.create(i));
+                        } catch (IllegalStateException ex) {
+                            return;
+                        }
+                    }
+                }));
+            }
+            started.await();
+            writeBehind.close();
+            for (Thread producer : producers) {
+                producer.join();
+            }
+
+            assertThat(written()).containsExactlyInAnyOrderElementsOf(accepted);
+        }
+    }
+
+    @Test
+    void notifiesFailedBatchesAsDatabaseErrors() {
+        Queue<ServiceException> failures = new ConcurrentLinkedQueue<>();
+        PersistenceOnlyUseCase<Integer, Integer> failing = new PersistenceOnlyUseCase<>() {
+
+            @Override
+            public Integer create(Integer entity) {
+                throw new IllegalStateException("fallo");
+            }
+
+            @Override
+            public List<Integer> createAll(Iterable<Integer> entities) {
+                throw new IllegalStateException("fallo");
+            }
+
+        };
+        WriteBehindPersistUseCase<Integer, Integer> writeBehind = new WriteBehindPersistUseCase<>(failing,
+                new WriteBehindSettings(10, 5, Duration.ofHours(1), Duration.ofSeconds(1)),
+                (batch, ex) -> failures.add(ex));
+        writeBehind.create(1);
+
+        writeBehind.close();
+
+        assertThat(failures).singleElement()
+                .satisfies(ex -> assertThat(ex.getType()).isEqualTo(TypeException.DATABASE));
+    }
+
+    private List<Integer> written() {
+        return batches.stream().flatMap(List::stream).toList();
+    }
+
+}
@@ -0,0 +1,45 @@
+package com.victorrot.commons.exceptions;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import org.junit.jupiter.api.Test;
+
+class MessageTemplatesTests {
+
+    private static final Object BROKEN = new Object() {
+        @Override
+        public String toString() {
+            throw new IllegalStateException("could not initialize proxy - no Session");
+        }
+    };
+
+    @Test
+    void formatsPlaceholdersInOrder() {
+        ServiceException ex = new ServiceException(TypeException.DATABASE, "Entidad {} de la tabla {}", "A", "people");
+
+        assertThat(ex.getMessage()).isEqualTo("Entidad A de la tabla people");
+    }
+
+    @Test
+    void keepsPlaceholdersWithoutParameters() {
+        assertThat(MessageTemplates.format("{} y {}", new Object[] {"uno"})).isEqualTo("uno y {}");
+    }
+
+    @Test
+    void substitutesArgumentWhoseToStringFails() {
+        ServiceException ex = new ServiceException(TypeException.DATABASE, "Error con {} en {}", BROKEN, "people");
+
+        assertThat(ex.getMessage())
+                .startsWith("Error con [toString falló: ")
+                .endsWith("] en people");
+    }
+
+    @Test
+    void substitutesArgumentWhoseToStringFailsInMessageFormatPath() {
+        String message = MessageTemplates.format("Valor {} de {}", new Object[] {new BigDecimal("1.5"), BROKEN});
+
+        assertThat(message).startsWith("Valor 1").contains("de [toString falló: ");
+    }
+
+}